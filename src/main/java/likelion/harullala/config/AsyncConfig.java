@@ -1,11 +1,13 @@
 package likelion.harullala.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리 설정
@@ -24,5 +26,60 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
 
+    /**
+     * 오래 걸리는 백그라운드 작업 전용 스레드 풀
+     * (암호문 마이그레이션, 재암호화, 친구 피드 타임라인, 월간 리포트 배치, 히트맵 보정)
+     * 작업이 몇 분 이상 스레드를 점유하므로 @Async 등이 쓰는 taskExecutor와 분리해 서로 밀리지 않게 함
+     * 스레드 수보다 많은 작업은 큐에서 차례를 기다림
+     */
+    @Bean(name = "jobExecutor")
+    public Executor jobExecutor(
+            @Value("${job.executor.threads:2}") int threads,
+            @Value("${job.executor.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("job-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * OpenAI 호출 전용 스레드 풀
+     * 요청 스레드(Tomcat)는 AI 응답을 기다리지 않고 반환되고, 응답은 이 풀에서 기다림
+     * 큐가 가득 차면 거절 → ChatGptClient가 AiCallException으로 완료 (호출부에서 기본 멘트로 대체)
+     */
+    @Bean(name = "aiExecutor")
+    public Executor aiExecutor(
+            @Value("${openai.api.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${openai.api.executor-queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentCalls);
+        executor.setMaxPoolSize(maxConcurrentCalls);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 감정 기록 일괄 복호화 전용 스레드 풀 (CPU 작업)
+     * 스레드 수는 코어 수 기준으로 제한하고, 큐가 가득 차면 요청 스레드가 직접 처리
+     */
+    @Bean(name = "cryptoExecutor")
+    public Executor cryptoExecutor(
+            @Value("${encryption.parallel.threads:0}") int threads,
+            @Value("${encryption.parallel.queue-capacity:1000}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("crypto-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,66 @@
+package likelion.harullala.config;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * OpenAI 호출용 HTTP 클라이언트 설정
+ * - 커넥션 풀 + keep-alive 재사용 (서버가 알려준 유지 시간을 따르되 keep-alive 설정값 이하로 제한)
+ * - keep-alive 설정값보다 오래 쉬고 있는 커넥션은 백그라운드에서 정리
+ * - 연결/응답 타임아웃으로 멈춘 호출이 요청 스레드를 붙잡지 않도록 제한
+ */
+@Configuration
+public class ChatGptClientConfig {
+
+    @Bean
+    public RestTemplate chatGptRestTemplate(
+            @Value("${openai.api.max-connections:50}") int maxConnections,
+            @Value("${openai.api.connect-timeout:3s}") Duration connectTimeout,
+            @Value("${openai.api.read-timeout:20s}") Duration readTimeout,
+            @Value("${openai.api.keep-alive:30s}") Duration keepAlive) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // OpenAI 단일 호스트만 호출
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .build();
+
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(keepAlive.toMillis());
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    // 서버 Keep-Alive 헤더 값 (없으면 기본값)을 maxKeepAlive 이하로 제한
+                    TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(serverKeepAlive) && serverKeepAlive.compareTo(maxKeepAlive) < 0
+                            ? serverKeepAlive
+                            : maxKeepAlive;
+                })
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis())) // 풀에서 커넥션 대기
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(maxKeepAlive)
+                .build();
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+}
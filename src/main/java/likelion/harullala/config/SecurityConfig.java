@@ -1,5 +1,6 @@
 package likelion.harullala.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -40,6 +41,8 @@ public class SecurityConfig {
                                 "/api/v1/auth/logout",
                                 "/health", "/callback/**", "/kakao-test.html"
                         ).permitAll()
+                        // 비동기 응답(CompletableFuture) 재디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 );
 
@@ -0,0 +1,52 @@
+package likelion.harullala.controller;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 GET 응답 (ETag + 캐시 정책)
+ * 요청의 If-None-Match가 현재 ETag와 같으면 본문을 만들지 않고 304 반환
+ */
+final class ConditionalResponses {
+
+    // 조건부 GET 응답은 매번 ETag로 재검증 (사용자별 응답이므로 공유 캐시 저장 금지)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * ETag가 같으면 304, 다르면 본문을 만들어 200 반환
+     */
+    static <T> ResponseEntity<T> conditional(WebRequest webRequest, String etag, Supplier<T> body) {
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        return ok(etag, body.get());
+    }
+
+    /**
+     * 304 응답 (본문 없음)
+     */
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * 200 응답 (다음 요청에서 재검증할 ETag 포함)
+     */
+    static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag).cacheControl(REVALIDATE).body(body);
+    }
+
+    /**
+     * 200 응답 (저장/재검증 없이 매번 새로 조회, 임시로 대체된 응답 등)
+     */
+    static <T> ResponseEntity<T> noStore(T body) {
+        return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noStore()).body(body);
+    }
+}
@@ -2,6 +2,7 @@ package likelion.harullala.controller;
 
 import jakarta.validation.Valid;
 import likelion.harullala.dto.ApiResponse;
+import likelion.harullala.dto.CursorPageResponse;
 import likelion.harullala.dto.EmotionCreateRequest;
 import likelion.harullala.dto.EmotionDeleteResponse;
 import likelion.harullala.dto.EmotionListResponse;
@@ -16,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -56,19 +58,42 @@ public class EmotionRecordController {
     public ResponseEntity<ApiResponse<List<EmotionListResponse>>> getEmotionRecordList(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestHeader("Authorization") String authorizationHeader
+            @RequestHeader("Authorization") String authorizationHeader,
+            WebRequest webRequest
     ) {
         Long userId = getCurrentUserId();
 
-        List<EmotionListResponse> response = emotionRecordService.getEmotionRecordList(userId, page, size);
+        // 기록이 바뀌지 않았으면 목록 조회/복호화 없이 304 반환
+        String etag = emotionRecordService.getDataVersionEtag(userId);
+        return ConditionalResponses.conditional(webRequest, etag, () -> ApiResponse.success(
+                200,
+                "감정기록 목록 조회 성공",
+                emotionRecordService.getEmotionRecordList(userId, page, size)
+        ));
+    }
 
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(ApiResponse.success(
-                        200,
-                        "감정기록 목록 조회 성공",
-                        response
-                ));
+    /**
+     * 감정기록 목록 커서 조회 API (무한 스크롤)
+     * GET /api/v1/emotion/cursor?cursor=...&size=20
+     * 첫 페이지는 cursor 생략, 다음 페이지는 이전 응답의 next_cursor 전달
+     * size는 1 ~ 100 (벗어나거나 잘못된 cursor면 400)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<EmotionListResponse>>> getEmotionRecordSlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader("Authorization") String authorizationHeader,
+            WebRequest webRequest
+    ) {
+        Long userId = getCurrentUserId();
+
+        // 기록이 바뀌지 않았으면 목록 조회/복호화 없이 304 반환
+        String etag = emotionRecordService.getDataVersionEtag(userId);
+        return ConditionalResponses.conditional(webRequest, etag, () -> ApiResponse.success(
+                200,
+                "감정기록 목록 조회 성공",
+                emotionRecordService.getEmotionRecordSlice(userId, cursor, size)
+        ));
     }
 
     /**
@@ -91,6 +116,27 @@ public class EmotionRecordController {
                 ));
     }
 
+    /**
+     * 공유된 감정기록 목록 커서 조회 API (무한 스크롤)
+     * GET /api/v1/emotion/shared/cursor?cursor=...&size=20
+     * size는 1 ~ 100 (벗어나거나 잘못된 cursor면 400)
+     */
+    @GetMapping("/shared/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<EmotionListResponse>>> getSharedEmotionRecordSlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageResponse<EmotionListResponse> response = emotionRecordService.getSharedEmotionRecordSlice(cursor, size);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.success(
+                        200,
+                        "공유된 감정기록 목록 조회 성공",
+                        response
+                ));
+    }
+
     /**
      * 감정기록 단일 조회 API
      * GET /api/v1/emotion/{recordId}
@@ -1,17 +1,26 @@
 package likelion.harullala.controller;
 
 import likelion.harullala.dto.ApiResponse;
+import likelion.harullala.dto.EmotionHeatmapResponse;
 import likelion.harullala.dto.EmotionReportCharacterMessageResponse;
 import likelion.harullala.dto.EmotionReportComparisonResponse;
 import likelion.harullala.dto.EmotionReportTopEmotionsResponse;
 import likelion.harullala.dto.EmotionReportTimePatternResponse;
+import likelion.harullala.dto.EmotionReportTrendResponse;
+import likelion.harullala.dto.MonthlyReportResponse;
+import likelion.harullala.service.EmotionHeatmapService;
+import likelion.harullala.service.EmotionRecordService;
 import likelion.harullala.service.EmotionReportService;
+import likelion.harullala.service.MonthlyReportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 감정 리포트 컨트롤러
@@ -23,6 +32,9 @@ import org.springframework.web.bind.annotation.*;
 public class EmotionReportController {
 
     private final EmotionReportService emotionReportService;
+    private final EmotionRecordService emotionRecordService;
+    private final MonthlyReportService monthlyReportService;
+    private final EmotionHeatmapService emotionHeatmapService;
 
     /**
      * 저번 달과 이번 달 감정 상태 비교 API
@@ -40,20 +52,18 @@ public class EmotionReportController {
     @GetMapping("/comparison")
     public ResponseEntity<ApiResponse<EmotionReportComparisonResponse>> getMonthlyComparison(
             @RequestParam(required = false) String month,
-            @RequestHeader("Authorization") String authorizationHeader
+            @RequestHeader("Authorization") String authorizationHeader,
+            WebRequest webRequest
     ) {
         Long userId = getCurrentUserId();
 
-        EmotionReportComparisonResponse response = 
-                emotionReportService.compareMonthlyEmotions(userId, month);
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(ApiResponse.success(
-                        200,
-                        "월별 감정 상태 비교 조회 성공",
-                        response
-                ));
+        // 기록이 바뀌지 않았으면 집계 없이 304 반환
+        String etag = emotionRecordService.getDataVersionEtag(userId);
+        return ConditionalResponses.conditional(webRequest, etag, () -> ApiResponse.success(
+                200,
+                "월별 감정 상태 비교 조회 성공",
+                emotionReportService.compareMonthlyEmotions(userId, month)
+        ));
     }
 
     /**
@@ -71,20 +81,18 @@ public class EmotionReportController {
     @GetMapping("/top-emotions")
     public ResponseEntity<ApiResponse<EmotionReportTopEmotionsResponse>> getTopEmotions(
             @RequestParam(required = false) String month,
-            @RequestHeader("Authorization") String authorizationHeader
+            @RequestHeader("Authorization") String authorizationHeader,
+            WebRequest webRequest
     ) {
         Long userId = getCurrentUserId();
 
-        EmotionReportTopEmotionsResponse response = 
-                emotionReportService.getTopEmotions(userId, month);
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(ApiResponse.success(
-                        200,
-                        "가장 많았던 감정 통계 조회 성공",
-                        response
-                ));
+        // 기록이 바뀌지 않았으면 집계 없이 304 반환
+        String etag = emotionRecordService.getDataVersionEtag(userId);
+        return ConditionalResponses.conditional(webRequest, etag, () -> ApiResponse.success(
+                200,
+                "가장 많았던 감정 통계 조회 성공",
+                emotionReportService.getTopEmotions(userId, month)
+        ));
     }
 
     /**
@@ -99,28 +107,31 @@ public class EmotionReportController {
     @GetMapping("/summary")
     public ResponseEntity<ApiResponse<ReportSummary>> getReportSummary(
             @RequestParam(required = false) String month,
-            @RequestHeader("Authorization") String authorizationHeader
+            @RequestHeader("Authorization") String authorizationHeader,
+            WebRequest webRequest
     ) {
         Long userId = getCurrentUserId();
 
-        // 비교 데이터 가져오기
-        EmotionReportComparisonResponse comparisonData = 
-                emotionReportService.compareMonthlyEmotions(userId, month);
+        // 기록이 바뀌지 않았으면 집계 없이 304 반환
+        String etag = emotionRecordService.getDataVersionEtag(userId);
+        return ConditionalResponses.conditional(webRequest, etag, () -> {
+            // 비교 데이터 가져오기
+            EmotionReportComparisonResponse comparisonData = 
+                    emotionReportService.compareMonthlyEmotions(userId, month);
 
-        // 통계 데이터 가져오기
-        EmotionReportTopEmotionsResponse topEmotionsData = 
-                emotionReportService.getTopEmotions(userId, month);
+            // 통계 데이터 가져오기
+            EmotionReportTopEmotionsResponse topEmotionsData = 
+                    emotionReportService.getTopEmotions(userId, month);
 
-        // 요약 데이터 구성
-        ReportSummary summary = new ReportSummary(comparisonData, topEmotionsData);
+            // 요약 데이터 구성
+            ReportSummary summary = new ReportSummary(comparisonData, topEmotionsData);
 
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(ApiResponse.success(
-                        200,
-                        "리포트 요약 조회 성공",
-                        summary
-                ));
+            return ApiResponse.success(
+                    200,
+                    "리포트 요약 조회 성공",
+                    summary
+            );
+        });
     }
 
     /**
@@ -138,20 +149,75 @@ public class EmotionReportController {
     @GetMapping("/time-pattern")
     public ResponseEntity<ApiResponse<EmotionReportTimePatternResponse>> getTimePattern(
             @RequestParam(required = false) String month,
-            @RequestHeader("Authorization") String authorizationHeader
+            @RequestHeader("Authorization") String authorizationHeader,
+            WebRequest webRequest
     ) {
         Long userId = getCurrentUserId();
 
-        EmotionReportTimePatternResponse response = 
-                emotionReportService.getTimePattern(userId, month);
+        // 기록이 바뀌지 않았으면 집계 없이 304 반환
+        String etag = emotionRecordService.getDataVersionEtag(userId);
+        return ConditionalResponses.conditional(webRequest, etag, () -> ApiResponse.success(
+                200,
+                "시간대별 감정 패턴 조회 성공",
+                emotionReportService.getTimePattern(userId, month)
+        ));
+    }
+
+    /**
+     * 감정 추이 API
+     * GET /api/v1/emotion/report/trend?months=6&month=2024-01
+     * 
+     * 화면: 최근 6개월 / 1년 감정 추이
+     * - 월별 평균 좌표, 대표 감정, 기록 수를 오래된 달부터 반환
+     * 
+     * @param months 조회할 개월 수 (6 또는 12, 기본 6)
+     * @param month 마지막 월 (yyyy-MM 형식, 생략 시 현재 월)
+     * @param authorizationHeader JWT 토큰
+     * @return 월별 감정 추이
+     */
+    @GetMapping("/trend")
+    public ResponseEntity<ApiResponse<EmotionReportTrendResponse>> getTrend(
+            @RequestParam(defaultValue = "6") int months,
+            @RequestParam(required = false) String month,
+            @RequestHeader("Authorization") String authorizationHeader,
+            WebRequest webRequest
+    ) {
+        Long userId = getCurrentUserId();
 
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(ApiResponse.success(
-                        200,
-                        "시간대별 감정 패턴 조회 성공",
-                        response
-                ));
+        // 기록이 바뀌지 않았으면 집계 없이 304 반환
+        String etag = emotionRecordService.getDataVersionEtag(userId);
+        return ConditionalResponses.conditional(webRequest, etag, () -> ApiResponse.success(
+                200,
+                "감정 추이 조회 성공",
+                emotionReportService.getTrend(userId, month, months)
+        ));
+    }
+
+    /**
+     * 요일 x 시간 감정 히트맵 API
+     * GET /api/v1/emotion/report/heatmap
+     * 
+     * 화면: 요일/시간별 감정 히트맵
+     * - 7(월 ~ 일) x 24(0 ~ 23시) 칸별 기록 수와 평균 좌표
+     * - 전체 기간 기준 (기록 작성/수정/삭제 시 함께 갱신된 값을 바로 반환)
+     * 
+     * @param authorizationHeader JWT 토큰
+     * @return 요일 x 시간 히트맵
+     */
+    @GetMapping("/heatmap")
+    public ResponseEntity<ApiResponse<EmotionHeatmapResponse>> getHeatmap(
+            @RequestHeader("Authorization") String authorizationHeader,
+            WebRequest webRequest
+    ) {
+        Long userId = getCurrentUserId();
+
+        // 기록이 바뀌지 않았으면 조회 없이 304 반환
+        String etag = emotionRecordService.getDataVersionEtag(userId);
+        return ConditionalResponses.conditional(webRequest, etag, () -> ApiResponse.success(
+                200,
+                "요일/시간별 감정 히트맵 조회 성공",
+                emotionHeatmapService.getHeatmap(userId)
+        ));
     }
 
     /**
@@ -166,22 +232,63 @@ public class EmotionReportController {
      * @return 캐릭터 멘트
      */
     @PostMapping("/character-message")
-    public ResponseEntity<ApiResponse<EmotionReportCharacterMessageResponse>> generateCharacterMessage(
+    public CompletableFuture<ResponseEntity<ApiResponse<EmotionReportCharacterMessageResponse>>> generateCharacterMessage(
             @RequestParam(required = false) String month,
             @RequestHeader("Authorization") String authorizationHeader
     ) {
         Long userId = getCurrentUserId();
 
-        EmotionReportCharacterMessageResponse response = 
-                emotionReportService.generateCharacterMessage(userId, month);
+        return emotionReportService.generateCharacterMessage(userId, month)
+                .thenApply(response -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body(ApiResponse.success(
+                                200,
+                                "캐릭터 멘트 생성 성공",
+                                response
+                        )));
+    }
+
+    /**
+     * 월간 리포트 전체 조회 API
+     * GET /api/v1/emotion/report/monthly?month=2024-01
+     * 
+     * 화면: 월간 리포트
+     * - 지난달 리포트는 월초 배치가 미리 생성해 둔 결과를 바로 반환
+     * - 미리 생성된 리포트가 없거나 그 사이 기록이 바뀌었으면 새로 생성
+     * 
+     * @param month 대상 월 (yyyy-MM 형식, 생략 시 지난달)
+     * @param authorizationHeader JWT 토큰
+     * @return 월간 리포트 (비교 + 감정 통계 + 시간대 패턴 + 캐릭터 멘트)
+     */
+    @GetMapping("/monthly")
+    public CompletableFuture<ResponseEntity<ApiResponse<MonthlyReportResponse>>> getMonthlyReport(
+            @RequestParam(required = false) String month,
+            @RequestHeader("Authorization") String authorizationHeader,
+            WebRequest webRequest
+    ) {
+        Long userId = getCurrentUserId();
+
+        // 기록과 선택한 캐릭터가 바뀌지 않았으면 집계 없이 304 반환 (캐릭터 멘트는 캐릭터마다 다름)
+        String etag = emotionRecordService.getDataVersionEtag(
+                userId, "c" + emotionReportService.getSelectedCharacterId(userId));
+        if (webRequest.checkNotModified(etag)) {
+            return CompletableFuture.completedFuture(ConditionalResponses.notModified(etag));
+        }
 
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(ApiResponse.success(
-                        200,
-                        "캐릭터 멘트 생성 성공",
-                        response
-                ));
+        return monthlyReportService.getMonthlyReport(userId, month)
+                .thenApply(response -> {
+                    // 캐릭터 멘트가 기본 멘트로 대체된 응답은 ETag 없이 반환 (다음 조회 때 다시 생성되도록 재검증 대상에서 제외)
+                    boolean fallback = response.getCharacter_message() != null
+                            && response.getCharacter_message().isFallback();
+                    ApiResponse<MonthlyReportResponse> body = ApiResponse.success(
+                            200,
+                            "월간 리포트 조회 성공",
+                            response
+                    );
+                    return fallback
+                            ? ConditionalResponses.noStore(body)
+                            : ConditionalResponses.ok(etag, body);
+                });
     }
 
     /**
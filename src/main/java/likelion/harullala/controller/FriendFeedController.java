@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 import jakarta.validation.Valid;
 import likelion.harullala.config.security.CustomUserDetails;
 import likelion.harullala.dto.ApiSuccess;
+import likelion.harullala.dto.CursorPageResponse;
 import likelion.harullala.dto.FriendFeedResponse;
 import likelion.harullala.dto.MarkFeedReadRequest;
 import likelion.harullala.service.FriendFeedService;
@@ -41,6 +42,23 @@ public class FriendFeedController {
         return ApiSuccess.of(feeds, "친구 피드 조회 성공");
     }
 
+    /**
+     * 친구들의 공유된 피드 커서 조회 (오늘 00시 이후, 무한 스크롤)
+     * 첫 페이지는 cursor 생략, 다음 페이지는 이전 응답의 next_cursor 전달
+     * size는 1 ~ 100 (벗어나거나 잘못된 cursor면 400)
+     */
+    @GetMapping("/cursor")
+    public ApiSuccess<CursorPageResponse<FriendFeedResponse>> getFriendFeedSlice(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Long userId = userDetails.getUser().getId();
+        CursorPageResponse<FriendFeedResponse> feeds = friendFeedService.getFriendFeedSlice(userId, cursor, size);
+
+        return ApiSuccess.of(feeds, "친구 피드 조회 성공");
+    }
+
     /**
      * 친구 피드 상세 조회 (권한 검사 포함)
      */
@@ -1,5 +1,7 @@
 package likelion.harullala.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,9 +31,10 @@ public class GreetingController {
      * GET /api/v1/greeting?context=home
      * GET /api/v1/greeting?context=friend-invite
      * GET /api/v1/greeting?context=friend-reminder
+     * AI 응답을 기다리는 동안 요청 스레드를 반환 (비동기 응답)
      */
     @GetMapping("/greeting")
-    public ResponseEntity<ApiSuccess<GreetingResponse>> getGreeting(
+    public CompletableFuture<ResponseEntity<ApiSuccess<GreetingResponse>>> getGreeting(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam String context) {
         
@@ -40,11 +43,10 @@ public class GreetingController {
         // String을 GreetingContext로 변환 (유효하지 않으면 예외 발생)
         GreetingContext greetingContext = GreetingContext.fromValue(context);
         
-        GreetingResponse response = greetingService.generateGreeting(userId, greetingContext);
-        
-        return ResponseEntity.ok(
-            ApiSuccess.of(response, greetingContext.getDescription() + " 인사말을 생성했습니다.")
-        );
+        return greetingService.generateGreeting(userId, greetingContext)
+                .thenApply(response -> ResponseEntity.ok(
+                    ApiSuccess.of(response, greetingContext.getDescription() + " 인사말을 생성했습니다.")
+                ));
     }
 }
 
@@ -50,6 +50,24 @@ public class NotificationController {
         return ResponseEntity.ok(ApiSuccess.of(response, "알림 목록을 조회했습니다."));
     }
 
+    /**
+     * 알림 목록 커서 조회 (무한 스크롤 + 날짜 필터)
+     * GET /api/v1/notifications/cursor?cursor=...&size=20&days=7
+     * 첫 페이지는 cursor 생략, 다음 페이지는 이전 응답의 next_cursor 전달
+     * size는 1 ~ 100 (벗어나거나 잘못된 cursor면 400)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiSuccess<CursorPageResponse<NotificationResponse>>> getNotificationSlice(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Integer days) {
+        Long userId = userDetails.getUser().getId();
+        CursorPageResponse<NotificationResponse> response = notificationService.getNotificationSlice(userId, cursor, size, days);
+
+        return ResponseEntity.ok(ApiSuccess.of(response, "알림 목록을 조회했습니다."));
+    }
+
     /**
      * 안읽은 알림 개수 조회
      * GET /api/v1/notifications/unread-count
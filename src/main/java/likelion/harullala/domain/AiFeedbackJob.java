@@ -0,0 +1,133 @@
+package likelion.harullala.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 피드백 생성 작업
+ * 서버 재시작/배포 후에도 대기 중인 작업이 유지되도록 DB에 저장
+ * 감정 기록 원문은 저장하지 않고 처리 시점에 다시 조회
+ */
+@Entity
+@Table(name = "ai_feedback_job",
+        indexes = {
+                @Index(name = "idx_ai_feedback_job_status_run_at", columnList = "status, run_at"),
+                @Index(name = "idx_ai_feedback_job_user", columnList = "user_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AiFeedbackJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "record_id", nullable = false)
+    private Long recordId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "character_id")
+    private Long characterId; // 요청 시점의 캐릭터 ID
+
+    @Column(name = "attempts_used", nullable = false)
+    private Integer attemptsUsed; // 이 작업으로 저장될 피드백 생성 횟수
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private AiFeedbackJobStatus status = AiFeedbackJobStatus.PENDING;
+
+    @Column(name = "run_at", nullable = false)
+    private LocalDateTime runAt; // 이 시각 이후 처리
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy; // 처리 중인 인스턴스
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil; // 점유 만료 시각 (지나면 다른 인스턴스가 가져감)
+
+    @Column(name = "retry_count", nullable = false)
+    @Builder.Default
+    private Integer retryCount = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 작업 점유 (lockedUntil까지 다른 인스턴스가 가져가지 않음)
+     */
+    public void claim(String workerId, LocalDateTime lockedUntil) {
+        this.status = AiFeedbackJobStatus.RUNNING;
+        this.lockedBy = workerId;
+        this.lockedUntil = lockedUntil;
+    }
+
+    /**
+     * 재시도 예약
+     */
+    public void retryAt(LocalDateTime runAt, String error) {
+        this.status = AiFeedbackJobStatus.PENDING;
+        this.retryCount = retryCount + 1;
+        this.runAt = runAt;
+        this.lockedBy = null;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 최종 실패 처리
+     */
+    public void fail(String error) {
+        this.status = AiFeedbackJobStatus.FAILED;
+        this.retryCount = retryCount + 1;
+        this.lockedBy = null;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,10 @@
+package likelion.harullala.domain;
+
+/**
+ * AI 피드백 작업 상태
+ */
+public enum AiFeedbackJobStatus {
+    PENDING,    // 대기중 (runAt 이후 처리 대상)
+    RUNNING,    // 처리중 (lockedUntil까지 한 인스턴스가 점유)
+    FAILED      // 실패 (재시도 횟수 초과)
+}
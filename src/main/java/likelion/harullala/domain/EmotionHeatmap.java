@@ -0,0 +1,132 @@
+package likelion.harullala.domain;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 요일 x 시간(7x24) 감정 히트맵
+ * 칸마다 기록 수와 감정 좌표 합계를 고정 크기 배열로 두고, 한 행의 BLOB으로 저장
+ * 감정 기록 작성/수정/삭제 시 함께 갱신되어 조회 시 원본 기록을 읽지 않음
+ *
+ * BLOB 형식: [버전 1바이트][기록 수 int x 168][X 합계 double x 168][Y 합계 double x 168]
+ * 칸 번호 = 요일(월=0 ~ 일=6) * 24 + 시
+ */
+@Entity
+@Table(name = "emotion_heatmap")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmotionHeatmap {
+
+    public static final int DAYS = 7;
+    public static final int HOURS = 24;
+    public static final int CELLS = DAYS * HOURS;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int ENCODED_SIZE = 1 + CELLS * (Integer.BYTES + Double.BYTES * 2);
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "cells", nullable = false, columnDefinition = "BLOB")
+    private byte[] cells;
+
+    @Column(name = "record_count", nullable = false)
+    private Long recordCount; // 반영된 전체 기록 수 (원본과 다르면 다시 계산)
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 기록 1건 반영
+     */
+    public void add(int cell, double x, double y) {
+        apply(cell, 1, x, y);
+    }
+
+    /**
+     * 기록 1건 제거
+     */
+    public void remove(int cell, double x, double y) {
+        apply(cell, -1, x, y);
+    }
+
+    private void apply(int cell, int delta, double x, double y) {
+        Counters counters = Counters.decode(cells);
+        counters.counts[cell] += delta;
+        counters.sumX[cell] += delta * x;
+        counters.sumY[cell] += delta * y;
+        this.cells = counters.encode(); // 새 배열로 교체해야 변경 감지됨
+        this.recordCount += delta;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 칸 번호 (요일: 월=0 ~ 일=6)
+     */
+    public static int cellOf(LocalDateTime createdAt) {
+        return (createdAt.getDayOfWeek().getValue() - 1) * HOURS + createdAt.getHour();
+    }
+
+    public Counters counters() {
+        return Counters.decode(cells);
+    }
+
+    /**
+     * 히트맵 칸별 누적값 (기록 수, 좌표 합계)
+     */
+    public static final class Counters {
+        public final int[] counts = new int[CELLS];
+        public final double[] sumX = new double[CELLS];
+        public final double[] sumY = new double[CELLS];
+
+        public long total() {
+            long total = 0;
+            for (int count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        public byte[] encode() {
+            ByteBuffer buffer = ByteBuffer.allocate(ENCODED_SIZE);
+            buffer.put(FORMAT_VERSION);
+            for (int count : counts) {
+                buffer.putInt(count);
+            }
+            for (double x : sumX) {
+                buffer.putDouble(x);
+            }
+            for (double y : sumY) {
+                buffer.putDouble(y);
+            }
+            return buffer.array();
+        }
+
+        public static Counters decode(byte[] encoded) {
+            Counters counters = new Counters();
+            if (encoded == null || encoded.length != ENCODED_SIZE || encoded[0] != FORMAT_VERSION) {
+                return counters; // 알 수 없는 형식은 빈 값 (기록 수 불일치로 다시 계산됨)
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(encoded, 1, encoded.length - 1);
+            for (int i = 0; i < CELLS; i++) {
+                counters.counts[i] = buffer.getInt();
+            }
+            for (int i = 0; i < CELLS; i++) {
+                counters.sumX[i] = buffer.getDouble();
+            }
+            for (int i = 0; i < CELLS; i++) {
+                counters.sumY[i] = buffer.getDouble();
+            }
+            return counters;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package likelion.harullala.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월별 감정 집계 (사용자 + 월 + 감정 + 시간대 단위)
+ * 감정 기록 작성/수정/삭제 시 함께 갱신되어, 리포트는 원본 기록 대신 이 집계만 읽음
+ */
+@Entity
+@Table(name = "emotion_monthly_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uq_rollup_cell",
+                columnNames = {"user_id", "month", "emotion_name", "time_slot"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EmotionMonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "month", nullable = false, length = 7)
+    private String month; // yyyy-MM
+
+    @Column(name = "emotion_name", nullable = false, length = 50)
+    private String emotionName;
+
+    @Column(name = "emotion_id")
+    private Short emotionId; // 감정 카탈로그 ID (카탈로그에 없는 감정이면 null)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "time_slot", nullable = false, length = 10)
+    private EmotionTimeSlot timeSlot;
+
+    @Column(name = "record_count", nullable = false)
+    private Integer recordCount;
+
+    @Column(name = "sum_x", nullable = false)
+    private Double sumX; // 감정 좌표 X 합계
+
+    @Column(name = "sum_y", nullable = false)
+    private Double sumY; // 감정 좌표 Y 합계
+
+    // ===== 가장 최근 기록의 색상 (리포트 대표 색상) =====
+    @Column(name = "main_color", length = 7)
+    private String mainColor;
+
+    @Column(name = "sub_color", length = 7)
+    private String subColor;
+
+    @Column(name = "text_color", length = 7)
+    private String textColor;
+
+    @Column(name = "latest_created_at", nullable = false)
+    private LocalDateTime latestCreatedAt; // 색상을 가져온 기록의 작성 시간
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 대표 색상 교체 (가장 최근 기록이 삭제/수정된 경우)
+     */
+    public void updateLatest(String mainColor, String subColor, String textColor, LocalDateTime latestCreatedAt) {
+        this.mainColor = mainColor;
+        this.subColor = subColor;
+        this.textColor = textColor;
+        this.latestCreatedAt = latestCreatedAt;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -1,13 +1,20 @@
 package likelion.harullala.domain;
 
 import jakarta.persistence.*;
+import likelion.harullala.util.EmotionCatalog;
 import lombok.*;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity     // 감정기록 JAP 엔티티 - 데이터베이스 테이블과 매핑
-@Table(name = "emotion_record") // 테이블 이름 지정
+@Table(name = "emotion_record", // 테이블 이름 지정
+        indexes = {
+                @Index(name = "idx_emotion_record_user_updated", columnList = "user_id, updated_at"), // 사용자별 데이터 버전 조회용
+                @Index(name = "idx_emotion_record_user_created", columnList = "user_id, created_at"), // 사용자별 최신순 목록 (커서 조회)
+                @Index(name = "idx_emotion_record_shared_created", columnList = "is_shared, created_at") // 공유 기록 최신순 목록 (커서 조회)
+        }
+)
 @Getter // 모든 필드에 대한 Getter 메서드 자동 생성 (getRecordId(), getUserId()등 ...)
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자 자동 생성 (AccessLevel.PROTECTED로 설정하여 외부에서 생성 불가)
 @AllArgsConstructor // 모든 필드를 파라미터로 받는 생성자 자동 생성
@@ -22,8 +29,12 @@ public class EmotionRecord {
     @Column(name = "user_id", nullable = false) // 사용자 ID 필드 (NOT NULL)
     private Long userId; // 사용자 ID
 
-    @Column(nullable = false, columnDefinition = "TEXT") // 감정기록 필드 (NOT NULL, TEXT 타입)
-    private String record; // 감정기록
+    @Column(nullable = false, columnDefinition = "TEXT") // 기존 감정기록 필드 (Base64 암호문, 바이너리로 옮긴 기록은 빈 문자열)
+    @Builder.Default // 빌더 패턴 기본값 설정
+    private String record = ""; // 기존 형식 감정기록 (마이그레이션 전 기록 읽기용)
+
+    @Column(name = "record_data", columnDefinition = "BLOB") // 감정기록 필드 (바이너리 암호문, EncryptionUtil 형식)
+    private byte[] recordData; // 감정기록
 
     // ===== 색상 정보 (사용자가 선택한 Main, Sub, Text 색상) =====
     @Column(name = "main_color", length = 7) // Main 색상 (HEX 코드, 예: #FF5733)
@@ -39,6 +50,9 @@ public class EmotionRecord {
     @Column(name = "emotion_name", nullable = false, length = 50) // 사용자가 선택한 구체적인 감정명
     private String emotionName; // 구체적인 감정명 (예: "만족스러움", "행복함", "평온")
 
+    @Column(name = "emotion_id") // 감정 카탈로그 ID (EmotionCatalog, 카탈로그에 없는 감정이면 NULL)
+    private Short emotionId; // 집계 시 감정명 문자열 대신 사용하는 정수 ID
+
     @Column(name = "is_shared", nullable = false) // 공유 상태 필드 (NOT NULL)
     @Builder.Default // 빌더 패턴 기본값 설정
     private Boolean isShared = false; // 공유 상태
@@ -57,6 +71,7 @@ public class EmotionRecord {
     protected void onCreate() {
         createdAt = LocalDateTime.now(ZoneId.of("Asia/Seoul")); // 생성 시간 설정 (KST)
         updatedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul")); // 수정 시간 설정 (KST)
+        emotionId = EmotionCatalog.storedIdOf(emotionName); // 감정 카탈로그 ID 설정
     }
 
     @PreUpdate // 수정 전 실행
@@ -67,11 +82,13 @@ public class EmotionRecord {
     /**
      * 감정기록 업데이트 (전체)
      */
-    public void update(String record, String emotionName,
+    public void update(byte[] recordData, String emotionName,
                       String mainColor, String subColor, String textColor,
                       Integer aiFeedbackCount) {
-        this.record = record; // 감정기록 업데이트
+        this.recordData = recordData; // 감정기록 업데이트
+        this.record = ""; // 기존 형식 감정기록 비우기
         this.emotionName = emotionName; // 감정명 업데이트
+        this.emotionId = EmotionCatalog.storedIdOf(emotionName); // 감정 카탈로그 ID 업데이트
         this.mainColor = mainColor; // Main 색상 업데이트
         this.subColor = subColor; // Sub 색상 업데이트
         this.textColor = textColor; // Text 색상 업데이트
@@ -83,8 +100,9 @@ public class EmotionRecord {
     /**
      * 감정기록 텍스트만 업데이트 (간단 버전)
      */
-    public void updateRecord(String record) {
-        this.record = record; // 감정기록 텍스트만 업데이트
+    public void updateRecord(byte[] recordData) {
+        this.recordData = recordData; // 감정기록 텍스트만 업데이트
+        this.record = ""; // 기존 형식 감정기록 비우기
     }
 
     /**
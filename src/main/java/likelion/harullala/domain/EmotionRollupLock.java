@@ -0,0 +1,37 @@
+package likelion.harullala.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월별 감정 집계 재계산 잠금 (사용자 + 월 단위)
+ * 같은 달의 재계산을 인스턴스 간에 한 번에 하나씩 실행하기 위한 행 (행 잠금만 사용, 값은 없음)
+ */
+@Entity
+@Table(name = "emotion_rollup_lock",
+        uniqueConstraints = @UniqueConstraint(name = "uq_rollup_lock",
+                columnNames = {"user_id", "month"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmotionRollupLock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "lock_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "month", nullable = false, length = 7)
+    private String month; // yyyy-MM
+}
@@ -0,0 +1,44 @@
+package likelion.harullala.domain;
+
+/**
+ * 감정 리포트 시간대 구분 (0-6: 새벽, 6-12: 아침, 12-18: 낮, 18-24: 저녁)
+ */
+public enum EmotionTimeSlot {
+    DAWN("새벽", "새벽 (00:00-06:00)"),
+    MORNING("아침", "아침 (06:00-12:00)"),
+    DAY("낮", "낮 (12:00-18:00)"),
+    EVENING("저녁", "저녁 (18:00-24:00)");
+
+    private static final int HOURS_PER_SLOT = 6;
+
+    private final String name;
+    private final String rangeLabel;
+
+    EmotionTimeSlot(String name, String rangeLabel) {
+        this.name = name;
+        this.rangeLabel = rangeLabel;
+    }
+
+    /**
+     * 시(0-23)에 해당하는 시간대
+     */
+    public static EmotionTimeSlot of(int hour) {
+        return values()[hour / HOURS_PER_SLOT];
+    }
+
+    public int startHour() {
+        return ordinal() * HOURS_PER_SLOT;
+    }
+
+    public int endHour() {
+        return startHour() + HOURS_PER_SLOT;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getRangeLabel() {
+        return rangeLabel;
+    }
+}
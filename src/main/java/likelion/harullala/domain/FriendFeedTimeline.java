@@ -0,0 +1,55 @@
+package likelion.harullala.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 친구 피드 타임라인 (읽는 사람별 피드 항목)
+ * 공유 기록이 작성되거나 공유로 바뀔 때 작성자 본인 + 친구들의 타임라인에 미리 넣어 두고 (쓰기 시 팬아웃)
+ * 피드 조회는 읽는 사람의 타임라인 한 범위만 읽음 (친구 목록 IN 조회 없음)
+ * 오늘 기록만 유지하며 날짜가 바뀌면 정리 작업이 지난 항목을 삭제
+ */
+@Entity
+@Table(name = "friend_feed_timeline",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_fft_reader_record", columnNames = {"reader_id", "record_id"})
+        },
+        indexes = {
+                @Index(name = "idx_fft_reader_created", columnList = "reader_id, created_at, record_id"), // 피드 최신순 조회
+                @Index(name = "idx_fft_record", columnList = "record_id"), // 기록 삭제/공유 해제 시 제거
+                @Index(name = "idx_fft_author", columnList = "author_id"), // 친구 삭제/탈퇴 시 제거
+                @Index(name = "idx_fft_created", columnList = "created_at") // 날짜 변경 시 정리
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FriendFeedTimeline {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "timeline_id")
+    private Long id;
+
+    @Column(name = "reader_id", nullable = false)
+    private Long readerId; // 피드를 읽는 사용자
+
+    @Column(name = "record_id", nullable = false)
+    private Long recordId; // 공유된 감정 기록
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId; // 기록 작성자
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 기록 작성 시간 (정렬/커서 기준)
+}
@@ -0,0 +1,70 @@
+package likelion.harullala.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 백그라운드 작업 진행 위치
+ * 긴 작업이 묶음마다 마지막 처리 ID를 남겨 재시작/다른 인스턴스에서 이어서 처리
+ */
+@Entity
+@Table(name = "job_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(name = "target", length = 50)
+    private String target; // 작업 목표 (예: 다시 암호화할 대상 키 ID, 바뀌면 처음부터 다시 진행)
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId; // 마지막으로 처리한 ID
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount; // 현재 목표에서 변경한 행 수
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt; // 현재 목표 완료 시간 (진행 중이면 null)
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 새 목표로 처음부터 다시 시작
+     */
+    public void restart(String target) {
+        this.target = target;
+        this.lastId = 0L;
+        this.processedCount = 0L;
+        this.completedAt = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 묶음 처리 결과 기록
+     */
+    public void advance(Long lastId, int processed) {
+        this.lastId = lastId;
+        this.processedCount += processed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completedAt = LocalDateTime.now();
+        this.updatedAt = this.completedAt;
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
@@ -0,0 +1,80 @@
+package likelion.harullala.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미리 생성된 월간 리포트 (사용자 + 월 단위)
+ * 매월 초 배치가 지난달 리포트(캐릭터 멘트 포함)를 JSON으로 저장하고, 조회 API는 이 행을 그대로 반환
+ * 생성 이후 해당 월/전월 기록이 바뀌었거나(데이터 버전 불일치) 선택 캐릭터가 바뀌었으면 저장된 리포트 대신 새로 계산
+ */
+@Entity
+@Table(name = "monthly_report",
+        uniqueConstraints = @UniqueConstraint(name = "uq_monthly_report", columnNames = {"user_id", "month"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MonthlyReport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "report_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "month", nullable = false, length = 7)
+    private String month; // yyyy-MM
+
+    @Column(name = "payload", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload; // MonthlyReportResponse JSON
+
+    // ===== 생성 시점의 데이터 버전 =====
+    @Column(name = "record_count", nullable = false)
+    private Long recordCount;
+
+    @Column(name = "last_record_update")
+    private LocalDateTime lastRecordUpdate; // 기록이 없으면 null
+
+    @Column(name = "previous_record_count")
+    private Long previousRecordCount; // 전월 기록 수 (전월 비교에 포함, 컬럼 추가 전 행은 null → 다시 생성)
+
+    @Column(name = "previous_last_record_update")
+    private LocalDateTime previousLastRecordUpdate; // 전월 마지막 수정 시간 (기록이 없으면 null)
+
+    @Column(name = "character_id")
+    private Long characterId; // 캐릭터 멘트를 생성한 캐릭터 (캐릭터를 선택하지 않았으면 null)
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    /**
+     * 리포트 다시 생성
+     */
+    public void replace(String payload, Long recordCount, LocalDateTime lastRecordUpdate,
+                        Long previousRecordCount, LocalDateTime previousLastRecordUpdate,
+                        Long characterId, LocalDateTime generatedAt) {
+        this.payload = payload;
+        this.recordCount = recordCount;
+        this.lastRecordUpdate = lastRecordUpdate;
+        this.previousRecordCount = previousRecordCount;
+        this.previousLastRecordUpdate = previousLastRecordUpdate;
+        this.characterId = characterId;
+        this.generatedAt = generatedAt;
+    }
+}
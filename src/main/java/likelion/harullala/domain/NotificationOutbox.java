@@ -0,0 +1,87 @@
+package likelion.harullala.domain;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 아웃박스
+ * 알림 발송 의도를 비즈니스 데이터와 같은 트랜잭션에 저장하고,
+ * 실제 알림 저장 + 푸시는 커밋 이후 별도 스레드에서 처리
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = {
+                @Index(name = "idx_notification_outbox_status_created", columnList = "status, created_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(name = "actor_id", nullable = false)
+    private Long actorId; // 알림을 발생시킨 사용자
+
+    /**
+     * 받는 사용자
+     * - null이면 actor의 친구 전체에게 발송 (FRIEND_EMOTION_RECORD)
+     */
+    @Column(name = "recipient_id")
+    private Long recipientId;
+
+    @Column(name = "related_id")
+    private Long relatedId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private NotificationOutboxStatus status = NotificationOutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 발송 실패 기록 (maxAttempts 도달 시 FAILED)
+     */
+    public void recordFailure(String error, int maxAttempts) {
+        this.attempts = attempts + 1;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (attempts >= maxAttempts) {
+            this.status = NotificationOutboxStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package likelion.harullala.domain;
+
+/**
+ * 알림 아웃박스 상태
+ */
+public enum NotificationOutboxStatus {
+    PENDING,    // 발송 대기 (커밋 후 디스패처 또는 재처리 스케줄러가 처리)
+    FAILED      // 발송 실패 (재시도 횟수 초과)
+}
@@ -0,0 +1,44 @@
+package likelion.harullala.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Slice;
+
+import likelion.harullala.util.PageCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 목록 응답 DTO
+ * 다음 페이지는 next_cursor를 cursor 파라미터로 전달해 조회 (마지막 페이지면 null)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> items;          // 목록 (최신순)
+    private String next_cursor;     // 다음 페이지 커서 (없으면 null)
+    private Boolean has_next;       // 다음 페이지 여부
+
+    /**
+     * @param items 응답 항목 (slice 내용과 같은 순서)
+     * @param cursorOf 원본 항목 → 위치 (마지막 항목이 다음 페이지 커서가 됨)
+     */
+    public static <T, E> CursorPageResponse<T> of(List<T> items, Slice<E> slice, Function<E, PageCursor> cursorOf) {
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            List<E> content = slice.getContent();
+            nextCursor = cursorOf.apply(content.get(content.size() - 1)).encode();
+        }
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .next_cursor(nextCursor)
+                .has_next(slice.hasNext())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package likelion.harullala.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요일 x 시간 감정 히트맵 응답 DTO
+ * 행은 요일(월 ~ 일), 열은 시(0 ~ 23)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmotionHeatmapResponse {
+
+    private Integer total_count;            // 전체 기록 수
+    private List<String> days;              // 행 요일 이름 (월 ~ 일)
+    private int[][] counts;                 // [요일][시] 기록 수
+    private Double[][] avg_position_x;      // [요일][시] X축 평균 (기록이 없으면 null)
+    private Double[][] avg_position_y;      // [요일][시] Y축 평균 (기록이 없으면 null)
+}
@@ -1,18 +1,25 @@
 package likelion.harullala.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 감정 리포트 캐릭터 멘트 응답 DTO
  */
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class EmotionReportCharacterMessageResponse {
     private String character_name;      // 캐릭터 이름
     private String character_image_url; // 캐릭터 이미지 URL
     private String message;             // AI가 생성한 캐릭터 멘트
+
+    @JsonIgnore
+    private boolean fallback;           // AI 호출 실패로 기본 멘트를 사용했는지 (응답/저장 제외, 저장 여부 판단용)
 }
 
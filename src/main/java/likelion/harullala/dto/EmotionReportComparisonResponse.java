@@ -3,12 +3,14 @@ package likelion.harullala.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 감정 상태 비교 응답 DTO
  * 저번 달과 이번 달의 평균 감정 상태 비교
  */
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class EmotionReportComparisonResponse {
@@ -20,6 +22,7 @@ public class EmotionReportComparisonResponse {
      * 월별 평균 감정 상태
      */
     @Getter
+    @NoArgsConstructor
     @AllArgsConstructor
     @Builder
     public static class MonthlyAverage {
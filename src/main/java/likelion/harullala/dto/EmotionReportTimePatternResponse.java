@@ -3,6 +3,7 @@ package likelion.harullala.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -10,6 +11,7 @@ import java.util.List;
  * 시간대별 감정 패턴 응답 DTO
  */
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class EmotionReportTimePatternResponse {
@@ -23,6 +25,7 @@ public class EmotionReportTimePatternResponse {
      * 시간대별 정보
      */
     @Getter
+    @NoArgsConstructor
     @AllArgsConstructor
     @Builder
     public static class TimeSlot {
@@ -3,6 +3,7 @@ package likelion.harullala.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -11,6 +12,7 @@ import java.util.List;
  * 감정별 횟수와 대표 색상을 내림차순으로 반환
  */
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class EmotionReportTopEmotionsResponse {
@@ -22,6 +24,7 @@ public class EmotionReportTopEmotionsResponse {
      * 개별 감정 통계
      */
     @Getter
+    @NoArgsConstructor
     @AllArgsConstructor
     @Builder
     public static class EmotionStat {
@@ -0,0 +1,42 @@
+package likelion.harullala.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 감정 추이 응답 DTO
+ * 최근 N개월의 월별 평균 좌표, 대표 감정, 기록 수 (오래된 달부터)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmotionReportTrendResponse {
+
+    private String from_month;          // 시작 월 (예: "2023-08")
+    private String to_month;            // 마지막 월 (예: "2024-01")
+    private Integer total_count;        // 기간 전체 기록 수
+    private List<MonthlyPoint> months;  // 월별 추이 (오래된 달부터)
+
+    /**
+     * 월별 추이 한 점
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MonthlyPoint {
+        private String month;                   // 월 (예: "2024-01")
+        private Double avg_position_x;          // X축 평균 (기록이 없으면 0.5)
+        private Double avg_position_y;          // Y축 평균 (기록이 없으면 0.5)
+        private String dominant_emotion;        // 대표 감정명 (기록이 없으면 "없음")
+        private String main_color;              // 대표 메인 색상
+        private String sub_color;               // 대표 서브 색상
+        private String text_color;              // 대표 텍스트 색상
+        private Integer record_count;           // 해당 월 기록 수
+    }
+}
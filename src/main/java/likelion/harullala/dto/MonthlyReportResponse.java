@@ -0,0 +1,25 @@
+package likelion.harullala.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월간 리포트 전체 응답 DTO
+ * 비교 / 감정 통계 / 시간대 패턴 / 캐릭터 멘트를 한 번에 반환
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyReportResponse {
+    private String month;                                       // 월 (예: "2024-01")
+    private EmotionReportComparisonResponse comparison;         // 저번 달과 상태 비교
+    private EmotionReportTopEmotionsResponse top_emotions;      // 가장 많았던 감정
+    private EmotionReportTimePatternResponse time_pattern;      // 시간대별 패턴
+    private EmotionReportCharacterMessageResponse character_message; // 캐릭터 멘트 (캐릭터가 없으면 null)
+    private LocalDateTime generated_at;                         // 리포트 생성 시간
+}
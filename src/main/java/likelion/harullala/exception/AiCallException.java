@@ -0,0 +1,16 @@
+package likelion.harullala.exception;
+
+/**
+ * AI 호출 실패 (호출 한도 초과, 응답 오류, 시간 초과 등)
+ * 호출부는 기본 응답으로 대체하더라도 캐시/저장하지 않고, 작업은 재시도 대상으로 처리
+ */
+public class AiCallException extends RuntimeException {
+
+    public AiCallException(String message) {
+        super(message);
+    }
+
+    public AiCallException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,62 @@
+package likelion.harullala.infra;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * AI 생성 메시지 캐시
+ * - ai.cache.backend=memory (기본값): 인스턴스 내 메모리 캐시
+ * - ai.cache.backend=redis: 여러 인스턴스가 같은 결과를 공유하는 Redis 캐시
+ */
+public interface AiMessageCache {
+
+    ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 캐시 조회 (없거나 만료되었으면 empty)
+     */
+    Optional<String> get(AiMessageCacheKey key);
+
+    /**
+     * 캐시 저장
+     * @param expireAt 만료 시간 (KST)
+     */
+    void put(AiMessageCacheKey key, String message, LocalDateTime expireAt);
+
+    /**
+     * 메시지 생성 권한 획득 (여러 인스턴스 중 한 곳만 AI를 호출하도록 키를 먼저 점유)
+     * 인스턴스 내 중복은 AiRequestCoalescer가 제거하므로 공유 캐시가 아니면 항상 true
+     * @param ttl 점유 유지 시간 (생성한 인스턴스가 죽어도 이 시간이 지나면 다른 인스턴스가 다시 생성)
+     * @return 획득했으면 true, 다른 인스턴스가 생성 중이면 false
+     */
+    boolean tryClaim(AiMessageCacheKey key, Duration ttl);
+
+    /**
+     * 생성 권한 반환 (생성 실패 시 다른 인스턴스가 바로 다시 시도할 수 있도록)
+     */
+    void releaseClaim(AiMessageCacheKey key);
+
+    /**
+     * 캐시 통계 조회
+     */
+    Stats stats();
+
+    /**
+     * 오늘 자정(KST)까지 유효한 만료 시간
+     */
+    static LocalDateTime endOfToday() {
+        return LocalDate.now(KST).plusDays(1).atStartOfDay();
+    }
+
+    /**
+     * 지금부터 지정한 시간 동안 유효한 만료 시간
+     */
+    static LocalDateTime hoursFromNow(long hours) {
+        return LocalDateTime.now(KST).plusHours(hours);
+    }
+
+    record Stats(int size, long hits, long misses, long evictions) {}
+}
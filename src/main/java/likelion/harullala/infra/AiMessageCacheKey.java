@@ -0,0 +1,63 @@
+package likelion.harullala.infra;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * AI 생성 메시지 캐시 키
+ * 서비스별 문자열 조합 대신 상황별 레코드로 키를 구분
+ */
+public sealed interface AiMessageCacheKey {
+
+    Long userId();
+
+    /**
+     * 외부 저장소(Redis 등)에서 사용하는 문자열 식별자
+     */
+    String cacheId();
+
+    /**
+     * 홈 화면 인사말 (userId + 캐릭터ID + 날짜 + 기록여부)
+     */
+    record HomeGreeting(Long userId, Long characterId, LocalDate date, boolean hasRecorded)
+            implements AiMessageCacheKey {
+        @Override
+        public String cacheId() {
+            return "home:" + userId + ":" + characterId + ":" + date + ":" + hasRecorded;
+        }
+    }
+
+    /**
+     * 친구 초대 페이지 멘트 (userId + 캐릭터ID + 날짜)
+     */
+    record FriendInvite(Long userId, Long characterId, LocalDate date)
+            implements AiMessageCacheKey {
+        @Override
+        public String cacheId() {
+            return "invite:" + userId + ":" + characterId + ":" + date;
+        }
+    }
+
+    /**
+     * 친구 리마인더 (userId + 캐릭터ID + 친구 수 + 기록한 친구 수)
+     */
+    record FriendReminder(Long userId, Long characterId, int friendCount, int recordedCount)
+            implements AiMessageCacheKey {
+        @Override
+        public String cacheId() {
+            return "reminder:" + userId + ":" + characterId + ":" + friendCount + ":" + recordedCount;
+        }
+    }
+
+    /**
+     * 감정 리포트 캐릭터 멘트 (userId + 대상 월 + 캐릭터ID + 마지막 기록 수정 시간)
+     */
+    record ReportMessage(Long userId, YearMonth month, Long characterId, LocalDateTime lastRecordUpdate)
+            implements AiMessageCacheKey {
+        @Override
+        public String cacheId() {
+            return "report:" + userId + ":" + month + ":" + characterId + ":" + lastRecordUpdate;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package likelion.harullala.infra;
+
+import java.util.concurrent.CompletableFuture;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 메시지 결과 (AI가 생성한 메시지인지, 호출 실패로 대신 쓴 기본 멘트인지 구분)
+ * 기본 멘트는 캐시/저장하지 않고 다음 조회 때 다시 생성해야 함
+ */
+@Slf4j
+public record AiReply(String text, boolean fallback) {
+
+    public static AiReply generated(String text) {
+        return new AiReply(text, false);
+    }
+
+    public static AiReply fallback(String text) {
+        return new AiReply(text, true);
+    }
+
+    /**
+     * AI 호출이 실패하면 사용처별 기본 멘트로 대체
+     */
+    public static CompletableFuture<AiReply> orFallback(CompletableFuture<String> call, String fallbackText) {
+        return call.handle((text, error) -> {
+            if (error != null) {
+                log.warn("AI 메시지 생성 실패, 기본 멘트 사용: {}", error.getMessage());
+                return fallback(fallbackText);
+            }
+            return generated(text);
+        });
+    }
+}
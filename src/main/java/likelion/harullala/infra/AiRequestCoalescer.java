@@ -0,0 +1,120 @@
+package likelion.harullala.infra;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import likelion.harullala.exception.AiCallException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동일한 AI 요청 중복 제거 (single-flight)
+ * - 인스턴스 내: 같은 캐시 키로 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 함께 기다림
+ *   (여러 기기에서 동시에 접속하거나 클라이언트가 재시도할 때 중복 호출 방지)
+ * - 인스턴스 간: 캐시에서 생성 권한을 먼저 점유한 인스턴스만 호출하고,
+ *   나머지는 캐시에 결과가 저장될 때까지 주기적으로 확인 (공유 캐시 사용 시)
+ */
+@Slf4j
+@Component
+public class AiRequestCoalescer {
+
+    private final ConcurrentHashMap<AiMessageCacheKey, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final AiMessageCache messageCache;
+    private final Duration claimTtl;
+    private final Duration claimWait;
+    private final Executor pollExecutor;
+
+    public AiRequestCoalescer(AiMessageCache messageCache,
+                              @Value("${ai.cache.claim.ttl:60s}") Duration claimTtl,
+                              @Value("${ai.cache.claim.wait:30s}") Duration claimWait,
+                              @Value("${ai.cache.claim.poll-interval:200ms}") Duration pollInterval) {
+        this.messageCache = messageCache;
+        this.claimTtl = claimTtl;
+        this.claimWait = claimWait;
+        this.pollExecutor = CompletableFuture.delayedExecutor(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 진행 중인 호출이 있으면 합류하고, 없으면 loader로 새 호출 시작
+     * loader는 결과를 캐시에 저장한 뒤 완료되어야 함 (완료 직후 요청과 다른 인스턴스는 캐시에서 조회되도록)
+     */
+    public CompletableFuture<String> execute(AiMessageCacheKey key, Supplier<CompletableFuture<String>> loader) {
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            log.debug("진행 중인 AI 호출에 합류: {}", key.cacheId());
+            return existing.copy();
+        }
+
+        try {
+            load(key, loader, System.nanoTime() + claimWait.toNanos()).whenComplete((message, error) -> {
+                // 완료 전에 제거해야 이후 요청이 끝난 호출에 합류하지 않음
+                inFlight.remove(key, call);
+                if (error != null) {
+                    call.completeExceptionally(error);
+                } else {
+                    call.complete(message);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+        }
+
+        // 호출자가 취소해도 공유 중인 호출에는 영향이 없도록 복사본 반환
+        return call.copy();
+    }
+
+    /**
+     * 생성 권한을 점유했으면 호출, 다른 인스턴스가 생성 중이면 결과가 저장될 때까지 확인
+     * (생성하던 인스턴스가 실패해 권한을 반환하면 다음 확인 때 이 인스턴스가 점유해 호출)
+     * 권한을 얻은 뒤에도 캐시를 한 번 더 확인 (호출부의 캐시 조회와 점유 사이에 직전 호출이 저장했을 수 있음)
+     */
+    private CompletableFuture<String> load(AiMessageCacheKey key, Supplier<CompletableFuture<String>> loader,
+                                           long deadline) {
+        if (messageCache.tryClaim(key, claimTtl)) {
+            Optional<String> cached = messageCache.get(key);
+            if (cached.isPresent()) {
+                messageCache.releaseClaim(key);
+                log.debug("점유 직전에 저장된 AI 메시지 사용: {}", key.cacheId());
+                return CompletableFuture.completedFuture(cached.get());
+            }
+            return callAndRelease(key, loader);
+        }
+
+        return CompletableFuture.supplyAsync(() -> messageCache.get(key), pollExecutor)
+                .thenCompose(cached -> waitOrLoad(key, loader, deadline, cached));
+    }
+
+    private CompletableFuture<String> waitOrLoad(AiMessageCacheKey key, Supplier<CompletableFuture<String>> loader,
+                                                 long deadline, Optional<String> cached) {
+        if (cached.isPresent()) {
+            log.debug("다른 인스턴스가 생성한 AI 메시지 사용: {}", key.cacheId());
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        if (System.nanoTime() - deadline > 0) {
+            return CompletableFuture.failedFuture(
+                    new AiCallException("다른 인스턴스의 AI 메시지 생성 대기 시간 초과: " + key.cacheId()));
+        }
+        return load(key, loader, deadline);
+    }
+
+    private CompletableFuture<String> callAndRelease(AiMessageCacheKey key, Supplier<CompletableFuture<String>> loader) {
+        CompletableFuture<String> loading;
+        try {
+            loading = loader.get();
+        } catch (RuntimeException e) {
+            messageCache.releaseClaim(key);
+            throw e;
+        }
+        return loading.whenComplete((message, error) -> messageCache.releaseClaim(key));
+    }
+}
@@ -0,0 +1,14 @@
+package likelion.harullala.infra;
+
+import likelion.harullala.domain.Character;
+
+/**
+ * 프롬프트에 쓰는 캐릭터 정보 (엔티티에서 값만 복사한 불변 객체)
+ * Character는 지연 로딩 프록시일 수 있으므로 호출 스레드에서 복사한 뒤 AI 호출 스레드(aiExecutor)로 넘김
+ */
+public record CharacterPersona(String name, String tag, String description) {
+
+    public static CharacterPersona of(Character character) {
+        return new CharacterPersona(character.getName(), character.getTag(), character.getDescription());
+    }
+}
@@ -1,7 +1,16 @@
 package likelion.harullala.infra;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -11,7 +20,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import likelion.harullala.domain.Character;
+import jakarta.annotation.PostConstruct;
+import likelion.harullala.exception.AiCallException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,82 +39,106 @@ public class ChatGptClient {
     @Value("${openai.api.model:gpt-3.5-turbo}")
     private String model;
     
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 동시에 진행 중인 OpenAI 호출 수 제한
+    @Value("${openai.api.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
     
-    public String generateFeedback(String emotionText, Character character) {
+    // 호출 슬롯 대기 최대 시간 (초과 시 AiCallException)
+    @Value("${openai.api.acquire-timeout:2s}")
+    private Duration acquireTimeout;
+    
+    // 호출 1건의 전체 제한 시간 (대기열 + 슬롯 대기 + 응답, 초과 시 AiCallException)
+    @Value("${openai.api.call-timeout:25s}")
+    private Duration callTimeout;
+    
+    private final RestTemplate chatGptRestTemplate; // 커넥션 풀 + 타임아웃 적용 (ChatGptClientConfig)
+    private final Executor aiExecutor; // 비동기 호출용 스레드 풀 (AsyncConfig)
+    
+    private Semaphore inFlightCalls;
+    
+    @PostConstruct
+    void initInFlightLimit() {
+        this.inFlightCalls = new Semaphore(maxConcurrentCalls);
+    }
+    
+    /**
+     * AI 피드백 생성 (비동기)
+     * 호출 실패 시 AiCallException으로 완료 (AI 피드백 작업의 재시도/백오프 적용)
+     */
+    public CompletableFuture<String> generateFeedbackAsync(String emotionText, CharacterPersona persona) {
+        String prompt = buildCharacterPrompt(emotionText, persona); // 호출 스레드에서 생성
+        return supplyAsync(() -> requestCompletion(prompt));
+    }
+    
+    /**
+     * 감정 리포트용 캐릭터 멘트 생성 (비동기)
+     * 프롬프트는 호출 스레드에서 만들고 OpenAI 호출만 aiExecutor에서 실행
+     * 호출 실패 시 AiCallException으로 완료 (기본 멘트는 호출부에서 결정)
+     */
+    public CompletableFuture<String> generateReportMessageAsync(String reportSummary, CharacterPersona persona) {
+        String prompt = buildReportPrompt(reportSummary, persona);
+        return supplyAsync(() -> requestCompletion(prompt));
+    }
+    
+    /**
+     * 커스텀 프롬프트로 AI 메시지 생성 (비동기)
+     * 호출 실패 시 AiCallException으로 완료 (기본 멘트는 호출부에서 결정)
+     */
+    public CompletableFuture<String> generateCustomFeedbackAsync(String customPrompt) {
+        return supplyAsync(() -> generateCustomFeedback(customPrompt));
+    }
+    
+    /**
+     * aiExecutor에서 호출 실행 (풀이 가득 차서 거절되면 AiCallException으로 완료)
+     * callTimeout이 지나면 응답을 기다리지 않고 AiCallException으로 완료
+     * (진행 중인 HTTP 요청은 read-timeout까지 aiExecutor 스레드에서 마무리됨)
+     */
+    private CompletableFuture<String> supplyAsync(Supplier<String> call) {
+        CompletableFuture<String> future;
+        try {
+            future = CompletableFuture.supplyAsync(call, aiExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("AI 호출 대기열이 가득 찼습니다.");
+            return CompletableFuture.failedFuture(new AiCallException("AI 호출 대기열이 가득 찼습니다.", e));
+        }
+        return future.orTimeout(callTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(error -> CompletableFuture.failedFuture(toAiCallException(error)));
+    }
+    
+    private AiCallException toAiCallException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof AiCallException aiCallException) {
+            return aiCallException;
+        }
+        if (cause instanceof TimeoutException) {
+            log.warn("OpenAI 호출 제한 시간 초과: callTimeout={}", callTimeout);
+            return new AiCallException("OpenAI 호출 제한 시간 초과: callTimeout=" + callTimeout, cause);
+        }
+        return new AiCallException("OpenAI 호출 실패: " + cause.getMessage(), cause);
+    }
+    
+    /**
+     * AI 피드백 생성
+     * 호출이 실패하면 AiCallException (기본 문구로 대체하지 않고 AI 피드백 작업이 재시도)
+     */
+    public String generateFeedback(String emotionText, CharacterPersona persona) {
         log.info("=== AI 피드백 생성 시작 ===");
         log.info("emotionText 길이: {}, character: {}", emotionText != null ? emotionText.length() : 0, 
-                character != null ? character.getName() : "null");
+                persona != null ? persona.name() : "null");
         
-        if (apiKey == null || apiKey.isEmpty()) {
-            log.warn("API 키가 없습니다. 기본 응답 반환");
-            return "오늘의 감정 피드백: " + emotionText;
-        }
+        String prompt = buildCharacterPrompt(emotionText, persona);
+        log.debug("프롬프트 생성 완료. 프롬프트 길이: {}", prompt.length());
         
-        try {
-            String prompt = buildCharacterPrompt(emotionText, character);
-            log.debug("프롬프트 생성 완료. 프롬프트 길이: {}", prompt.length());
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-            
-            Map<String, Object> requestBody = Map.of(
-                "model", model,
-                "messages", List.of(
-                    Map.of("role", "user", "content", prompt)
-                ),
-                "max_tokens", 200,
-                "temperature", 0.7
-            );
-            
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            log.info("OpenAI API 호출 시작: {}", apiUrl);
-            ResponseEntity<Map> response = restTemplate.postForEntity(apiUrl, request, Map.class);
-            
-            log.info("API 응답 상태: {}", response.getStatusCode());
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                log.debug("API 응답 본문 존재");
-                
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
-                log.info("Choices 개수: {}", choices != null ? choices.size() : 0);
-                
-                if (choices != null && !choices.isEmpty()) {
-                    Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-                    String content = (String) message.get("content");
-                    log.info("=== 원본 응답 (처리 전) ===");
-                    log.info("{}", content);
-                    
-                    String cleaned = cleanResponse(content);
-                    log.info("=== 정리된 응답 (처리 후) ===");
-                    log.info("{}", cleaned);
-                    log.info("=== AI 피드백 생성 완료 ===");
-                    return cleaned;
-                } else {
-                    log.warn("Choices가 비어있습니다. 기본 응답 반환");
-                }
-            } else {
-                log.error("API 호출 실패. 상태: {}, 본문 존재: {}", response.getStatusCode(), response.getBody() != null);
-            }
-            
-            // API 호출 실패 시 기본 응답
-            log.warn("기본 응답 반환: 오늘의 감정 피드백");
-            return "오늘의 감정 피드백: " + emotionText;
-            
-        } catch (Exception e) {
-            // 예외 발생 시 기본 응답
-            log.error("예외 발생: {} - {}", e.getClass().getName(), e.getMessage(), e);
-            return "오늘의 감정 피드백: " + emotionText;
-        }
+        String cleaned = requestCompletion(prompt);
+        log.info("=== AI 피드백 생성 완료 ===");
+        return cleaned;
     }
     
-    private String buildCharacterPrompt(String emotionText, Character character) {
-        // Character 엔티티의 정보 직접 사용 (null 체크 제거 - 모든 유저는 캐릭터 선택함)
-        String characterDescription = character.getDescription();
-        String characterTag = character.getTag();
-        String characterName = character.getName();
+    private String buildCharacterPrompt(String emotionText, CharacterPersona persona) {
+        // 캐릭터 정보 직접 사용 (null 체크 제거 - 모든 유저는 캐릭터 선택함)
+        String characterDescription = persona.description();
+        String characterTag = persona.tag();
+        String characterName = persona.name();
         
         // 캐릭터별 말투 지정
         String speechStyle = getCharacterSpeechStyle(characterName);
@@ -165,51 +199,11 @@ public class ChatGptClient {
     /**
      * 감정 리포트용 캐릭터 멘트 생성
      * @param reportSummary 리포트 요약 정보 (이번 달 통계)
-     * @param character 캐릭터 정보
-     * @return AI 생성 캐릭터 멘트
+     * @param persona 캐릭터 정보
+     * @return AI 생성 캐릭터 멘트 (호출 실패 시 AiCallException)
      */
-    public String generateReportMessage(String reportSummary, Character character) {
-        if (apiKey == null || apiKey.isEmpty()) {
-            // API 키가 없으면 기본 응답 반환
-            return "이번 달도 수고했어요! 계속 응원할게요!";
-        }
-        
-        try {
-            String prompt = buildReportPrompt(reportSummary, character);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-            
-            Map<String, Object> requestBody = Map.of(
-                "model", model,
-                "messages", List.of(
-                    Map.of("role", "user", "content", prompt)
-                ),
-                "max_tokens", 200,
-                "temperature", 0.7
-            );
-            
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<Map> response = restTemplate.postForEntity(apiUrl, request, Map.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
-                if (!choices.isEmpty()) {
-                    Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-                    String content = (String) message.get("content");
-                    return cleanResponse(content); // 따옴표, 이모티콘, 마크다운 제거
-                }
-            }
-            
-            // API 호출 실패 시 기본 응답
-            return "이번 달도 수고했어요! 계속 응원할게요!";
-            
-        } catch (Exception e) {
-            // 예외 발생 시 기본 응답
-            return "이번 달도 수고했어요! 계속 응원할게요!";
-        }
+    public String generateReportMessage(String reportSummary, CharacterPersona persona) {
+        return requestCompletion(buildReportPrompt(reportSummary, persona));
     }
     
     /**
@@ -219,64 +213,92 @@ public class ChatGptClient {
         log.info("=== 커스텀 AI 피드백 생성 시작 ===");
         log.info("프롬프트 길이: {}", customPrompt != null ? customPrompt.length() : 0);
         
+        String cleaned = requestCompletion(customPrompt);
+        log.info("=== 커스텀 AI 피드백 생성 완료 ===");
+        return cleaned;
+    }
+    
+    /**
+     * 프롬프트 한 개로 Chat Completions 호출 후 정리된 응답 반환
+     * API 키가 없거나, 응답이 실패/비어 있거나, 호출 중 예외가 나면 AiCallException
+     */
+    private String requestCompletion(String prompt) {
         if (apiKey == null || apiKey.isEmpty()) {
             log.warn("API 키가 없습니다.");
-            return "AI 서비스를 사용할 수 없습니다.";
+            throw new AiCallException("OpenAI API 키가 설정되지 않았습니다.");
         }
         
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+        
+        Map<String, Object> requestBody = Map.of(
+            "model", model,
+            "messages", List.of(
+                Map.of("role", "user", "content", prompt)
+            ),
+            "max_tokens", 200,
+            "temperature", 0.7
+        );
+        
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+        ResponseEntity<Map> response;
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-            
-            Map<String, Object> requestBody = Map.of(
-                "model", model,
-                "messages", List.of(
-                    Map.of("role", "user", "content", customPrompt)
-                ),
-                "max_tokens", 200,
-                "temperature", 0.7
-            );
-            
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
             log.info("OpenAI API 호출 시작: {}", apiUrl);
-            ResponseEntity<Map> response = restTemplate.postForEntity(apiUrl, request, Map.class);
-            
-            log.info("API 응답 상태: {}", response.getStatusCode());
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                log.debug("API 응답 본문 존재");
-                
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
-                log.info("Choices 개수: {}", choices != null ? choices.size() : 0);
-                
-                if (choices != null && !choices.isEmpty()) {
-                    Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-                    String content = (String) message.get("content");
-                    log.info("=== 원본 응답 (처리 전) ===");
-                    log.info("{}", content);
-                    
-                    String cleaned = cleanResponse(content);
-                    log.info("=== 정리된 응답 (처리 후) ===");
-                    log.info("{}", cleaned);
-                    log.info("=== 커스텀 AI 피드백 생성 완료 ===");
-                    return cleaned;
-                } else {
-                    log.warn("Choices가 비어있습니다. 기본 응답 반환");
-                }
-            } else {
-                log.error("API 호출 실패. 상태: {}", response.getStatusCode());
-            }
-            
-            // API 호출 실패 시 기본 응답
-            log.warn("기본 응답 반환: 이번 달도 수고했어요");
-            return "이번 달도 수고했어요! 계속 응원할게요!";
-            
-        } catch (Exception e) {
-            // 예외 발생 시 기본 응답
-            log.error("예외 발생: {} - {}", e.getClass().getName(), e.getMessage(), e);
-            return "이번 달도 수고했어요! 계속 응원할게요!";
+            response = postChatCompletion(request);
+        } catch (AiCallException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("예외 발생: {} - {}", e.getClass().getName(), e.getMessage());
+            throw new AiCallException("OpenAI API 호출 실패: " + e.getMessage(), e);
+        }
+        
+        log.info("API 응답 상태: {}", response.getStatusCode());
+        
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            log.error("API 호출 실패. 상태: {}", response.getStatusCode());
+            throw new AiCallException("OpenAI API 응답 오류: " + response.getStatusCode());
+        }
+        
+        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.getBody().get("choices");
+        log.info("Choices 개수: {}", choices != null ? choices.size() : 0);
+        if (choices == null || choices.isEmpty()) {
+            log.warn("Choices가 비어있습니다.");
+            throw new AiCallException("OpenAI API 응답에 choices가 없습니다.");
+        }
+        
+        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+        String content = message != null ? (String) message.get("content") : null;
+        log.debug("원본 응답 (처리 전): {}", content);
+        
+        String cleaned = cleanResponse(content); // 따옴표, 이모티콘, 마크다운 제거
+        if (cleaned.isEmpty()) {
+            throw new AiCallException("OpenAI API 응답이 비어 있습니다.");
+        }
+        log.debug("정리된 응답 (처리 후): {}", cleaned);
+        return cleaned;
+    }
+    
+    /**
+     * OpenAI Chat Completions 호출 (동시 호출 수 제한)
+     * 슬롯을 acquireTimeout 안에 얻지 못하면 AiCallException (호출부에서 기본 멘트로 대체하거나 작업 재시도)
+     */
+    private ResponseEntity<Map> postChatCompletion(HttpEntity<Map<String, Object>> request) {
+        boolean acquired;
+        try {
+            acquired = inFlightCalls.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiCallException("OpenAI 호출 대기 중 인터럽트", e);
+        }
+        if (!acquired) {
+            log.warn("OpenAI 동시 호출 한도 초과: maxConcurrentCalls={}", maxConcurrentCalls);
+            throw new AiCallException("OpenAI 동시 호출 한도 초과: maxConcurrentCalls=" + maxConcurrentCalls);
+        }
+        try {
+            return chatGptRestTemplate.postForEntity(apiUrl, request, Map.class);
+        } finally {
+            inFlightCalls.release();
         }
     }
     
@@ -314,17 +336,17 @@ public class ChatGptClient {
     /**
      * 감정 리포트용 프롬프트 생성
      */
-    private String buildReportPrompt(String reportSummary, Character character) {
-        String characterDescription = character.getDescription() != null 
-            ? character.getDescription() 
+    private String buildReportPrompt(String reportSummary, CharacterPersona persona) {
+        String characterDescription = persona.description() != null 
+            ? persona.description() 
             : "사용자의 감정을 공감하는 상담사입니다.";
         
-        String characterTag = character.getTag() != null 
-            ? character.getTag() 
+        String characterTag = persona.tag() != null 
+            ? persona.tag() 
             : "일반적";
         
-        String characterName = character.getName() != null 
-            ? character.getName() 
+        String characterName = persona.name() != null 
+            ? persona.name() 
             : "상담사";
         
         // 캐릭터별 말투 지정
@@ -0,0 +1,213 @@
+package likelion.harullala.infra;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import likelion.harullala.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FCM 일괄 전송 엔진
+ * - 푸시를 큐에 넣으면 전용 스레드가 최대 500개씩 묶어 sendEach로 전송
+ * - 일시적 오류는 지수 백오프로 재시도 (DelayQueue)
+ * - 만료된 토큰(UNREGISTERED)은 User.fcmToken에서 삭제
+ * - 트랜잭션 안에서 등록하면 커밋 후에 큐에 들어감 (롤백 시 전송 안 함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmDeliveryEngine {
+
+    private static final int MAX_BATCH_SIZE = 500; // FCM sendEach 최대 개수
+
+    private final FcmGateway gateway;
+    private final UserRepository userRepository;
+
+    private final DelayQueue<PendingPush> queue = new DelayQueue<>();
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong invalidTokens = new AtomicLong();
+
+    @Value("${fcm.delivery.batch-size:500}")
+    private int batchSize; // 한 번에 전송할 최대 개수 (500 이하)
+
+    @Value("${fcm.delivery.linger:100ms}")
+    private Duration linger; // 묶음을 모으기 위해 첫 메시지 이후 기다리는 시간
+
+    @Value("${fcm.delivery.queue-capacity:100000}")
+    private int queueCapacity; // 대기 중인 푸시 최대 개수 (초과 시 버림)
+
+    @Value("${fcm.delivery.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${fcm.delivery.retry-backoff:1s}")
+    private Duration retryBackoff; // 재시도 기본 대기 시간 (시도마다 2배)
+
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    /**
+     * 전송할 푸시 등록
+     */
+    public void enqueue(Long userId, FcmGateway.Push push) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(PendingPush.after(userId, push, 1, 0));
+                }
+            });
+        } else {
+            offer(PendingPush.after(userId, push, 1, 0));
+        }
+    }
+
+    /**
+     * 전송 통계 (처리량 측정용)
+     */
+    public Stats stats() {
+        return new Stats(queue.size(), sent.get(), failed.get(), retried.get(), invalidTokens.get());
+    }
+
+    public record Stats(int queued, long sent, long failed, long retried, long invalidTokens) {}
+
+    @PostConstruct
+    void start() {
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "fcm-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        dispatcher.interrupt();
+        if (!queue.isEmpty()) {
+            log.warn("종료 시점에 전송되지 않은 FCM 푸시: count={}", queue.size());
+        }
+    }
+
+    private void offer(PendingPush pending) {
+        if (queue.size() >= queueCapacity) {
+            failed.incrementAndGet();
+            log.warn("FCM 대기열이 가득 찼습니다. 푸시를 버립니다: userId={}", pending.userId());
+            return;
+        }
+        queue.offer(pending);
+    }
+
+    private void dispatchLoop() {
+        int limit = Math.min(batchSize, MAX_BATCH_SIZE);
+        while (running) {
+            try {
+                // 첫 메시지가 준비될 때까지 대기 → 잠시 더 모아서 묶음 전송
+                PendingPush first = queue.take();
+                if (!linger.isZero()) {
+                    Thread.sleep(linger.toMillis());
+                }
+                List<PendingPush> batch = new ArrayList<>(limit);
+                batch.add(first);
+                queue.drainTo(batch, limit - 1);
+
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("FCM 전송 루프 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void deliver(List<PendingPush> batch) {
+        List<FcmGateway.Push> pushes = new ArrayList<>(batch.size());
+        for (PendingPush pending : batch) {
+            pushes.add(pending.push());
+        }
+
+        List<FcmGateway.Result> results;
+        try {
+            results = gateway.sendEach(pushes);
+        } catch (Exception e) {
+            // 묶음 전체 실패 (네트워크, Firebase 미초기화 등) → 전체 재시도
+            log.error("FCM 일괄 전송 실패: count={}, error={}", batch.size(), e.getMessage());
+            batch.forEach(pending -> retryOrDrop(pending, e.getMessage()));
+            return;
+        }
+
+        int sentInBatch = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            PendingPush pending = batch.get(i);
+            FcmGateway.Result result = results.get(i);
+            switch (result.status()) {
+                case SENT -> sentInBatch++;
+                case INVALID_TOKEN -> clearToken(pending);
+                case RETRYABLE -> retryOrDrop(pending, result.error());
+                case FAILED -> {
+                    failed.incrementAndGet();
+                    log.warn("FCM 전송 실패: userId={}, error={}", pending.userId(), result.error());
+                }
+            }
+        }
+        sent.addAndGet(sentInBatch);
+        log.info("FCM 일괄 전송 완료: total={}, sent={}", batch.size(), sentInBatch);
+    }
+
+    private void retryOrDrop(PendingPush pending, String error) {
+        if (pending.attempt() >= maxAttempts) {
+            failed.incrementAndGet();
+            log.warn("FCM 재시도 횟수 초과: userId={}, attempts={}, error={}", pending.userId(), pending.attempt(), error);
+            return;
+        }
+        retried.incrementAndGet();
+        long delayNanos = retryBackoff.multipliedBy(1L << (pending.attempt() - 1)).toNanos();
+        offer(PendingPush.after(pending.userId(), pending.push(), pending.attempt() + 1, delayNanos));
+    }
+
+    private void clearToken(PendingPush pending) {
+        invalidTokens.incrementAndGet();
+        try {
+            // 그 사이 새 토큰이 등록되었으면 지우지 않음
+            int cleared = userRepository.clearFcmToken(pending.userId(), pending.push().token());
+            log.info("유효하지 않은 FCM 토큰 삭제: userId={}, cleared={}", pending.userId(), cleared > 0);
+        } catch (Exception e) {
+            log.error("FCM 토큰 삭제 실패: userId={}, error={}", pending.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 중인 푸시 (readyAt 이후 전송)
+     */
+    private record PendingPush(Long userId, FcmGateway.Push push, int attempt, long readyAt) implements Delayed {
+
+        static PendingPush after(Long userId, FcmGateway.Push push, int attempt, long delayNanos) {
+            return new PendingPush(userId, push, attempt, System.nanoTime() + delayNanos);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
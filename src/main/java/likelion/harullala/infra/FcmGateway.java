@@ -0,0 +1,44 @@
+package likelion.harullala.infra;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FCM 전송 게이트웨이
+ * FcmDeliveryEngine은 이 인터페이스만 사용하므로 Firebase 대신 스텁으로 교체 가능 (fcm.gateway)
+ */
+public interface FcmGateway {
+
+    /**
+     * 여러 메시지를 한 번에 전송 (최대 500개)
+     * 결과는 입력과 같은 순서로 반환
+     * 묶음 전체가 실패한 경우(네트워크, 초기화 등) 예외 발생
+     */
+    List<Result> sendEach(List<Push> pushes) throws Exception;
+
+    /**
+     * 전송할 푸시 메시지
+     */
+    record Push(String token, String title, String body, Map<String, String> data) {}
+
+    /**
+     * 메시지별 전송 결과
+     */
+    record Result(Status status, String error) {
+
+        public static Result sent() {
+            return new Result(Status.SENT, null);
+        }
+
+        public static Result of(Status status, String error) {
+            return new Result(status, error);
+        }
+    }
+
+    enum Status {
+        SENT,           // 전송 성공
+        INVALID_TOKEN,  // 등록 해제된 토큰 (UNREGISTERED) → 토큰 삭제
+        RETRYABLE,      // 일시적 오류 → 재시도
+        FAILED          // 재시도해도 의미 없는 오류
+    }
+}
@@ -0,0 +1,82 @@
+package likelion.harullala.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.ApnsConfig;
+import com.google.firebase.messaging.Aps;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+
+/**
+ * FCM 전송 게이트웨이 - Firebase Admin SDK 구현 (기본값, fcm.gateway=firebase)
+ */
+@Component
+@ConditionalOnProperty(name = "fcm.gateway", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmGateway implements FcmGateway {
+
+    @Override
+    public List<Result> sendEach(List<Push> pushes) throws FirebaseMessagingException {
+        List<Message> messages = new ArrayList<>(pushes.size());
+        for (Push push : pushes) {
+            messages.add(toMessage(push));
+        }
+
+        BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+
+        List<Result> results = new ArrayList<>(pushes.size());
+        for (SendResponse sendResponse : response.getResponses()) {
+            if (sendResponse.isSuccessful()) {
+                results.add(Result.sent());
+            } else {
+                FirebaseMessagingException e = sendResponse.getException();
+                results.add(Result.of(classify(e.getMessagingErrorCode()), e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private Message toMessage(Push push) {
+        return Message.builder()
+                .setToken(push.token())
+                .setNotification(Notification.builder()
+                        .setTitle(push.title())
+                        .setBody(push.body())
+                        .build())
+                .putAllData(push.data())
+                .setAndroidConfig(AndroidConfig.builder()
+                        .setPriority(AndroidConfig.Priority.HIGH)
+                        .build())
+                .setApnsConfig(ApnsConfig.builder()
+                        .setAps(Aps.builder()
+                                .setSound("default")
+                                .build())
+                        .build())
+                .build();
+    }
+
+    /**
+     * FCM 오류 코드 분류
+     * 토큰 삭제는 UNREGISTERED(앱 삭제/토큰 만료)만 해당
+     * INVALID_ARGUMENT(메시지 내용 오류 포함), SENDER_ID_MISMATCH(프로젝트 설정 문제)는 토큰이 유효할 수 있으므로 실패로만 처리
+     */
+    static Status classify(MessagingErrorCode errorCode) {
+        if (errorCode == null) {
+            return Status.RETRYABLE;
+        }
+        return switch (errorCode) {
+            case UNREGISTERED -> Status.INVALID_TOKEN;
+            case UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED -> Status.RETRYABLE;
+            default -> Status.FAILED;
+        };
+    }
+}
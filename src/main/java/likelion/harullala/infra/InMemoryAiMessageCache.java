@@ -0,0 +1,117 @@
+package likelion.harullala.infra;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 생성 메시지 캐시 - 인스턴스 내 메모리 구현 (기본값, ai.cache.backend=memory)
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ * - 만료된 항목은 조회 시 + 주기적으로 제거
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.cache.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryAiMessageCache implements AiMessageCache {
+
+    private final int maxSize;
+    private final LinkedHashMap<AiMessageCacheKey, Entry> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public InMemoryAiMessageCache(@Value("${ai.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AiMessageCacheKey, Entry> eldest) {
+                if (size() > InMemoryAiMessageCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (만료된 항목은 제거 후 miss 처리)
+     */
+    @Override
+    public synchronized Optional<String> get(AiMessageCacheKey key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return Optional.empty();
+        }
+        if (entry.isExpired(LocalDateTime.now(KST))) {
+            entries.remove(key);
+            evictions++;
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(entry.message());
+    }
+
+    @Override
+    public synchronized void put(AiMessageCacheKey key, String message, LocalDateTime expireAt) {
+        entries.put(key, new Entry(message, expireAt));
+    }
+
+    /**
+     * 인스턴스 내 캐시는 다른 인스턴스와 공유하지 않으므로 점유 불필요
+     */
+    @Override
+    public boolean tryClaim(AiMessageCacheKey key, Duration ttl) {
+        return true;
+    }
+
+    @Override
+    public void releaseClaim(AiMessageCacheKey key) {
+    }
+
+    /**
+     * 만료된 항목 주기적 제거 (10분마다)
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now(KST);
+        int removed = 0;
+        synchronized (this) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isExpired(now)) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            evictions += removed;
+        }
+        Stats stats = stats();
+        log.debug("AI 메시지 캐시 정리: removed={}, size={}, hits={}, misses={}, evictions={}",
+                removed, stats.size(), stats.hits(), stats.misses(), stats.evictions());
+    }
+
+    @Override
+    public synchronized Stats stats() {
+        return new Stats(entries.size(), hits, misses, evictions);
+    }
+
+    private record Entry(String message, LocalDateTime expireAt) {
+        boolean isExpired(LocalDateTime now) {
+            return !now.isBefore(expireAt);
+        }
+    }
+}
@@ -38,7 +38,7 @@ public class RecordReader {
         
         Character character = userCharacter.getSelectedCharacter();
         
-        String decryptedRecord = encryptionUtil.decrypt(record.getRecord());
+        String decryptedRecord = encryptionUtil.decrypt(record.getRecordData(), record.getRecord());
 
         return new RecRow(
                 record.getRecordId(),
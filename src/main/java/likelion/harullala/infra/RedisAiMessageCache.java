@@ -0,0 +1,117 @@
+package likelion.harullala.infra;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 생성 메시지 캐시 - Redis 구현 (ai.cache.backend=redis)
+ * 여러 인스턴스가 같은 캐시를 공유하므로 "하루 최대 2번 AI 호출"이 인스턴스 수와 무관하게 유지됨
+ * - 만료는 Redis TTL로 처리
+ * - 최대 크기는 Redis maxmemory 정책(allkeys-lru 등)으로 제한
+ * - Redis 장애 시 캐시 miss로 처리 (AI 호출로 대체)
+ * - 생성 권한은 SET NX PX로 점유 (캐시 miss가 동시에 여러 인스턴스에서 나도 AI 호출은 한 곳에서만)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.cache.backend", havingValue = "redis")
+public class RedisAiMessageCache implements AiMessageCache {
+
+    /**
+     * 값이 내 인스턴스 ID일 때만 삭제 (GET 후 DEL 사이에 만료 → 다른 인스턴스가 점유하는 경우를 막기 위해 한 번에 실행)
+     */
+    private static final RedisScript<Long> RELEASE_CLAIM = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final String claimPrefix;
+    private final String instanceId = UUID.randomUUID().toString(); // 점유 주인 표시 (다른 인스턴스의 점유를 해제하지 않도록)
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public RedisAiMessageCache(StringRedisTemplate redisTemplate,
+                               @Value("${ai.cache.redis.key-prefix:harullala:ai-message:}") String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.claimPrefix = keyPrefix + "claim:";
+    }
+
+    @Override
+    public Optional<String> get(AiMessageCacheKey key) {
+        try {
+            String message = redisTemplate.opsForValue().get(keyPrefix + key.cacheId());
+            if (message == null) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(message);
+        } catch (DataAccessException e) {
+            log.warn("Redis 캐시 조회 실패, 캐시 miss로 처리: key={}, error={}", key.cacheId(), e.getMessage());
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(AiMessageCacheKey key, String message, LocalDateTime expireAt) {
+        Duration ttl = Duration.between(LocalDateTime.now(KST), expireAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + key.cacheId(), message, ttl);
+        } catch (DataAccessException e) {
+            log.warn("Redis 캐시 저장 실패: key={}, error={}", key.cacheId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 생성 권한 점유 (SET NX PX, Redis 장애 시 점유한 것으로 처리해 AI 호출로 대체)
+     */
+    @Override
+    public boolean tryClaim(AiMessageCacheKey key, Duration ttl) {
+        try {
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(claimPrefix + key.cacheId(), instanceId, ttl);
+            return Boolean.TRUE.equals(claimed);
+        } catch (DataAccessException e) {
+            log.warn("Redis 생성 권한 점유 실패, 직접 생성: key={}, error={}", key.cacheId(), e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 생성 권한 반환 (이 인스턴스가 점유한 경우만, 이미 만료되어 다른 인스턴스가 점유했으면 그대로 둠)
+     */
+    @Override
+    public void releaseClaim(AiMessageCacheKey key) {
+        try {
+            redisTemplate.execute(RELEASE_CLAIM, List.of(claimPrefix + key.cacheId()), instanceId);
+        } catch (DataAccessException e) {
+            log.warn("Redis 생성 권한 반환 실패 (만료 후 해제됨): key={}, error={}", key.cacheId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 인스턴스 기준 hit/miss 통계 (크기와 제거 수는 Redis INFO에서 확인)
+     */
+    @Override
+    public Stats stats() {
+        return new Stats(-1, hits.get(), misses.get(), 0);
+    }
+}
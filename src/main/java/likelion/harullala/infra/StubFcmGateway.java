@@ -0,0 +1,44 @@
+package likelion.harullala.infra;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FCM 전송 게이트웨이 - 로컬 스텁 (fcm.gateway=stub)
+ * 실제로 전송하지 않고 묶음당 지연만 흉내냄 (로컬 실행, 처리량 측정용)
+ * "invalid-"로 시작하는 토큰은 만료된 토큰으로 응답
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.gateway", havingValue = "stub")
+public class StubFcmGateway implements FcmGateway {
+
+    private final Duration latency;
+
+    public StubFcmGateway(@Value("${fcm.stub.latency:50ms}") Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public List<Result> sendEach(List<Push> pushes) throws InterruptedException {
+        Thread.sleep(latency.toMillis());
+
+        List<Result> results = new ArrayList<>(pushes.size());
+        for (Push push : pushes) {
+            if (push.token().startsWith("invalid-")) {
+                results.add(Result.of(Status.INVALID_TOKEN, "stub: unregistered"));
+            } else {
+                results.add(Result.sent());
+            }
+        }
+        log.debug("FCM 스텁 전송: count={}", pushes.size());
+        return results;
+    }
+}
@@ -0,0 +1,39 @@
+package likelion.harullala.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import likelion.harullala.domain.AiFeedbackJob;
+
+@Repository
+public interface AiFeedbackJobRepository extends JpaRepository<AiFeedbackJob, Long> {
+
+    /**
+     * 처리 가능한 작업 조회 (행 잠금)
+     * - 실행 시각이 지난 대기 작업 + 점유가 만료된 처리중 작업
+     * - lock.timeout = -2 → SELECT ... FOR UPDATE SKIP LOCKED
+     *   (다른 인스턴스가 잠근 행은 건너뛰므로 인스턴스끼리 같은 작업을 가져가지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM AiFeedbackJob j " +
+           "WHERE (j.status = likelion.harullala.domain.AiFeedbackJobStatus.PENDING AND j.runAt <= :now) " +
+           "OR (j.status = likelion.harullala.domain.AiFeedbackJobStatus.RUNNING AND j.lockedUntil < :now) " +
+           "ORDER BY j.runAt ASC")
+    List<AiFeedbackJob> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM AiFeedbackJob j WHERE j.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,62 @@
+package likelion.harullala.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import likelion.harullala.domain.EmotionHeatmap;
+
+@Repository
+public interface EmotionHeatmapRepository extends JpaRepository<EmotionHeatmap, Long> {
+
+    /**
+     * 히트맵 조회 (행 잠금, 같은 사용자의 동시 기록 반영을 순서대로 처리)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM EmotionHeatmap h WHERE h.userId = :userId")
+    Optional<EmotionHeatmap> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 다시 계산한 히트맵 저장 (없으면 생성, 있으면 교체)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO emotion_heatmap (user_id, cells, record_count, updated_at) " +
+            "VALUES (:userId, :cells, :recordCount, :updatedAt) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "cells = new.cells, " +
+            "record_count = new.record_count, " +
+            "updated_at = new.updated_at",
+            nativeQuery = true)
+    void upsert(@Param("userId") Long userId,
+                @Param("cells") byte[] cells,
+                @Param("recordCount") long recordCount,
+                @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 히트맵이 있는 사용자 ID (키셋 페이지네이션, lastUserId 다음부터)
+     */
+    @Query("SELECT h.userId FROM EmotionHeatmap h WHERE h.userId > :lastUserId ORDER BY h.userId")
+    List<Long> findUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+
+    /**
+     * 반영된 기록 수가 원본 기록 수와 다른 사용자 ID (주어진 사용자 중에서만 확인)
+     */
+    @Query("SELECT h.userId FROM EmotionHeatmap h " +
+            "WHERE h.userId IN :userIds " +
+            "AND h.recordCount <> (SELECT COUNT(e) FROM EmotionRecord e WHERE e.userId = h.userId)")
+    List<Long> findStaleUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM EmotionHeatmap h WHERE h.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,88 @@
+package likelion.harullala.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import likelion.harullala.domain.EmotionMonthlyRollup;
+import likelion.harullala.domain.EmotionTimeSlot;
+
+@Repository
+public interface EmotionMonthlyRollupRepository extends JpaRepository<EmotionMonthlyRollup, Long> {
+
+    List<EmotionMonthlyRollup> findByUserIdAndMonth(Long userId, String month);
+
+    /**
+     * 기간 내 월별 집계 (월은 yyyy-MM 문자열이므로 사전순 = 시간순)
+     */
+    List<EmotionMonthlyRollup> findByUserIdAndMonthBetween(Long userId, String fromMonth, String toMonth);
+
+    Optional<EmotionMonthlyRollup> findByUserIdAndMonthAndEmotionNameAndTimeSlot(
+            Long userId, String month, String emotionName, EmotionTimeSlot timeSlot);
+
+    /**
+     * 기록 1건 추가 (없으면 생성, 있으면 누적)
+     * 더 최근 기록이면 대표 색상도 교체
+     * (MySQL은 ON DUPLICATE KEY UPDATE를 왼쪽부터 적용하므로 latest_created_at은 마지막에 갱신)
+     * 새 값은 행 별칭(new)으로 참조 (VALUES() 함수는 MySQL 8.0.20부터 deprecated, 8.0.19 이상 필요)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO emotion_monthly_rollup " +
+            "(user_id, month, emotion_name, emotion_id, time_slot, record_count, sum_x, sum_y, main_color, sub_color, text_color, latest_created_at, updated_at) " +
+            "VALUES (:userId, :month, :emotionName, :emotionId, :timeSlot, 1, :x, :y, :mainColor, :subColor, :textColor, :createdAt, NOW()) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "emotion_id = new.emotion_id, " +
+            "record_count = emotion_monthly_rollup.record_count + 1, " +
+            "sum_x = emotion_monthly_rollup.sum_x + new.sum_x, " +
+            "sum_y = emotion_monthly_rollup.sum_y + new.sum_y, " +
+            "main_color = IF(new.latest_created_at >= emotion_monthly_rollup.latest_created_at, new.main_color, emotion_monthly_rollup.main_color), " +
+            "sub_color = IF(new.latest_created_at >= emotion_monthly_rollup.latest_created_at, new.sub_color, emotion_monthly_rollup.sub_color), " +
+            "text_color = IF(new.latest_created_at >= emotion_monthly_rollup.latest_created_at, new.text_color, emotion_monthly_rollup.text_color), " +
+            "latest_created_at = GREATEST(emotion_monthly_rollup.latest_created_at, new.latest_created_at), " +
+            "updated_at = NOW()",
+            nativeQuery = true)
+    void increment(@Param("userId") Long userId,
+                   @Param("month") String month,
+                   @Param("emotionName") String emotionName,
+                   @Param("emotionId") Short emotionId,
+                   @Param("timeSlot") String timeSlot,
+                   @Param("x") double x,
+                   @Param("y") double y,
+                   @Param("mainColor") String mainColor,
+                   @Param("subColor") String subColor,
+                   @Param("textColor") String textColor,
+                   @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 기록 1건 제거
+     */
+    @Modifying
+    @Query(value = "UPDATE emotion_monthly_rollup " +
+            "SET record_count = record_count - 1, sum_x = sum_x - :x, sum_y = sum_y - :y, updated_at = NOW() " +
+            "WHERE user_id = :userId AND month = :month AND emotion_name = :emotionName AND time_slot = :timeSlot",
+            nativeQuery = true)
+    int decrement(@Param("userId") Long userId,
+                  @Param("month") String month,
+                  @Param("emotionName") String emotionName,
+                  @Param("timeSlot") String timeSlot,
+                  @Param("x") double x,
+                  @Param("y") double y);
+
+    @Modifying
+    @Query("DELETE FROM EmotionMonthlyRollup r WHERE r.userId = :userId AND r.month = :month AND r.recordCount <= 0")
+    void deleteEmptyCells(@Param("userId") Long userId, @Param("month") String month);
+
+    @Modifying
+    @Query("DELETE FROM EmotionMonthlyRollup r WHERE r.userId = :userId AND r.month = :month")
+    void deleteByUserIdAndMonth(@Param("userId") Long userId, @Param("month") String month);
+
+    @Modifying
+    @Query("DELETE FROM EmotionMonthlyRollup r WHERE r.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -1,10 +1,13 @@
 package likelion.harullala.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -37,17 +40,271 @@ public interface EmotionRecordRepository extends JpaRepository<EmotionRecord, Lo
             @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * 주어진 사용자들 중 기간 내 감정 기록이 있는 사용자 ID 조회 (친구별 COUNT 반복 대신 한 번에 조회)
+     */
+    @Query("SELECT DISTINCT e.userId FROM EmotionRecord e WHERE e.userId IN :userIds " +
+           "AND e.createdAt >= :startDate AND e.createdAt < :endDate")
+    Set<Long> findUserIdsWithRecordInDateRange(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 월별 집계 한 칸(감정 + 시간대)에서 가장 최근 기록의 색상 조회 (대표 색상 재계산용)
+     */
+    @Query("SELECT e.emotionName AS emotionName, e.createdAt AS createdAt, " +
+           "e.mainColor AS mainColor, e.subColor AS subColor, e.textColor AS textColor " +
+           "FROM EmotionRecord e WHERE e.userId = :userId AND e.emotionName = :emotionName " +
+           "AND e.createdAt >= :startDate AND e.createdAt < :endDate " +
+           "AND EXTRACT(HOUR FROM e.createdAt) >= :fromHour AND EXTRACT(HOUR FROM e.createdAt) < :toHour " +
+           "ORDER BY e.createdAt DESC")
+    List<ColorRow> findLatestColorInSlot(
+            @Param("userId") Long userId,
+            @Param("emotionName") String emotionName,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("fromHour") int fromHour,
+            @Param("toHour") int toHour,
+            Pageable pageable
+    );
+
+    /**
+     * 기간 내 감정 + 작성 시(hour)별 기록 수와 가장 최근 작성 시간 (엔티티/본문 없이 집계만 조회)
+     */
+    @Query("SELECT e.emotionName AS emotionName, e.emotionId AS emotionId, " +
+           "EXTRACT(HOUR FROM e.createdAt) AS createdHour, " +
+           "COUNT(e) AS recordCount, MAX(e.createdAt) AS latestCreatedAt " +
+           "FROM EmotionRecord e WHERE e.userId = :userId " +
+           "AND e.createdAt >= :startDate AND e.createdAt < :endDate " +
+           "GROUP BY e.emotionName, e.emotionId, EXTRACT(HOUR FROM e.createdAt)")
+    List<EmotionHourAggregate> aggregateByEmotionAndHour(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 사용자 전체 기록의 감정 + 요일 + 작성 시(hour)별 기록 수 (요일 x 시간 히트맵 재계산용)
+     * 요일은 1(일) ~ 7(토)
+     */
+    @Query("SELECT e.emotionName AS emotionName, e.emotionId AS emotionId, " +
+           "EXTRACT(DAY OF WEEK FROM e.createdAt) AS createdDayOfWeek, " +
+           "EXTRACT(HOUR FROM e.createdAt) AS createdHour, COUNT(e) AS recordCount " +
+           "FROM EmotionRecord e WHERE e.userId = :userId " +
+           "GROUP BY e.emotionName, e.emotionId, EXTRACT(DAY OF WEEK FROM e.createdAt), EXTRACT(HOUR FROM e.createdAt)")
+    List<EmotionWeekHourAggregate> aggregateByEmotionAndWeekHour(@Param("userId") Long userId);
+
+    /**
+     * 사용자 감정기록 커서 조회 (최신순, 커서 위치보다 앞선 기록, COUNT 쿼리 없음)
+     */
+    @Query("SELECT e FROM EmotionRecord e WHERE e.userId = :userId " +
+           "AND (e.createdAt < :cursorCreatedAt OR (e.createdAt = :cursorCreatedAt AND e.recordId < :cursorId)) " +
+           "ORDER BY e.createdAt DESC, e.recordId DESC")
+    Slice<EmotionRecord> findByUserIdBeforeCursor(
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 공유된 감정기록 커서 조회 (최신순, 커서 위치보다 앞선 기록, COUNT 쿼리 없음)
+     */
     @Query("SELECT e FROM EmotionRecord e WHERE e.isShared = true " +
-           "AND e.userId IN :userIds " +
-           "AND e.createdAt >= :startDate " +
+           "AND (e.createdAt < :cursorCreatedAt OR (e.createdAt = :cursorCreatedAt AND e.recordId < :cursorId)) " +
+           "ORDER BY e.createdAt DESC, e.recordId DESC")
+    Slice<EmotionRecord> findSharedBeforeCursor(
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 기간 내 공유 기록 ID 조회 (ID 순, 키셋 페이지네이션, 친구 피드 타임라인 채우기용)
+     */
+    @Query("SELECT e.recordId FROM EmotionRecord e WHERE e.isShared = true " +
+           "AND e.createdAt >= :startDate AND e.recordId > :afterId " +
+           "ORDER BY e.recordId")
+    List<Long> findSharedRecordIdsSince(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * 주어진 작성 시간들에 해당하는 기록의 색상 조회 (집계 칸별 대표 색상)
+     */
+    @Query("SELECT e.emotionName AS emotionName, e.createdAt AS createdAt, " +
+           "e.mainColor AS mainColor, e.subColor AS subColor, e.textColor AS textColor " +
+           "FROM EmotionRecord e WHERE e.userId = :userId AND e.createdAt IN :createdAts " +
            "ORDER BY e.createdAt DESC")
-    Page<EmotionRecord> findByIsSharedTrueAndUserIdInAndCreatedAtAfter(
-            @Param("userIds") List<Long> userIds,
+    List<ColorRow> findColorRowsByCreatedAtIn(
+            @Param("userId") Long userId,
+            @Param("createdAts") Collection<LocalDateTime> createdAts
+    );
+
+    /**
+     * 기간 내 기록 수와 마지막 수정 시간 (기록이 추가/수정/삭제되면 바뀌는 데이터 버전)
+     */
+    @Query("SELECT COUNT(e) AS recordCount, MAX(e.updatedAt) AS lastUpdatedAt " +
+           "FROM EmotionRecord e WHERE e.userId = :userId " +
+           "AND e.createdAt >= :startDate AND e.createdAt < :endDate")
+    DataVersion findDataVersion(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 기간 내 기록이 있는 사용자 ID를 ID 순으로 조회 (lastUserId 다음부터, 키셋 페이지네이션)
+     */
+    @Query("SELECT DISTINCT e.userId FROM EmotionRecord e WHERE e.userId > :lastUserId " +
+           "AND e.createdAt >= :startDate AND e.createdAt < :endDate " +
+           "ORDER BY e.userId")
+    List<Long> findUserIdsWithRecordsAfter(
+            @Param("lastUserId") Long lastUserId,
             @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
             Pageable pageable
     );
 
+    /**
+     * 기간 내 월별 기록 수 (추이 리포트의 집계 검증용)
+     */
+    @Query("SELECT EXTRACT(YEAR FROM e.createdAt) AS recordYear, EXTRACT(MONTH FROM e.createdAt) AS recordMonth, " +
+           "COUNT(e) AS recordCount " +
+           "FROM EmotionRecord e WHERE e.userId = :userId " +
+           "AND e.createdAt >= :startDate AND e.createdAt < :endDate " +
+           "GROUP BY EXTRACT(YEAR FROM e.createdAt), EXTRACT(MONTH FROM e.createdAt)")
+    List<MonthlyCount> countByMonth(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 사용자 전체 기록의 데이터 버전 (ETag 계산용, user_id + updated_at 인덱스만으로 조회)
+     */
+    @Query("SELECT COUNT(e) AS recordCount, MAX(e.updatedAt) AS lastUpdatedAt " +
+           "FROM EmotionRecord e WHERE e.userId = :userId")
+    DataVersion findDataVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * emotion_id 컬럼 추가 전 기록에 감정 카탈로그 ID 채우기 (카탈로그 순서 = FIELD 위치 - 1)
+     */
+    @Modifying
+    @Query(value = "UPDATE emotion_record SET emotion_id = FIELD(emotion_name, :names) - 1 " +
+            "WHERE emotion_id IS NULL AND emotion_name IN (:names)",
+            nativeQuery = true)
+    int backfillEmotionIds(@Param("names") List<String> names);
+
+    /**
+     * 기존 텍스트 형식으로 저장된 기록 (기록 ID 순, afterId 다음부터)
+     */
+    @Query("SELECT e.recordId AS recordId, e.record AS record FROM EmotionRecord e " +
+           "WHERE e.recordData IS NULL AND e.recordId > :afterId ORDER BY e.recordId ASC")
+    List<LegacyCiphertext> findLegacyCiphertexts(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 기존 텍스트 암호문을 바이너리로 교체
+     * 읽은 뒤 사용자가 수정했으면(record가 바뀜) 건너뜀, updated_at은 바꾸지 않음 (데이터 버전 유지)
+     */
+    @Modifying
+    @Query(value = "UPDATE emotion_record SET record_data = :recordData, record = '' " +
+            "WHERE record_id = :recordId AND record_data IS NULL AND record = :legacyRecord",
+            nativeQuery = true)
+    int migrateCiphertext(@Param("recordId") Long recordId,
+                          @Param("legacyRecord") String legacyRecord,
+                          @Param("recordData") byte[] recordData);
+
+    /**
+     * 바이너리 암호문 (기록 ID 순, afterId 다음부터, 다시 암호화 작업용)
+     */
+    @Query("SELECT e.recordId AS recordId, e.recordData AS recordData FROM EmotionRecord e " +
+           "WHERE e.recordData IS NOT NULL AND e.recordId > :afterId ORDER BY e.recordId ASC")
+    List<BinaryCiphertext> findBinaryCiphertexts(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 바이너리 암호문 교체
+     * 읽은 뒤 사용자가 수정했으면(record_data가 바뀜) 건너뜀, updated_at은 바꾸지 않음 (데이터 버전 유지)
+     */
+    @Modifying
+    @Query(value = "UPDATE emotion_record SET record_data = :recordData " +
+            "WHERE record_id = :recordId AND record_data = :previousData",
+            nativeQuery = true)
+    int replaceCiphertext(@Param("recordId") Long recordId,
+                          @Param("previousData") byte[] previousData,
+                          @Param("recordData") byte[] recordData);
+
     @Modifying
     @Query("DELETE FROM EmotionRecord e WHERE e.userId = :userId")
     void deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 감정 + 작성 시(hour)별 집계 행
+     */
+    interface EmotionHourAggregate {
+        String getEmotionName();
+        Short getEmotionId();
+        Integer getCreatedHour();
+        Long getRecordCount();
+        LocalDateTime getLatestCreatedAt();
+    }
+
+    /**
+     * 감정 + 요일 + 작성 시(hour)별 집계 행
+     */
+    interface EmotionWeekHourAggregate {
+        String getEmotionName();
+        Short getEmotionId();
+        Integer getCreatedDayOfWeek();
+        Integer getCreatedHour();
+        Long getRecordCount();
+    }
+
+    /**
+     * 기존 텍스트 형식 암호문 행
+     */
+    interface LegacyCiphertext {
+        Long getRecordId();
+        String getRecord();
+    }
+
+    /**
+     * 바이너리 암호문 행
+     */
+    interface BinaryCiphertext {
+        Long getRecordId();
+        byte[] getRecordData();
+    }
+
+    /**
+     * 기록 색상 행 (본문 제외)
+     */
+    interface ColorRow {
+        String getEmotionName();
+        LocalDateTime getCreatedAt();
+        String getMainColor();
+        String getSubColor();
+        String getTextColor();
+    }
+
+    /**
+     * 월별 기록 수
+     */
+    interface MonthlyCount {
+        Integer getRecordYear();
+        Integer getRecordMonth();
+        Long getRecordCount();
+    }
+
+    /**
+     * 기간 내 데이터 버전 (기록 수 + 마지막 수정 시간)
+     */
+    interface DataVersion {
+        Long getRecordCount();
+        LocalDateTime getLastUpdatedAt();
+    }
 }
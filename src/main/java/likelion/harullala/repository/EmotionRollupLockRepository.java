@@ -0,0 +1,36 @@
+package likelion.harullala.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import likelion.harullala.domain.EmotionRollupLock;
+
+@Repository
+public interface EmotionRollupLockRepository extends JpaRepository<EmotionRollupLock, Long> {
+
+    /**
+     * 재계산 잠금 행 생성 (이미 있으면 그대로)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO emotion_rollup_lock (user_id, month) VALUES (:userId, :month)",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("month") String month);
+
+    /**
+     * 재계산 잠금 (행 잠금, 트랜잭션 종료 시 해제)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM EmotionRollupLock l WHERE l.userId = :userId AND l.month = :month")
+    Optional<EmotionRollupLock> findForUpdate(@Param("userId") Long userId, @Param("month") String month);
+
+    @Modifying
+    @Query("DELETE FROM EmotionRollupLock l WHERE l.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
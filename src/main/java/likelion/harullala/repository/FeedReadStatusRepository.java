@@ -21,6 +21,25 @@ public interface FeedReadStatusRepository extends JpaRepository<FeedReadStatus,
 
     long countByEmotionRecord(EmotionRecord emotionRecord);
 
+    /**
+     * 페이지에 보이는 기록 ID 중 사용자가 읽은 기록 ID 조회
+     */
+    @Query("SELECT frs.emotionRecord.recordId FROM FeedReadStatus frs " +
+           "WHERE frs.reader.id = :readerId AND frs.emotionRecord.recordId IN :recordIds")
+    List<Long> findReadRecordIdsByReaderIdAndRecordIdIn(
+            @Param("readerId") Long readerId,
+            @Param("recordIds") List<Long> recordIds
+    );
+
+    /**
+     * 기록 ID별 읽은 사람 수 집계 (한 번의 GROUP BY 쿼리)
+     * @return [recordId, readCount] 배열 목록
+     */
+    @Query("SELECT frs.emotionRecord.recordId, COUNT(frs) FROM FeedReadStatus frs " +
+           "WHERE frs.emotionRecord.recordId IN :recordIds " +
+           "GROUP BY frs.emotionRecord.recordId")
+    List<Object[]> countByRecordIds(@Param("recordIds") List<Long> recordIds);
+
     Optional<FeedReadStatus> findByReaderAndEmotionRecord(User reader, EmotionRecord emotionRecord);
 
     @Modifying
@@ -0,0 +1,121 @@
+package likelion.harullala.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import likelion.harullala.domain.EmotionRecord;
+import likelion.harullala.domain.FriendFeedTimeline;
+
+@Repository
+public interface FriendFeedTimelineRepository extends JpaRepository<FriendFeedTimeline, Long> {
+
+    /**
+     * 기록 1건을 작성자 본인 + 친구(ACCEPTED)들의 타임라인에 추가 (이미 있으면 그대로)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO friend_feed_timeline (reader_id, record_id, author_id, created_at) " +
+            "SELECT :authorId, :recordId, :authorId, :createdAt " +
+            "UNION ALL " +
+            "SELECT CASE WHEN f.user1_id = :authorId THEN f.user2_id ELSE f.user1_id END, :recordId, :authorId, :createdAt " +
+            "FROM friend_relationships f " +
+            "WHERE (f.user1_id = :authorId OR f.user2_id = :authorId) AND f.status = 'ACCEPTED'",
+            nativeQuery = true)
+    int fanOut(@Param("recordId") Long recordId,
+               @Param("authorId") Long authorId,
+               @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 기록 ID 범위 안의 공유 기록을 작성자 본인 + 친구들의 타임라인에 추가 (시작 시 채우기용, 이미 있으면 그대로)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO friend_feed_timeline (reader_id, record_id, author_id, created_at) " +
+            "SELECT e.user_id, e.record_id, e.user_id, e.created_at FROM emotion_record e " +
+            "WHERE e.record_id BETWEEN :fromId AND :toId AND e.is_shared = true AND e.created_at >= :startDate " +
+            "UNION ALL " +
+            "SELECT CASE WHEN f.user1_id = e.user_id THEN f.user2_id ELSE f.user1_id END, e.record_id, e.user_id, e.created_at " +
+            "FROM emotion_record e " +
+            "JOIN friend_relationships f ON (f.user1_id = e.user_id OR f.user2_id = e.user_id) AND f.status = 'ACCEPTED' " +
+            "WHERE e.record_id BETWEEN :fromId AND :toId AND e.is_shared = true AND e.created_at >= :startDate",
+            nativeQuery = true)
+    int fanOutRange(@Param("fromId") Long fromId,
+                    @Param("toId") Long toId,
+                    @Param("startDate") LocalDateTime startDate);
+
+    /**
+     * 작성자의 기간 내 공유 기록을 읽는 사람의 타임라인에 추가 (친구 수락 시, 이미 있으면 그대로)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO friend_feed_timeline (reader_id, record_id, author_id, created_at) " +
+            "SELECT :readerId, e.record_id, e.user_id, e.created_at FROM emotion_record e " +
+            "WHERE e.user_id = :authorId AND e.is_shared = true AND e.created_at >= :startDate",
+            nativeQuery = true)
+    int copyAuthorRecords(@Param("readerId") Long readerId,
+                          @Param("authorId") Long authorId,
+                          @Param("startDate") LocalDateTime startDate);
+
+    /**
+     * 기록을 모든 타임라인에서 제거 (삭제, 공유 해제)
+     */
+    @Modifying
+    @Query("DELETE FROM FriendFeedTimeline t WHERE t.recordId = :recordId")
+    int deleteByRecordId(@Param("recordId") Long recordId);
+
+    /**
+     * 두 사용자 사이의 타임라인 항목 제거 (친구 삭제)
+     */
+    @Modifying
+    @Query("DELETE FROM FriendFeedTimeline t " +
+           "WHERE (t.readerId = :userId1 AND t.authorId = :userId2) " +
+           "OR (t.readerId = :userId2 AND t.authorId = :userId1)")
+    int deleteBetween(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
+
+    /**
+     * 기준 시각 이전 항목 삭제 (날짜 변경 시 정리, 한 번에 limit 건)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM friend_feed_timeline WHERE created_at < :before LIMIT :limit",
+            nativeQuery = true)
+    int deleteCreatedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * 사용자가 읽는 사람이거나 작성자인 항목 모두 삭제 (회원 탈퇴)
+     */
+    @Modifying
+    @Query("DELETE FROM FriendFeedTimeline t WHERE t.readerId = :userId OR t.authorId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 타임라인 피드 조회 (기간 내, 최신순)
+     */
+    @Query("SELECT e FROM FriendFeedTimeline t JOIN EmotionRecord e ON e.recordId = t.recordId " +
+           "WHERE t.readerId = :readerId AND t.createdAt >= :startDate AND e.isShared = true " +
+           "ORDER BY t.createdAt DESC, t.recordId DESC")
+    List<EmotionRecord> findFeed(
+            @Param("readerId") Long readerId,
+            @Param("startDate") LocalDateTime startDate,
+            Pageable pageable
+    );
+
+    /**
+     * 타임라인 피드 커서 조회 (기간 내, 최신순, 커서 위치보다 앞선 기록, COUNT 쿼리 없음)
+     */
+    @Query("SELECT e FROM FriendFeedTimeline t JOIN EmotionRecord e ON e.recordId = t.recordId " +
+           "WHERE t.readerId = :readerId AND t.createdAt >= :startDate AND e.isShared = true " +
+           "AND (t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.recordId < :cursorId)) " +
+           "ORDER BY t.createdAt DESC, t.recordId DESC")
+    Slice<EmotionRecord> findFeedBeforeCursor(
+            @Param("readerId") Long readerId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+}
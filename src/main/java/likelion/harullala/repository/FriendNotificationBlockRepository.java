@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 친구 푸시 알림 차단 Repository
@@ -26,6 +28,12 @@ public interface FriendNotificationBlockRepository extends JpaRepository<FriendN
      */
     Optional<FriendNotificationBlock> findByUserAndBlockedFriend(User user, User blockedFriend);
 
+    /**
+     * 주어진 사용자들 중 특정 친구를 차단한 사용자 ID 조회 (친구별 exists 쿼리 대신 한 번에)
+     */
+    @Query("select f.user.id from FriendNotificationBlock f where f.blockedFriend.id = :friendId and f.user.id in :userIds")
+    Set<Long> findUserIdsBlockingFriend(@Param("friendId") Long friendId, @Param("userIds") Collection<Long> userIds);
+
     @Modifying
     @Query("delete from FriendNotificationBlock f where f.user.id = :userId or f.blockedFriend.id = :userId")
     void deleteAllByUserId(@Param("userId") Long userId);
@@ -0,0 +1,33 @@
+package likelion.harullala.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import likelion.harullala.domain.JobCheckpoint;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    /**
+     * 진행 위치 조회 (행 잠금, 여러 인스턴스가 같은 묶음을 동시에 처리하지 않도록 순서대로 진행)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM JobCheckpoint c WHERE c.jobName = :jobName")
+    Optional<JobCheckpoint> findByJobNameForUpdate(@Param("jobName") String jobName);
+
+    /**
+     * 진행 위치 행 생성 (이미 있으면 그대로)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_checkpoint (job_name, target, last_id, processed_count, updated_at) " +
+            "VALUES (:jobName, :target, 0, 0, NOW())",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("jobName") String jobName, @Param("target") String target);
+}
@@ -0,0 +1,21 @@
+package likelion.harullala.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import likelion.harullala.domain.MonthlyReport;
+
+@Repository
+public interface MonthlyReportRepository extends JpaRepository<MonthlyReport, Long> {
+
+    Optional<MonthlyReport> findByUserIdAndMonth(Long userId, String month);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyReport r WHERE r.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
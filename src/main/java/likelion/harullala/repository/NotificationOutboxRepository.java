@@ -0,0 +1,44 @@
+package likelion.harullala.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import likelion.harullala.domain.NotificationOutbox;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 처리할 아웃박스 행 잠금 조회
+     * 다른 스레드/인스턴스가 처리 중이면(잠겨 있으면) 비어 있는 결과 반환 (SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.id = :id " +
+           "AND o.status = likelion.harullala.domain.NotificationOutboxStatus.PENDING")
+    Optional<NotificationOutbox> findPendingForUpdate(@Param("id") Long id);
+
+    /**
+     * 커밋 후 처리가 누락된 대기 행 조회 (재처리 스케줄러용)
+     */
+    @Query("SELECT o.id FROM NotificationOutbox o " +
+           "WHERE o.status = likelion.harullala.domain.NotificationOutboxStatus.PENDING AND o.createdAt < :before " +
+           "ORDER BY o.id ASC")
+    List<Long> findPendingIdsCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.actorId = :userId OR o.recipientId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import org.springframework.data.jpa.repository.Modifying;
@@ -26,6 +27,31 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     Page<Notification> findByUserAndCreatedAtAfterOrderByCreatedAtDesc(
         User user, LocalDateTime fromDate, Pageable pageable);
 
+    /**
+     * 사용자의 알림 커서 조회 (최신순, 커서 위치보다 앞선 알림, COUNT 쿼리 없음)
+     */
+    @Query("select n from Notification n where n.user.id = :userId " +
+           "and (n.createdAt < :cursorCreatedAt or (n.createdAt = :cursorCreatedAt and n.id < :cursorId)) " +
+           "order by n.createdAt desc, n.id desc")
+    Slice<Notification> findByUserIdBeforeCursor(
+        @Param("userId") Long userId,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
+    /**
+     * 사용자의 특정 기간 내 알림 커서 조회 (최신순, 커서 위치보다 앞선 알림, COUNT 쿼리 없음)
+     */
+    @Query("select n from Notification n where n.user.id = :userId and n.createdAt > :fromDate " +
+           "and (n.createdAt < :cursorCreatedAt or (n.createdAt = :cursorCreatedAt and n.id < :cursorId)) " +
+           "order by n.createdAt desc, n.id desc")
+    Slice<Notification> findByUserIdAndCreatedAtAfterBeforeCursor(
+        @Param("userId") Long userId,
+        @Param("fromDate") LocalDateTime fromDate,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
     /**
      * 사용자의 안읽은 알림 개수 조회
      */
@@ -3,6 +3,10 @@ package likelion.harullala.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import likelion.harullala.domain.User;
 
@@ -13,4 +17,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     // TODO: User 팀에서 추가 필요 - 친구 요청 기능을 위해 필수
     Optional<User> findByConnectCode(String connectCode);
+
+    /**
+     * 유효하지 않은 FCM 토큰 삭제 (그 사이 새 토큰으로 바뀌었으면 유지)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = NULL WHERE u.id = :userId AND u.fcmToken = :fcmToken")
+    int clearFcmToken(@Param("userId") Long userId, @Param("fcmToken") String fcmToken);
 }
@@ -0,0 +1,116 @@
+package likelion.harullala.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.harullala.domain.AiFeedbackJob;
+import likelion.harullala.repository.AiFeedbackJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 피드백 작업 큐 (DB 기반)
+ * - 작업은 ai_feedback_job 테이블에 저장되어 재시작 후에도 유지
+ * - 여러 인스턴스가 SKIP LOCKED로 서로 다른 작업을 점유 (lease 방식)
+ * - 점유한 인스턴스가 죽으면 lockedUntil 이후 다른 인스턴스가 다시 가져감
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiFeedbackJobQueue {
+
+    private final AiFeedbackJobRepository jobRepository;
+
+    private final String workerId = resolveWorkerId();
+
+    @Value("${ai.feedback.job.lease:120s}")
+    private Duration lease; // 작업 점유 시간
+
+    @Value("${ai.feedback.job.max-retries:3}")
+    private int maxRetries; // 최대 시도 횟수 (초과 시 FAILED)
+
+    @Value("${ai.feedback.job.retry-backoff:30s}")
+    private Duration retryBackoff; // 재시도 기본 대기 시간 (시도마다 2배)
+
+    /**
+     * 작업 등록 (호출한 트랜잭션에 함께 커밋)
+     */
+    @Transactional
+    public void enqueue(Long recordId, Long userId, Long characterId, int attemptsUsed, Duration delay) {
+        AiFeedbackJob job = AiFeedbackJob.builder()
+                .recordId(recordId)
+                .userId(userId)
+                .characterId(characterId)
+                .attemptsUsed(attemptsUsed)
+                .runAt(LocalDateTime.now().plus(delay))
+                .build();
+        jobRepository.save(job);
+    }
+
+    /**
+     * 처리할 작업을 최대 limit개 점유
+     */
+    @Transactional
+    public List<AiFeedbackJob> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<AiFeedbackJob> jobs = jobRepository.findClaimable(now, PageRequest.of(0, limit));
+
+        LocalDateTime lockedUntil = now.plus(lease);
+        jobs.forEach(job -> job.claim(workerId, lockedUntil));
+
+        if (!jobs.isEmpty()) {
+            log.debug("AI 피드백 작업 점유: worker={}, count={}", workerId, jobs.size());
+        }
+        return jobs;
+    }
+
+    /**
+     * 작업 완료 → 삭제
+     * (점유가 만료되어 다른 인스턴스가 가져간 작업은 건드리지 않음)
+     */
+    @Transactional
+    public void complete(Long jobId) {
+        jobRepository.findById(jobId)
+                .filter(job -> workerId.equals(job.getLockedBy()))
+                .ifPresent(jobRepository::delete);
+    }
+
+    /**
+     * 작업 실패 → 재시도 예약 또는 FAILED 처리
+     */
+    @Transactional
+    public void retryOrFail(Long jobId, Throwable error) {
+        jobRepository.findById(jobId)
+                .filter(job -> workerId.equals(job.getLockedBy()))
+                .ifPresent(job -> {
+                    String message = error.getMessage();
+                    if (job.getRetryCount() + 1 >= maxRetries) {
+                        job.fail(message);
+                        log.error("AI 피드백 작업 최종 실패: jobId={}, recordId={}, error={}", jobId, job.getRecordId(), message);
+                    } else {
+                        Duration backoff = retryBackoff.multipliedBy(1L << job.getRetryCount());
+                        job.retryAt(LocalDateTime.now().plus(backoff), message);
+                        log.warn("AI 피드백 작업 재시도 예약: jobId={}, recordId={}, {}초 후", jobId, job.getRecordId(), backoff.toSeconds());
+                    }
+                });
+    }
+
+    private static String resolveWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
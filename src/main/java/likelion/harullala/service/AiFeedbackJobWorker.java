@@ -0,0 +1,72 @@
+package likelion.harullala.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import likelion.harullala.domain.AiFeedbackJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 피드백 작업 폴러
+ * 주기적으로 실행 시각이 된 작업을 묶음으로 점유하고 비동기로 처리
+ * (AI 호출 자체는 ChatGptClient의 aiExecutor에서 진행되므로 처리량은 스레드 수 5개에 묶이지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiFeedbackJobWorker {
+
+    private final AiFeedbackJobQueue jobQueue;
+    private final AiFeedbackService aiFeedbackService;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Value("${ai.feedback.job.batch-size:20}")
+    private int batchSize; // 한 번에 점유할 최대 작업 수
+
+    @Value("${ai.feedback.job.max-in-flight:40}")
+    private int maxInFlight; // 이 인스턴스에서 동시에 처리 중인 최대 작업 수
+
+    @Scheduled(fixedDelayString = "${ai.feedback.job.poll-interval-ms:5000}")
+    public void poll() {
+        int capacity = Math.min(batchSize, maxInFlight - inFlight.get());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<AiFeedbackJob> jobs = jobQueue.claimBatch(capacity);
+        for (AiFeedbackJob job : jobs) {
+            inFlight.incrementAndGet();
+
+            CompletableFuture<Void> processing;
+            try {
+                processing = aiFeedbackService.processJob(job);
+            } catch (RuntimeException e) {
+                processing = CompletableFuture.failedFuture(e);
+            }
+
+            processing.whenComplete((ignored, error) -> {
+                try {
+                    if (error == null) {
+                        jobQueue.complete(job.getJobId());
+                    } else {
+                        log.error("AI 피드백 작업 실패: jobId={}, recordId={}, error={}",
+                                job.getJobId(), job.getRecordId(), error.getMessage(), error);
+                        jobQueue.retryOrFail(job.getJobId(), error);
+                    }
+                } catch (Exception e) {
+                    // 상태 갱신 실패 시 점유 만료 후 다시 처리됨
+                    log.error("AI 피드백 작업 상태 갱신 실패: jobId={}, error={}", job.getJobId(), e.getMessage(), e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+}
@@ -1,20 +1,21 @@
 package likelion.harullala.service;
 
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import likelion.harullala.domain.AiFeedback;
+import likelion.harullala.domain.AiFeedbackJob;
 import likelion.harullala.domain.Character;
 import likelion.harullala.domain.NotificationType;
 import likelion.harullala.dto.CreateFeedbackRequest;
 import likelion.harullala.dto.FeedbackDto;
 import likelion.harullala.exception.ApiException;
+import likelion.harullala.infra.CharacterPersona;
 import likelion.harullala.infra.ChatGptClient;
 import likelion.harullala.infra.RecordReader;
 import likelion.harullala.repository.AiFeedbackRepository;
@@ -35,7 +36,7 @@ public class AiFeedbackService {
     private final ChatGptClient chatGptClient;
     private final NotificationService notificationService;
     private final CharacterRepository characterRepository;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(5);
+    private final AiFeedbackJobQueue jobQueue;
 
     public FeedbackDto createOrRegenerate(Long requester, CreateFeedbackRequest req) {
 
@@ -61,15 +62,9 @@ public class AiFeedbackService {
         log.info("AI 피드백 생성 요청: recordId={}, userId={}, characterId={}, {}분 후 전송 예정", 
                 req.recordId(), requester, characterToUse.getId(), DELAY_MINUTES);
         
-        // 1분 후에 백그라운드에서 비동기로 AI 답변 생성
-        Long characterIdToSave = characterToUse.getId(); // 스케줄러에서 사용할 캐릭터 ID 저장
-        scheduler.schedule(() -> {
-            try {
-                generateAndSendFeedbackAsync(rec.recordId(), rec.userId(), rec.text(), characterToUse, characterIdToSave, next);
-            } catch (Exception e) {
-                log.error("AI 피드백 생성 및 전송 실패: recordId={}, error={}", rec.recordId(), e.getMessage(), e);
-            }
-        }, DELAY_MINUTES, TimeUnit.MINUTES);
+        // 1분 후 처리되도록 작업 등록 (AiFeedbackJobWorker가 runAt 이후 처리)
+        Long characterIdToSave = characterToUse.getId(); // 작업 처리 시 사용할 캐릭터 ID 저장
+        jobQueue.enqueue(rec.recordId(), rec.userId(), characterIdToSave, next, Duration.ofMinutes(DELAY_MINUTES));
         
         // 기존 피드백이 있으면 반환, 없으면 "처리 중" 응답 반환
         if (f != null) {
@@ -91,61 +86,85 @@ public class AiFeedbackService {
     }
 
     /**
-     * AI 피드백 생성 및 알림 전송 (1분 후 비동기 처리)
+     * 점유한 AI 피드백 작업 처리
+     * 감정 기록은 처리 시점에 다시 조회 (작업 테이블에는 원문을 저장하지 않음)
+     */
+    public CompletableFuture<Void> processJob(AiFeedbackJob job) {
+        var rec = recordReader.findActiveRecord(job.getRecordId());
+        if (rec == null) {
+            // 기록이 삭제된 경우 작업 종료
+            log.info("AI 피드백 작업 대상 기록 없음: jobId={}, recordId={}", job.getJobId(), job.getRecordId());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // 요청 시점의 캐릭터 사용 (삭제되었으면 현재 캐릭터)
+        Character character = job.getCharacterId() != null
+                ? characterRepository.findById(job.getCharacterId()).orElse(rec.character())
+                : rec.character();
+
+        // 지연 로딩 프록시일 수 있으므로 AI 호출 스레드로 넘기기 전에 값만 복사
+        CharacterPersona persona = CharacterPersona.of(character);
+
+        return generateAndSendFeedbackAsync(rec.recordId(), rec.userId(), rec.text(), persona, character.getId(), job.getAttemptsUsed());
+    }
+
+    /**
+     * AI 피드백 생성 및 알림 전송
+     * AI 응답은 aiExecutor에서 기다리므로 호출 스레드는 바로 반환됨
+     * 저장 실패 시 예외로 완료되어 작업이 재시도됨
      */
-    @Transactional
-    public void generateAndSendFeedbackAsync(Long recordId, Long userId, String text, likelion.harullala.domain.Character character, Long characterId, int attemptsUsed) {
+    public CompletableFuture<Void> generateAndSendFeedbackAsync(Long recordId, Long userId, String text, CharacterPersona persona, Long characterId, int attemptsUsed) {
         log.info("AI 피드백 생성 시작: recordId={}, userId={}, characterId={}, text 길이={}", 
                 recordId, userId, characterId, text != null ? text.length() : 0);
         
+        // AI 답변 생성
+        log.info("ChatGPT API 호출 시작: recordId={}, characterName={}", recordId, persona != null ? persona.name() : "null");
+        return chatGptClient.generateFeedbackAsync(text, persona)
+                .thenAccept(aiReply -> saveFeedbackAndNotify(recordId, userId, characterId, attemptsUsed, aiReply));
+    }
+
+    /**
+     * 생성된 AI 피드백 저장 및 푸시 알림 전송
+     */
+    private void saveFeedbackAndNotify(Long recordId, Long userId, Long characterId, int attemptsUsed, String aiReply) {
+        log.info("ChatGPT API 응답 받음: recordId={}, 응답 길이={}, 응답 내용={}", 
+                recordId, aiReply != null ? aiReply.length() : 0, aiReply);
+        
+        // 피드백 저장
+        AiFeedback f = feedbackRepo.findByRecordId(recordId).orElse(null);
+        if (f == null) {
+            // 첫 생성: 캐릭터 정보 저장
+            f = new AiFeedback();
+            f.setRecordId(recordId);
+            f.setUserId(userId);
+            f.setAttemptsUsed(attemptsUsed);
+            f.setAiReply(aiReply);
+            f.setCharacterId(characterId); // 첫 생성 시 캐릭터 ID 저장
+            log.info("새 AI 피드백 생성: recordId={}", recordId);
+        } else {
+            // 재생성: 답변, 시도 횟수, 캐릭터 ID 모두 업데이트 (현재 활성 캐릭터 반영)
+            f.setAttemptsUsed(attemptsUsed);
+            f.setAiReply(aiReply);
+            f.setCharacterId(characterId); // 현재 활성 캐릭터로 업데이트
+            log.info("AI 피드백 재생성: recordId={}, attemptsUsed={}", recordId, attemptsUsed);
+        }
+        AiFeedback saved = feedbackRepo.saveAndFlush(f);
+        
+        log.info("AI 피드백 저장 완료: recordId={}, userId={}, aiReply={}", recordId, userId, saved.getAiReply());
+        
+        // 푸시 알림 전송
         try {
-            // AI 답변 생성
-            log.info("ChatGPT API 호출 시작: recordId={}, characterName={}", recordId, character != null ? character.getName() : "null");
-            String aiReply = chatGptClient.generateFeedback(text, character);
-            log.info("ChatGPT API 응답 받음: recordId={}, 응답 길이={}, 응답 내용={}", 
-                    recordId, aiReply != null ? aiReply.length() : 0, aiReply);
-
-            // 피드백 저장
-            AiFeedback f = feedbackRepo.findByRecordId(recordId).orElse(null);
-            if (f == null) {
-                // 첫 생성: 캐릭터 정보 저장
-                f = new AiFeedback();
-                f.setRecordId(recordId);
-                f.setUserId(userId);
-                f.setAttemptsUsed(attemptsUsed);
-                f.setAiReply(aiReply);
-                f.setCharacterId(characterId); // 첫 생성 시 캐릭터 ID 저장
-                log.info("새 AI 피드백 생성: recordId={}", recordId);
-            } else {
-                // 재생성: 답변, 시도 횟수, 캐릭터 ID 모두 업데이트 (현재 활성 캐릭터 반영)
-                f.setAttemptsUsed(attemptsUsed);
-                f.setAiReply(aiReply);
-                f.setCharacterId(characterId); // 현재 활성 캐릭터로 업데이트
-                log.info("AI 피드백 재생성: recordId={}, attemptsUsed={}", recordId, attemptsUsed);
-            }
-            AiFeedback saved = feedbackRepo.saveAndFlush(f);
-            
-            log.info("AI 피드백 저장 완료: recordId={}, userId={}, aiReply={}", recordId, userId, saved.getAiReply());
-            
-            // 푸시 알림 전송
-            try {
-                log.info("푸시 알림 전송 시작: userId={}, recordId={}", userId, recordId);
-                notificationService.sendNotification(
-                    userId,
-                    NotificationType.AI_FEEDBACK,
-                    "AI 피드백이 도착했어요",
-                    "오늘의 감정에 대한 AI 피드백을 확인해보세요",
-                    saved.getRecordId()  // recordId를 relatedId로 전달 (AI 피드백 조회 API가 recordId를 사용)
-                );
-                log.info("AI 피드백 푸시 알림 전송 완료: recordId={}, userId={}", recordId, userId);
-            } catch (Exception e) {
-                log.error("AI 피드백 푸시 알림 전송 실패: recordId={}, userId={}, error={}", recordId, userId, e.getMessage(), e);
-                e.printStackTrace();
-            }
-            
+            log.info("푸시 알림 전송 시작: userId={}, recordId={}", userId, recordId);
+            notificationService.sendNotification(
+                userId,
+                NotificationType.AI_FEEDBACK,
+                "AI 피드백이 도착했어요",
+                "오늘의 감정에 대한 AI 피드백을 확인해보세요",
+                saved.getRecordId()  // recordId를 relatedId로 전달 (AI 피드백 조회 API가 recordId를 사용)
+            );
+            log.info("AI 피드백 푸시 알림 전송 완료: recordId={}, userId={}", recordId, userId);
         } catch (Exception e) {
-            log.error("AI 피드백 생성 실패: recordId={}, userId={}, error={}", recordId, userId, e.getMessage(), e);
-            e.printStackTrace();
+            log.error("AI 피드백 푸시 알림 전송 실패: recordId={}, userId={}, error={}", recordId, userId, e.getMessage(), e);
         }
     }
 
@@ -0,0 +1,32 @@
+package likelion.harullala.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.harullala.repository.EmotionRecordRepository;
+import likelion.harullala.util.EmotionCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * emotion_id 컬럼 추가 전에 저장된 감정 기록에 감정 카탈로그 ID 채우기
+ * 서버 시작 시 한 번 실행 (이미 채워진 기록은 건너뛰므로 반복 실행해도 안전)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmotionCatalogBackfill {
+
+    private final EmotionRecordRepository emotionRecordRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int updated = emotionRecordRepository.backfillEmotionIds(EmotionCatalog.names());
+        if (updated > 0) {
+            log.info("감정 카탈로그 ID 채우기 완료: {}건", updated);
+        }
+    }
+}
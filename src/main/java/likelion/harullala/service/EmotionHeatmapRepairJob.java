@@ -0,0 +1,83 @@
+package likelion.harullala.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 감정 히트맵 보정 작업
+ * 히트맵이 있는 사용자를 ID 순으로 묶음 단위 순회하며 반영된 기록 수를 원본과 비교하고,
+ * 다른 사용자만 원본에서 다시 계산 (조회 경로에서는 원본을 세지 않음)
+ * 묶음은 진행 위치(job_checkpoint)를 잠그고 점유하므로 모든 인스턴스가 동시에 실행해도 사용자를 나눠 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmotionHeatmapRepairJob {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final EmotionHeatmapService heatmapService;
+    private final Executor jobExecutor; // 백그라운드 작업 스레드 (AsyncConfig)
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${emotion.heatmap.repair.chunk-size:500}")
+    private int chunkSize; // 한 번에 원본과 비교할 사용자 수
+
+    @Value("${emotion.heatmap.repair.pause-between-chunks:200ms}")
+    private Duration pauseBetweenChunks; // 묶음 사이 대기 시간
+
+    /**
+     * 히트맵 보정 (기본값: 매일 04:30 KST)
+     */
+    @Scheduled(cron = "${emotion.heatmap.repair.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void repairAll() {
+        LocalDate runDate = LocalDate.now(KST);
+        jobExecutor.execute(() -> run(runDate));
+    }
+
+    /**
+     * 지정한 실행일의 보정 진행 (이 인스턴스에서 이미 실행 중이면 건너뜀)
+     */
+    public void run(LocalDate runDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("감정 히트맵 보정이 이미 실행 중입니다: runDate={}", runDate);
+            return;
+        }
+
+        int checked = 0;
+        int repaired = 0;
+        try {
+            List<Long> userIds;
+            while (!(userIds = heatmapService.claimNextRepairUsers(runDate, chunkSize)).isEmpty()) {
+                for (Long userId : heatmapService.findStaleUserIds(userIds)) {
+                    if (heatmapService.repair(userId)) {
+                        repaired++;
+                    }
+                }
+                checked += userIds.size();
+                Thread.sleep(pauseBetweenChunks.toMillis());
+            }
+            log.info("감정 히트맵 보정 완료: runDate={}, checked={}, repaired={}", runDate, checked, repaired);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("감정 히트맵 보정 중단: runDate={}, checked={}, repaired={}", runDate, checked, repaired);
+        } catch (RuntimeException e) {
+            log.error("감정 히트맵 보정 실패: runDate={}, checked={}, repaired={}, error={}",
+                    runDate, checked, repaired, e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package likelion.harullala.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.harullala.domain.EmotionHeatmap;
+import likelion.harullala.domain.EmotionRecord;
+import likelion.harullala.domain.JobCheckpoint;
+import likelion.harullala.dto.EmotionHeatmapResponse;
+import likelion.harullala.repository.EmotionHeatmapRepository;
+import likelion.harullala.repository.EmotionRecordRepository;
+import likelion.harullala.repository.JobCheckpointRepository;
+import likelion.harullala.repository.EmotionRecordRepository.EmotionWeekHourAggregate;
+import likelion.harullala.util.EmotionCoordinateMapper;
+import likelion.harullala.util.EmotionCoordinateMapper.Coordinate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요일 x 시간 감정 히트맵 관리
+ * - 감정 기록 작성/수정/삭제 트랜잭션 안에서 해당 칸만 갱신 (사용자당 한 행을 잠그고 교체)
+ * - 히트맵 행은 처음 조회할 때 원본에서 계산해 생성 (행이 없으면 기록 반영은 건너뜀)
+ * - 조회는 저장된 행을 그대로 믿고 원본을 읽지 않음
+ * - 반영된 기록 수가 원본과 다른 행(기존 데이터, 장애 등)은 보정 작업(EmotionHeatmapRepairJob)이 다시 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EmotionHeatmapService {
+
+    private static final List<String> DAY_NAMES = List.of("월", "화", "수", "목", "금", "토", "일");
+    private static final String REPAIR_JOB_NAME = "heatmap-repair";
+
+    private final EmotionHeatmapRepository heatmapRepository;
+    private final EmotionRecordRepository emotionRecordRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+
+    /**
+     * 기록 추가 반영
+     */
+    public void recordAdded(EmotionRecord record) {
+        Coordinate coordinate = coordinateOf(record.getEmotionId(), record.getEmotionName());
+        heatmapRepository.findByUserIdForUpdate(record.getUserId())
+                .ifPresent(heatmap -> heatmap.add(
+                        EmotionHeatmap.cellOf(record.getCreatedAt()), coordinate.getX(), coordinate.getY()));
+    }
+
+    /**
+     * 기록 제거 반영 (삭제, 또는 수정 전 값)
+     */
+    public void recordRemoved(Long userId, String emotionName, LocalDateTime createdAt) {
+        Coordinate coordinate = EmotionCoordinateMapper.getCoordinate(emotionName);
+        heatmapRepository.findByUserIdForUpdate(userId)
+                .ifPresent(heatmap -> heatmap.remove(
+                        EmotionHeatmap.cellOf(createdAt), coordinate.getX(), coordinate.getY()));
+    }
+
+    /**
+     * 기록 수정 반영 (감정이 바뀌었을 수 있으므로 이전 값 제거 후 새 값 추가)
+     */
+    public void recordChanged(String previousEmotionName, EmotionRecord record) {
+        recordRemoved(record.getUserId(), previousEmotionName, record.getCreatedAt());
+        recordAdded(record);
+    }
+
+    /**
+     * 히트맵 조회 (저장된 한 행만 읽음, 행이 없을 때만 원본에서 계산)
+     */
+    public EmotionHeatmapResponse getHeatmap(Long userId) {
+        EmotionHeatmap.Counters counters = heatmapRepository.findById(userId)
+                .map(EmotionHeatmap::counters)
+                .orElseGet(() -> rebuild(userId));
+
+        return toResponse(counters);
+    }
+
+    /**
+     * 보정할 다음 사용자 묶음 점유 (진행 위치 job_checkpoint를 잠그고 넘김, 실행일이 바뀌면 처음부터)
+     * 여러 인스턴스가 동시에 보정해도 같은 사용자를 나눠 갖지 않음
+     * @return 히트맵이 있는 사용자 ID 목록 (모두 점유되었으면 빈 목록)
+     */
+    public List<Long> claimNextRepairUsers(LocalDate runDate, int chunkSize) {
+        String target = runDate.toString();
+        jobCheckpointRepository.insertIfAbsent(REPAIR_JOB_NAME, target);
+        JobCheckpoint checkpoint = jobCheckpointRepository.findByJobNameForUpdate(REPAIR_JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("작업 진행 위치를 찾을 수 없습니다: " + REPAIR_JOB_NAME));
+
+        if (!target.equals(checkpoint.getTarget())) {
+            checkpoint.restart(target);
+        }
+        if (checkpoint.isCompleted()) {
+            return List.of();
+        }
+
+        List<Long> userIds = heatmapRepository.findUserIdsAfter(checkpoint.getLastId(), PageRequest.of(0, chunkSize));
+        if (userIds.isEmpty()) {
+            checkpoint.complete();
+            return List.of();
+        }
+
+        checkpoint.advance(userIds.get(userIds.size() - 1), userIds.size());
+        return userIds;
+    }
+
+    /**
+     * 반영된 기록 수가 원본과 다른 사용자 ID (주어진 사용자 중에서만 확인, 잠금 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findStaleUserIds(List<Long> userIds) {
+        return userIds.isEmpty() ? List.of() : heatmapRepository.findStaleUserIds(userIds);
+    }
+
+    /**
+     * 히트맵 보정 (행을 잠근 뒤 원본 기록 수와 비교하고, 다르면 원본에서 다시 계산)
+     * 잠금을 먼저 잡으므로 그사이 커밋된 기록까지 읽고, 진행 중인 기록 반영은 보정이 끝난 뒤 적용됨
+     * @return 다시 계산했으면 true
+     */
+    public boolean repair(Long userId) {
+        Optional<EmotionHeatmap> heatmap = heatmapRepository.findByUserIdForUpdate(userId);
+        if (heatmap.isEmpty()) {
+            return false;
+        }
+
+        long recordCount = emotionRecordRepository.findDataVersionByUserId(userId).getRecordCount();
+        if (heatmap.get().getRecordCount() == recordCount) {
+            return false;
+        }
+
+        log.warn("감정 히트맵 기록 수 불일치: userId={}, heatmap={}, records={}",
+                userId, heatmap.get().getRecordCount(), recordCount);
+        rebuild(userId);
+        return true;
+    }
+
+    /**
+     * 히트맵을 원본 기록에서 다시 계산해 저장
+     */
+    private EmotionHeatmap.Counters rebuild(Long userId) {
+        EmotionHeatmap.Counters counters = new EmotionHeatmap.Counters();
+        for (EmotionWeekHourAggregate aggregate : emotionRecordRepository.aggregateByEmotionAndWeekHour(userId)) {
+            // 1(일) ~ 7(토) → 월=0 ~ 일=6
+            int day = (aggregate.getCreatedDayOfWeek() + 5) % EmotionHeatmap.DAYS;
+            int cell = day * EmotionHeatmap.HOURS + aggregate.getCreatedHour();
+            int count = aggregate.getRecordCount().intValue();
+            Coordinate coordinate = coordinateOf(aggregate.getEmotionId(), aggregate.getEmotionName());
+
+            counters.counts[cell] += count;
+            counters.sumX[cell] += coordinate.getX() * count;
+            counters.sumY[cell] += coordinate.getY() * count;
+        }
+
+        heatmapRepository.upsert(userId, counters.encode(), counters.total(), LocalDateTime.now());
+        log.info("감정 히트맵 재계산: userId={}, records={}", userId, counters.total());
+        return counters;
+    }
+
+    private EmotionHeatmapResponse toResponse(EmotionHeatmap.Counters counters) {
+        int[][] counts = new int[EmotionHeatmap.DAYS][EmotionHeatmap.HOURS];
+        Double[][] avgX = new Double[EmotionHeatmap.DAYS][EmotionHeatmap.HOURS];
+        Double[][] avgY = new Double[EmotionHeatmap.DAYS][EmotionHeatmap.HOURS];
+
+        for (int day = 0; day < EmotionHeatmap.DAYS; day++) {
+            for (int hour = 0; hour < EmotionHeatmap.HOURS; hour++) {
+                int cell = day * EmotionHeatmap.HOURS + hour;
+                int count = counters.counts[cell];
+                counts[day][hour] = count;
+                if (count > 0) {
+                    avgX[day][hour] = Math.round(counters.sumX[cell] / count * 100.0) / 100.0;
+                    avgY[day][hour] = Math.round(counters.sumY[cell] / count * 100.0) / 100.0;
+                }
+            }
+        }
+
+        return EmotionHeatmapResponse.builder()
+                .total_count((int) counters.total())
+                .days(DAY_NAMES)
+                .counts(counts)
+                .avg_position_x(avgX)
+                .avg_position_y(avgY)
+                .build();
+    }
+
+    private static Coordinate coordinateOf(Short emotionId, String emotionName) {
+        return emotionId != null
+                ? EmotionCoordinateMapper.getCoordinate(emotionId)
+                : EmotionCoordinateMapper.getCoordinate(emotionName);
+    }
+}
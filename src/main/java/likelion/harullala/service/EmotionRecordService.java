@@ -1,9 +1,7 @@
 package likelion.harullala.service;
 
 import likelion.harullala.domain.EmotionRecord;
-import likelion.harullala.domain.FriendRelationship;
-import likelion.harullala.domain.NotificationType;
-import likelion.harullala.domain.User;
+import likelion.harullala.dto.CursorPageResponse;
 import likelion.harullala.dto.EmotionCreateRequest;
 import likelion.harullala.dto.EmotionDeleteResponse;
 import likelion.harullala.dto.EmotionListResponse;
@@ -13,39 +11,43 @@ import likelion.harullala.dto.EmotionUpdateResponse;
 import likelion.harullala.exception.EmotionRecordNotFoundException;
 import likelion.harullala.exception.ForbiddenAccessException;
 import likelion.harullala.repository.EmotionRecordRepository;
-import likelion.harullala.repository.FriendNotificationBlockRepository;
-import likelion.harullala.repository.FriendRelationshipRepository;
-import likelion.harullala.repository.UserRepository;
+import likelion.harullala.repository.EmotionRecordRepository.DataVersion;
 import likelion.harullala.util.EncryptionUtil;
+import likelion.harullala.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class EmotionRecordService {
 
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     private final EmotionRecordRepository emotionRecordRepository;
-    private final FriendRelationshipRepository friendRelationshipRepository;
-    private final FriendNotificationBlockRepository friendNotificationBlockRepository;
-    private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final EmotionRollupService emotionRollupService;
+    private final EmotionHeatmapService emotionHeatmapService;
+    private final FriendFeedTimelineService friendFeedTimelineService;
     private final EncryptionUtil encryptionUtil;
 
     @Transactional
     public EmotionResponse createEmotionRecord(Long userId, EmotionCreateRequest request) {
         // 감정 기록 엔티티 생성 (색상, 감정명 포함)
-        String encryptedRecord = encryptionUtil.encrypt(request.getRecord());
+        byte[] encryptedRecord = encryptionUtil.encryptToBytes(request.getRecord());
         EmotionRecord emotionRecord = EmotionRecord.builder()
                 .userId(userId)
-                .record(encryptedRecord)
+                .recordData(encryptedRecord)
                 .emotionName(request.getEmotion_name())
                 .mainColor(request.getMain_color())
                 .subColor(request.getSub_color())
@@ -57,61 +59,22 @@ public class EmotionRecordService {
         // 저장
         EmotionRecord savedRecord = emotionRecordRepository.save(emotionRecord);
 
-        // 친구들에게 알림 발송
-        try {
-            sendFriendNotifications(userId, savedRecord.getRecordId());
-        } catch (Exception e) {
-            // 알림 전송 실패해도 감정 기록 생성은 정상 처리
-        }
+        // 월별 감정 집계 + 히트맵 반영
+        emotionRollupService.recordAdded(savedRecord);
+        emotionHeatmapService.recordAdded(savedRecord);
+
+        // 공유 기록이면 친구 피드 타임라인에 추가
+        friendFeedTimelineService.recordAdded(savedRecord);
+
+        // 친구들에게 알림 발송 (아웃박스에 저장 → 커밋 후 비동기 발송)
+        notificationOutboxService.friendEmotionRecorded(userId, savedRecord.getRecordId());
 
         // Decrypt for response
-        String decryptedRecord = encryptionUtil.decrypt(savedRecord.getRecord());
+        String decryptedRecord = encryptionUtil.decrypt(savedRecord.getRecordData(), savedRecord.getRecord());
         // Response로 변환하여 반환
         return EmotionResponse.from(savedRecord, decryptedRecord);
     }
 
-    /**
-     * 친구들에게 감정 기록 알림 발송
-     */
-    private void sendFriendNotifications(Long userId, Long recordId) {
-        // 사용자 정보 조회
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-            return;
-        }
-
-        // 친구 목록 조회
-        List<FriendRelationship> friendships = friendRelationshipRepository.findAcceptedFriendsByUserId(userId);
-
-        // 각 친구에게 알림 발송 (차단되지 않은 친구만)
-        for (FriendRelationship friendship : friendships) {
-            Long friendId = friendship.getOtherUserId(userId);
-            
-            // 친구가 나를 차단했는지 확인
-            User friend = userRepository.findById(friendId).orElse(null);
-            if (friend == null) {
-                continue;
-            }
-            
-            // 차단 여부 확인
-            boolean isBlocked = friendNotificationBlockRepository.existsByUserAndBlockedFriend(friend, user);
-            
-            try {
-                // 차단된 친구의 경우 DB에는 저장하되 FCM 푸시만 차단
-                notificationService.sendNotification(
-                    friendId,
-                    NotificationType.FRIEND_EMOTION_RECORD,
-                    "친구가 감정 기록을 작성했어요",
-                    user.getNickname() + "님이 오늘의 감정을 기록했어요",
-                    recordId,
-                    isBlocked  // 차단된 경우 skipPush=true로 설정하여 FCM만 차단
-                );
-            } catch (Exception e) {
-                // 개별 알림 실패는 로그만 남기고 계속 진행
-            }
-        }
-    }
-
     /**
      * 감정기록 목록 조회 (페이지네이션)
      */
@@ -124,12 +87,41 @@ public class EmotionRecordService {
                 .findByUserIdOrderByCreatedAtDesc(userId, pageable);
         
         // DTO로 변환
-        return emotionRecords.getContent().stream()
-                .map(record -> {
-                    String decryptedRecord = encryptionUtil.decrypt(record.getRecord());
-                    return EmotionListResponse.from(record, decryptedRecord);
-                })
-                .collect(Collectors.toList());
+        return toListResponses(emotionRecords.getContent());
+    }
+
+    /**
+     * 감정기록 목록 커서 조회 (최신순, 깊이와 무관하게 같은 비용, COUNT 쿼리 없음)
+     * @param cursor 이전 응답의 next_cursor (생략 시 첫 페이지)
+     */
+    public CursorPageResponse<EmotionListResponse> getEmotionRecordSlice(Long userId, String cursor, int size) {
+        PageCursor position = PageCursor.decode(cursor);
+        Slice<EmotionRecord> emotionRecords = emotionRecordRepository
+                .findByUserIdBeforeCursor(userId, position.createdAt(), position.id(), PageCursor.pageOf(size));
+
+        return CursorPageResponse.of(toListResponses(emotionRecords.getContent()), emotionRecords, EmotionRecordService::cursorOf);
+    }
+
+    /**
+     * 사용자 감정기록 데이터 버전 ETag (조건부 GET용)
+     * 기록이 추가/수정/삭제되면 기록 수 또는 마지막 수정 시간이 바뀌어 새 값이 됨
+     * 월을 생략한 리포트는 현재 월 기준이므로 현재 월도 포함
+     */
+    public String getDataVersionEtag(Long userId) {
+        return getDataVersionEtag(userId, null);
+    }
+
+    /**
+     * 기록 외의 값에 따라서도 달라지는 응답의 ETag
+     * @param variant 응답을 바꾸는 추가 조건 (예: 선택한 캐릭터, null이면 생략)
+     */
+    public String getDataVersionEtag(Long userId, String variant) {
+        DataVersion version = emotionRecordRepository.findDataVersionByUserId(userId);
+        long lastUpdated = version.getLastUpdatedAt() != null
+                ? version.getLastUpdatedAt().atZone(KST).toInstant().toEpochMilli()
+                : 0L;
+        String suffix = variant != null ? "-" + variant : "";
+        return "\"" + userId + "-" + version.getRecordCount() + "-" + lastUpdated + "-" + YearMonth.now(KST) + suffix + "\"";
     }
 
     /**
@@ -145,7 +137,7 @@ public class EmotionRecordService {
             throw new ForbiddenAccessException("You do not have permission");
         }
 
-        String decryptedRecord = encryptionUtil.decrypt(emotionRecord.getRecord());
+        String decryptedRecord = encryptionUtil.decrypt(emotionRecord.getRecordData(), emotionRecord.getRecord());
         // Response로 변환하여 반환
         return EmotionResponse.from(emotionRecord, decryptedRecord);
     }
@@ -165,8 +157,10 @@ public class EmotionRecordService {
         }
 
         // 감정기록 전체 업데이트 (더티 체킹으로 자동 업데이트)
+        String previousEmotionName = emotionRecord.getEmotionName();
+        boolean wasShared = Boolean.TRUE.equals(emotionRecord.getIsShared());
         emotionRecord.update(
-                encryptionUtil.encrypt(request.getRecord()),
+                encryptionUtil.encryptToBytes(request.getRecord()),
                 request.getEmotion_name(),
                 request.getMain_color(),
                 request.getSub_color(),
@@ -178,7 +172,15 @@ public class EmotionRecordService {
         if (request.getIs_shared() != null) {
             emotionRecord.updateSharedStatus(request.getIs_shared());
         }
-        String decryptedRecord = encryptionUtil.decrypt(emotionRecord.getRecord());
+
+        // 월별 감정 집계 + 히트맵 반영 (감정/색상 변경)
+        emotionRollupService.recordChanged(previousEmotionName, emotionRecord);
+        emotionHeatmapService.recordChanged(previousEmotionName, emotionRecord);
+
+        // 친구 피드 타임라인 반영 (공유 상태 변경)
+        friendFeedTimelineService.sharedStatusChanged(emotionRecord, wasShared);
+
+        String decryptedRecord = encryptionUtil.decrypt(emotionRecord.getRecordData(), emotionRecord.getRecord());
         // Response로 변환하여 반환
         return EmotionUpdateResponse.from(emotionRecord, decryptedRecord);
     }
@@ -200,6 +202,13 @@ public class EmotionRecordService {
         // 실제 삭제 (Hard Delete)
         emotionRecordRepository.delete(emotionRecord);
 
+        // 월별 감정 집계 + 히트맵 반영
+        emotionRollupService.recordRemoved(userId, emotionRecord.getEmotionName(), emotionRecord.getCreatedAt());
+        emotionHeatmapService.recordRemoved(userId, emotionRecord.getEmotionName(), emotionRecord.getCreatedAt());
+
+        // 친구 피드 타임라인에서 제거
+        friendFeedTimelineService.recordRemoved(recordId);
+
         // Response로 변환하여 반환
         return EmotionDeleteResponse.of(recordId);
     }
@@ -219,9 +228,13 @@ public class EmotionRecordService {
         }
 
         // 공유 상태 변경 (더티 체킹으로 자동 업데이트)
+        boolean wasShared = Boolean.TRUE.equals(emotionRecord.getIsShared());
         emotionRecord.updateSharedStatus(isShared);
 
-        String decryptedRecord = encryptionUtil.decrypt(emotionRecord.getRecord());
+        // 친구 피드 타임라인 반영
+        friendFeedTimelineService.sharedStatusChanged(emotionRecord, wasShared);
+
+        String decryptedRecord = encryptionUtil.decrypt(emotionRecord.getRecordData(), emotionRecord.getRecord());
         // Response로 변환하여 반환
         return EmotionResponse.from(emotionRecord, decryptedRecord);
     }
@@ -238,13 +251,36 @@ public class EmotionRecordService {
                 .findByIsSharedTrueOrderByCreatedAtDesc(pageable);
         
         // DTO로 변환
-        return emotionRecords.getContent().stream()
-                .map(record -> {
-                    String decryptedRecord = encryptionUtil.decrypt(record.getRecord());
-                    return EmotionListResponse.from(record, decryptedRecord);
-                })
-                .collect(Collectors.toList());
+        return toListResponses(emotionRecords.getContent());
     }
-}
 
+    /**
+     * 공유된 감정기록 목록 커서 조회 (최신순, 깊이와 무관하게 같은 비용, COUNT 쿼리 없음)
+     * @param cursor 이전 응답의 next_cursor (생략 시 첫 페이지)
+     */
+    public CursorPageResponse<EmotionListResponse> getSharedEmotionRecordSlice(String cursor, int size) {
+        PageCursor position = PageCursor.decode(cursor);
+        Slice<EmotionRecord> emotionRecords = emotionRecordRepository
+                .findSharedBeforeCursor(position.createdAt(), position.id(), PageCursor.pageOf(size));
 
+        return CursorPageResponse.of(toListResponses(emotionRecords.getContent()), emotionRecords, EmotionRecordService::cursorOf);
+    }
+
+    /**
+     * 목록 응답 변환 (본문은 한 번에 복호화)
+     */
+    private List<EmotionListResponse> toListResponses(List<EmotionRecord> records) {
+        List<String> decryptedRecords = encryptionUtil.decryptAll(
+                records, record -> encryptionUtil.decrypt(record.getRecordData(), record.getRecord()));
+
+        List<EmotionListResponse> responses = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            responses.add(EmotionListResponse.from(records.get(i), decryptedRecords.get(i)));
+        }
+        return responses;
+    }
+
+    private static PageCursor cursorOf(EmotionRecord record) {
+        return new PageCursor(record.getCreatedAt(), record.getRecordId());
+    }
+}
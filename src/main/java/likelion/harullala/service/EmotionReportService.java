@@ -1,20 +1,26 @@
 package likelion.harullala.service;
 
 import likelion.harullala.domain.Character;
-import likelion.harullala.domain.EmotionRecord;
+import likelion.harullala.domain.EmotionMonthlyRollup;
 import likelion.harullala.domain.UserCharacter;
 import likelion.harullala.dto.EmotionReportCharacterMessageResponse;
 import likelion.harullala.dto.EmotionReportComparisonResponse;
 import likelion.harullala.dto.EmotionReportTopEmotionsResponse;
 import likelion.harullala.dto.EmotionReportTimePatternResponse;
+import likelion.harullala.dto.EmotionReportTrendResponse;
+import likelion.harullala.infra.AiMessageCache;
+import likelion.harullala.infra.AiMessageCacheKey;
+import likelion.harullala.infra.AiReply;
+import likelion.harullala.infra.AiRequestCoalescer;
+import likelion.harullala.infra.CharacterPersona;
 import likelion.harullala.infra.ChatGptClient;
+import likelion.harullala.repository.EmotionMonthlyRollupRepository;
 import likelion.harullala.repository.EmotionRecordRepository;
+import likelion.harullala.repository.EmotionRecordRepository.DataVersion;
+import likelion.harullala.repository.EmotionRecordRepository.MonthlyCount;
 import likelion.harullala.repository.UserCharacterRepository;
-import likelion.harullala.util.EmotionCoordinateMapper;
-import likelion.harullala.util.EmotionCoordinateMapper.Coordinate;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,24 +31,38 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
  * 감정 리포트 서비스
  * 통계 및 분석 기능 제공
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class EmotionReportService {
 
+    private static final int REPORT_MESSAGE_TTL_DAYS = 7;
+    private static final String FALLBACK_REPORT_MESSAGE = "이번 달도 수고했어요! 계속 응원할게요!"; // AI 호출 실패 시 (캐시하지 않음)
+    private static final Set<Integer> TREND_MONTHS = Set.of(6, 12); // 추이 조회 가능 개월 수
+
     private final EmotionRecordRepository emotionRecordRepository;
+    private final EmotionMonthlyRollupRepository rollupRepository;
+    private final EmotionRollupService rollupService;
+    private final Executor jobExecutor; // 어긋난 집계 저장 (AsyncConfig)
     private final UserCharacterRepository userCharacterRepository;
     private final ChatGptClient chatGptClient;
     
-    // 캐릭터 멘트 캐시 (감정 기록이 추가/수정될 때만 무효화)
-    private final Map<String, CachedReportMessage> messageCache = new ConcurrentHashMap<>();
+    // 캐릭터 멘트 캐시 (키에 마지막 기록 수정 시간이 포함되어 감정 기록이 추가/수정되면 새로 생성)
+    private final AiMessageCache messageCache;
+    private final AiRequestCoalescer coalescer;
+
+    // 월별 리포트 스냅샷 캐시 (데이터 버전이 바뀌면 다시 계산)
+    private final MonthlyReportSnapshotCache snapshotCache;
 
     /**
      * 저번 달과 이번 달 감정 상태 비교
@@ -52,26 +72,13 @@ public class EmotionReportService {
      */
     public EmotionReportComparisonResponse compareMonthlyEmotions(Long userId, String targetMonth) {
         // 대상 월 설정 (null이면 현재 월)
-        YearMonth thisMonth = targetMonth != null 
-                ? YearMonth.parse(targetMonth, DateTimeFormatter.ofPattern("yyyy-MM"))
-                : YearMonth.now();
-        
+        YearMonth thisMonth = parseMonth(targetMonth);
         YearMonth lastMonth = thisMonth.minusMonths(1);
 
-        // 각 월의 감정 기록 조회
-        List<EmotionRecord> thisMonthRecords = getMonthlyRecords(userId, thisMonth);
-        List<EmotionRecord> lastMonthRecords = getMonthlyRecords(userId, lastMonth);
-
-        // 월별 평균 계산
-        EmotionReportComparisonResponse.MonthlyAverage thisMonthAvg = 
-                calculateMonthlyAverage(thisMonthRecords, thisMonth, "이번 달 평균 상태");
-        
-        EmotionReportComparisonResponse.MonthlyAverage lastMonthAvg = 
-                calculateMonthlyAverage(lastMonthRecords, lastMonth, "저번 달 평균 상태");
-
+        // 각 월의 스냅샷에서 평균 상태 조회
         return EmotionReportComparisonResponse.builder()
-                .thisMonth(thisMonthAvg)
-                .lastMonth(lastMonthAvg)
+                .thisMonth(getSnapshot(userId, thisMonth).toMonthlyAverage("이번 달 평균 상태"))
+                .lastMonth(getSnapshot(userId, lastMonth).toMonthlyAverage("저번 달 평균 상태"))
                 .build();
     }
 
@@ -82,330 +89,218 @@ public class EmotionReportService {
      * @return 감정별 횟수 통계
      */
     public EmotionReportTopEmotionsResponse getTopEmotions(Long userId, String targetMonth) {
-        // 대상 월 설정
-        YearMonth month = targetMonth != null 
-                ? YearMonth.parse(targetMonth, DateTimeFormatter.ofPattern("yyyy-MM"))
-                : YearMonth.now();
-
-        // 해당 월의 감정 기록 조회
-        List<EmotionRecord> records = getMonthlyRecords(userId, month);
-
-        if (records.isEmpty()) {
-            return EmotionReportTopEmotionsResponse.builder()
-                    .emotions(Collections.emptyList())
-                    .total_count(0)
-                    .build();
-        }
-
-        // 감정명별로 그룹화하여 횟수 집계
-        Map<String, List<EmotionRecord>> emotionGroups = records.stream()
-                .collect(Collectors.groupingBy(EmotionRecord::getEmotionName));
-
-        int totalCount = records.size();
-
-        // 통계 생성 및 정렬 (내림차순)
-        List<EmotionReportTopEmotionsResponse.EmotionStat> stats = emotionGroups.entrySet().stream()
-                .map(entry -> {
-                    String emotionName = entry.getKey();
-                    List<EmotionRecord> emotionRecords = entry.getValue();
-                    int count = emotionRecords.size();
-                    
-                    // 첫 번째 레코드의 색상 사용
-                    EmotionRecord firstRecord = emotionRecords.get(0);
-                    String mainColor = firstRecord.getMainColor();
-                    String subColor = firstRecord.getSubColor();
-                    String textColor = firstRecord.getTextColor();
-                    
-                    // 비율 계산
-                    double percentage = (count * 100.0) / totalCount;
-                    
-                    return EmotionReportTopEmotionsResponse.EmotionStat.builder()
-                            .emotion_name(emotionName)
-                            .count(count)
-                            .main_color(mainColor)
-                            .sub_color(subColor)
-                            .text_color(textColor)
-                            .percentage(Math.round(percentage * 10) / 10.0) // 소수점 1자리
-                            .build();
-                })
-                .sorted((a, b) -> b.getCount().compareTo(a.getCount())) // 내림차순 정렬
-                .collect(Collectors.toList());
-
-        return EmotionReportTopEmotionsResponse.builder()
-                .emotions(stats)
-                .total_count(totalCount)
-                .build();
+        return getSnapshot(userId, parseMonth(targetMonth)).getTopEmotions();
     }
 
     /**
-     * 특정 월의 감정 기록 조회
+     * 시간대별 감정 패턴 분석
+     * @param userId 사용자 ID
+     * @param targetMonth 대상 월 (예: "2024-01", null이면 현재 월)
+     * @return 시간대별 감정 패턴
      */
-    private List<EmotionRecord> getMonthlyRecords(Long userId, YearMonth month) {
-        LocalDateTime startDate = month.atDay(1).atStartOfDay();
-        LocalDateTime endDate = month.plusMonths(1).atDay(1).atStartOfDay();
-        
-        return emotionRecordRepository.findByUserIdAndDateRange(userId, startDate, endDate);
+    public EmotionReportTimePatternResponse getTimePattern(Long userId, String targetMonth) {
+        return getSnapshot(userId, parseMonth(targetMonth)).getTimePattern();
     }
 
     /**
-     * 월별 평균 계산
+     * 최근 N개월 감정 추이 (6개월 또는 12개월)
+     * 기간 내 월별 집계 칸을 한 번에 읽어 월마다 평균 좌표 / 대표 감정 / 기록 수 계산
+     * (원본 기록은 월별 기록 수 검증에만 사용하므로 기록 수와 무관하게 쿼리 2번)
+     * @param userId 사용자 ID
+     * @param targetMonth 마지막 월 (예: "2024-01", null이면 현재 월)
+     * @param months 조회할 개월 수
+     * @return 월별 추이 (오래된 달부터)
      */
-    private EmotionReportComparisonResponse.MonthlyAverage calculateMonthlyAverage(
-            List<EmotionRecord> records, YearMonth month, String label) {
-        
-        if (records.isEmpty()) {
-            return EmotionReportComparisonResponse.MonthlyAverage.builder()
-                    .month(month.format(DateTimeFormatter.ofPattern("yyyy-MM")))
-                    .avg_position_x(0.5) // 중앙값
-                    .avg_position_y(0.5) // 중앙값
-                    .representative_emotion("없음") // 대표 감정 없음
-                    .main_color("#808080") // 회색
-                    .sub_color("#808080") // 회색
-                    .text_color("#000000") // 검정
-                    .label(label)
-                    .record_count(0)
-                    .build();
+    public EmotionReportTrendResponse getTrend(Long userId, String targetMonth, int months) {
+        if (!TREND_MONTHS.contains(months)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "추이는 6개월 또는 12개월만 조회할 수 있습니다.");
         }
 
-        // X, Y 좌표 평균 계산 (감정명 기반)
-        // 각 감정기록의 감정명으로 미리 정의된 좌표를 가져와서 평균 계산
-        double avgX = records.stream()
-                .map(r -> EmotionCoordinateMapper.getCoordinate(r.getEmotionName()))
-                .mapToDouble(Coordinate::getX)
-                .average()
-                .orElse(0.5);
-
-        double avgY = records.stream()
-                .map(r -> EmotionCoordinateMapper.getCoordinate(r.getEmotionName()))
-                .mapToDouble(Coordinate::getY)
-                .average()
-                .orElse(0.5);
-
-        // 가장 많이 사용된 감정 찾기 (대표 감정)
-        Map.Entry<String, List<EmotionRecord>> mostFrequentEmotion = findMostFrequentEmotion(records);
-        String representativeEmotion = "없음";
-        String mainColor = "#808080";
-        String subColor = "#808080";
-        String textColor = "#000000";
-
-        if (mostFrequentEmotion != null && !mostFrequentEmotion.getValue().isEmpty()) {
-            representativeEmotion = mostFrequentEmotion.getKey();
-            EmotionRecord representativeRecord = mostFrequentEmotion.getValue().get(0);
-            mainColor = representativeRecord.getMainColor();
-            subColor = representativeRecord.getSubColor();
-            textColor = representativeRecord.getTextColor();
+        YearMonth toMonth = parseMonth(targetMonth);
+        YearMonth fromMonth = toMonth.minusMonths(months - 1);
+
+        // 기간 내 집계 칸을 월별로 분류
+        Map<YearMonth, List<EmotionMonthlyRollup>> cellsByMonth = rollupRepository
+                .findByUserIdAndMonthBetween(userId, fromMonth.toString(), toMonth.toString()).stream()
+                .collect(Collectors.groupingBy(cell -> YearMonth.parse(cell.getMonth())));
+
+        // 원본 월별 기록 수 (집계와 다른 달만 다시 계산)
+        Map<YearMonth, Long> recordCounts = emotionRecordRepository
+                .countByMonth(userId, fromMonth.atDay(1).atStartOfDay(), toMonth.plusMonths(1).atDay(1).atStartOfDay()).stream()
+                .collect(Collectors.toMap(
+                        count -> YearMonth.of(count.getRecordYear(), count.getRecordMonth()),
+                        MonthlyCount::getRecordCount));
+
+        List<EmotionReportTrendResponse.MonthlyPoint> points = new ArrayList<>(months);
+        int totalCount = 0;
+        for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            List<EmotionMonthlyRollup> cells = cellsByMonth.getOrDefault(month, Collections.emptyList());
+            long recordCount = recordCounts.getOrDefault(month, 0L);
+            if (recordCount != cells.stream().mapToLong(EmotionMonthlyRollup::getRecordCount).sum()) {
+                cells = repairMonth(userId, month);
+            }
+
+            // 월별 평균은 리포트 스냅샷과 같은 계산 사용 (캐시하지 않으므로 버전 없음)
+            EmotionReportComparisonResponse.MonthlyAverage average =
+                    MonthlyReportSnapshot.of(month, null, cells).toMonthlyAverage(null);
+            totalCount += average.getRecord_count();
+            points.add(EmotionReportTrendResponse.MonthlyPoint.builder()
+                    .month(average.getMonth())
+                    .avg_position_x(average.getAvg_position_x())
+                    .avg_position_y(average.getAvg_position_y())
+                    .dominant_emotion(average.getRepresentative_emotion())
+                    .main_color(average.getMain_color())
+                    .sub_color(average.getSub_color())
+                    .text_color(average.getText_color())
+                    .record_count(average.getRecord_count())
+                    .build());
         }
 
-        return EmotionReportComparisonResponse.MonthlyAverage.builder()
-                .month(month.format(DateTimeFormatter.ofPattern("yyyy-MM")))
-                .avg_position_x(Math.round(avgX * 100.0) / 100.0) // 소수점 2자리
-                .avg_position_y(Math.round(avgY * 100.0) / 100.0)
-                .representative_emotion(representativeEmotion)
-                .main_color(mainColor)
-                .sub_color(subColor)
-                .text_color(textColor)
-                .label(label)
-                .record_count(records.size())
+        return EmotionReportTrendResponse.builder()
+                .from_month(fromMonth.toString())
+                .to_month(toMonth.toString())
+                .total_count(totalCount)
+                .months(points)
                 .build();
     }
 
     /**
-     * 가장 많이 사용된 감정 찾기 (대표 감정)
+     * 월별 리포트 스냅샷 조회
+     * 데이터 버전(기록 수 + 마지막 수정 시간)이 같으면 메모리에 저장된 스냅샷을 재사용하고,
+     * 바뀌었으면 집계 칸을 읽어 한 번에 다시 계산
      */
-    private Map.Entry<String, List<EmotionRecord>> findMostFrequentEmotion(List<EmotionRecord> records) {
-        return records.stream()
-                .collect(Collectors.groupingBy(EmotionRecord::getEmotionName))
-                .entrySet().stream()
-                .max(Comparator.comparingInt(e -> e.getValue().size()))
-                .orElse(null);
+    public MonthlyReportSnapshot getSnapshot(Long userId, YearMonth month) {
+        MonthlyReportSnapshot.Version version = getDataVersion(userId, month);
+
+        return snapshotCache.get(userId, month, version)
+                .orElseGet(() -> {
+                    MonthlyReportSnapshot snapshot = MonthlyReportSnapshot.of(month, version, loadRollup(userId, month, version));
+                    snapshotCache.put(userId, snapshot);
+                    return snapshot;
+                });
     }
 
     /**
-     * 시간대별 감정 패턴 분석
-     * @param userId 사용자 ID
-     * @param targetMonth 대상 월 (예: "2024-01", null이면 현재 월)
-     * @return 시간대별 감정 패턴
+     * 특정 월의 현재 데이터 버전 (기록 수 + 마지막 수정 시간, DB에서 집계)
      */
-    public EmotionReportTimePatternResponse getTimePattern(Long userId, String targetMonth) {
-        // 대상 월 설정
-        YearMonth month = targetMonth != null 
-                ? YearMonth.parse(targetMonth, DateTimeFormatter.ofPattern("yyyy-MM"))
-                : YearMonth.now();
-
-        // 해당 월의 감정 기록 조회
-        List<EmotionRecord> records = getMonthlyRecords(userId, month);
-
-        if (records.isEmpty()) {
-            return EmotionReportTimePatternResponse.builder()
-                    .dominant_time("없음")
-                    .dominant_emotion("없음")
-                    .total_count(0)
-                    .time_slots(Collections.emptyList())
-                    .build();
-        }
-
-        int totalCount = records.size();
-
-        // 시간대별로 그룹화
-        Map<String, List<EmotionRecord>> timeGroups = records.stream()
-                .collect(Collectors.groupingBy(this::getTimeSlotName));
-
-        // 각 시간대별 통계 생성
-        List<EmotionReportTimePatternResponse.TimeSlot> timeSlots = timeGroups.entrySet().stream()
-                .map(entry -> {
-                    String timeSlot = entry.getKey();
-                    List<EmotionRecord> timeRecords = entry.getValue();
-                    int count = timeRecords.size();
-
-                    // 해당 시간대에서 가장 많았던 감정 찾기
-                    Map<String, List<EmotionRecord>> emotionGroups = timeRecords.stream()
-                            .collect(Collectors.groupingBy(EmotionRecord::getEmotionName));
-
-                    // 가장 많이 나타난 감정
-                    Map.Entry<String, List<EmotionRecord>> topEmotion = emotionGroups.entrySet().stream()
-                            .max(Comparator.comparingInt(e -> e.getValue().size()))
-                            .orElse(null);
-
-                    if (topEmotion == null) {
-                        return null;
-                    }
-
-                    String emotionName = topEmotion.getKey();
-                    List<EmotionRecord> emotionRecords = topEmotion.getValue();
-                    EmotionRecord firstRecord = emotionRecords.get(0);
-                    String mainColor = firstRecord.getMainColor();
-                    String subColor = firstRecord.getSubColor();
-                    String textColor = firstRecord.getTextColor();
-                    double percentage = (count * 100.0) / totalCount;
-
-                    return EmotionReportTimePatternResponse.TimeSlot.builder()
-                            .time_range(getTimeRangeLabel(timeSlot))
-                            .emotion_name(emotionName)
-                            .count(count)
-                            .percentage(Math.round(percentage * 10) / 10.0)
-                            .main_color(mainColor)
-                            .sub_color(subColor)
-                            .text_color(textColor)
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .sorted((a, b) -> b.getCount().compareTo(a.getCount())) // 기록 수 내림차순
-                .collect(Collectors.toList());
-
-        // 가장 많이 기록한 시간대와 그 시간대의 주요 감정
-        EmotionReportTimePatternResponse.TimeSlot dominantSlot = timeSlots.isEmpty() ? null : timeSlots.get(0);
-
-        return EmotionReportTimePatternResponse.builder()
-                .dominant_time(dominantSlot != null ? extractTimeName(dominantSlot.getTime_range()) : "없음")
-                .dominant_emotion(dominantSlot != null ? dominantSlot.getEmotion_name() : "없음")
-                .total_count(totalCount)
-                .time_slots(timeSlots)
-                .build();
+    public MonthlyReportSnapshot.Version getDataVersion(Long userId, YearMonth month) {
+        DataVersion dataVersion = emotionRecordRepository.findDataVersion(
+                userId, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+        return new MonthlyReportSnapshot.Version(dataVersion.getRecordCount(), dataVersion.getLastUpdatedAt());
     }
 
     /**
-     * 시간대 구분 (0-6: 새벽, 6-12: 아침, 12-18: 낮, 18-24: 저녁)
+     * 특정 월의 감정 집계 조회
+     * 집계 합계가 원본 기록 수와 다르면(집계 도입 전 기록 등) 해당 월을 원본에서 다시 계산
      */
-    private String getTimeSlotName(EmotionRecord record) {
-        int hour = record.getCreatedAt().getHour();
-        
-        if (hour >= 0 && hour < 6) {
-            return "새벽";
-        } else if (hour >= 6 && hour < 12) {
-            return "아침";
-        } else if (hour >= 12 && hour < 18) {
-            return "낮";
-        } else {
-            return "저녁";
+    private List<EmotionMonthlyRollup> loadRollup(Long userId, YearMonth month, MonthlyReportSnapshot.Version version) {
+        List<EmotionMonthlyRollup> cells = rollupRepository.findByUserIdAndMonth(userId, month.toString());
+
+        long rollupCount = cells.stream().mapToLong(EmotionMonthlyRollup::getRecordCount).sum();
+        if (version.recordCount() != rollupCount) {
+            return repairMonth(userId, month);
         }
+        return cells;
     }
 
     /**
-     * 시간대 라벨 생성
+     * 집계가 어긋난 월: 원본에서 계산한 값으로 응답하고, 저장은 백그라운드 작업 스레드에 맡김
+     * (조회 트랜잭션 안에서 쓰기 트랜잭션을 따로 열면 요청 하나가 커넥션 두 개를 잡으므로)
      */
-    private String getTimeRangeLabel(String timeSlot) {
-        switch (timeSlot) {
-            case "새벽":
-                return "새벽 (00:00-06:00)";
-            case "아침":
-                return "아침 (06:00-12:00)";
-            case "낮":
-                return "낮 (12:00-18:00)";
-            case "저녁":
-                return "저녁 (18:00-24:00)";
-            default:
-                return timeSlot;
+    private List<EmotionMonthlyRollup> repairMonth(Long userId, YearMonth month) {
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    rollupService.rebuildMonth(userId, month);
+                } catch (RuntimeException e) {
+                    log.warn("월별 감정 집계 저장 실패 (다음 조회 시 다시 시도): userId={}, month={}, error={}",
+                            userId, month, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("월별 감정 집계 저장 대기열 가득 참 (다음 조회 시 다시 시도): userId={}, month={}", userId, month);
         }
+        return rollupService.computeMonth(userId, month);
     }
 
     /**
-     * 시간대 라벨에서 시간대 이름만 추출
+     * 대상 월 파싱 (null이면 현재 월)
      */
-    private String extractTimeName(String timeRangeLabel) {
-        // "낮 (12:00-18:00)" -> "낮"
-        int index = timeRangeLabel.indexOf(" ");
-        return index > 0 ? timeRangeLabel.substring(0, index) : timeRangeLabel;
+    private YearMonth parseMonth(String targetMonth) {
+        return targetMonth != null
+                ? YearMonth.parse(targetMonth, DateTimeFormatter.ofPattern("yyyy-MM"))
+                : YearMonth.now();
     }
 
     /**
      * 캐릭터 멘트 생성 (캐시 적용 - 감정 기록이 추가/수정될 때만 새로 생성)
+     * DB 조회와 캐릭터 정보 복사는 호출 스레드에서 끝내고, AI 응답은 비동기로 완료됨
      * @param userId 사용자 ID
      * @param targetMonth 대상 월 (예: "2024-01", null이면 현재 월)
      * @return 캐릭터 멘트 응답
      */
-    @Transactional
-    public EmotionReportCharacterMessageResponse generateCharacterMessage(Long userId, String targetMonth) {
+    public CompletableFuture<EmotionReportCharacterMessageResponse> generateCharacterMessage(Long userId, String targetMonth) {
         // 대상 월 설정
-        YearMonth month = targetMonth != null 
-                ? YearMonth.parse(targetMonth, DateTimeFormatter.ofPattern("yyyy-MM"))
-                : YearMonth.now();
+        YearMonth month = parseMonth(targetMonth);
 
         // 사용자의 캐릭터 조회
         UserCharacter userCharacter = userCharacterRepository.findByUserId(userId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "캐릭터를 찾을 수 없습니다."));
         
         Character character = userCharacter.getSelectedCharacter();
+        // 지연 로딩 프록시를 AI 호출 스레드에서 읽지 않도록 값만 복사 (loader는 다른 스레드에서 실행될 수 있음)
+        CharacterPersona persona = CharacterPersona.of(character);
 
-        // 해당 월의 감정 기록 조회
-        List<EmotionRecord> records = getMonthlyRecords(userId, month);
-        
-        // 감정 기록의 마지막 업데이트 시간 계산 (감정 기록이 없으면 null)
-        LocalDateTime lastRecordUpdate = records.stream()
-                .map(EmotionRecord::getUpdatedAt)
-                .max(LocalDateTime::compareTo)
-                .orElse(null);
+        // 해당 월 리포트 스냅샷 (멘트 캐시 키와 리포트 요약 모두 이 스냅샷에서 계산)
+        MonthlyReportSnapshot snapshot = getSnapshot(userId, month);
 
-        // 캐시 키 생성 (userId + targetMonth + characterId + lastRecordUpdate)
-        String cacheKey = createCacheKey(userId, month.format(DateTimeFormatter.ofPattern("yyyy-MM")), 
-                character.getId(), lastRecordUpdate);
+        // 감정 기록의 마지막 업데이트 시간 (감정 기록이 없으면 null)
+        LocalDateTime lastRecordUpdate = snapshot.getVersion().lastUpdatedAt();
 
-        // 캐시 확인
-        CachedReportMessage cached = messageCache.get(cacheKey);
-        String message;
-        
-        if (cached != null && !cached.isInvalidated(lastRecordUpdate)) {
-            // 캐시된 멘트 사용 (감정 기록에 변화가 없음)
-            message = cached.getMessage();
-        } else {
-            // 새로운 멘트 생성 (감정 기록이 추가/수정됨)
-            EmotionReportTopEmotionsResponse topEmotions = getTopEmotions(userId, targetMonth);
-            EmotionReportTimePatternResponse timePattern = getTimePattern(userId, targetMonth);
-
-            // 리포트 요약 텍스트 생성
-            String reportSummary = buildReportSummary(topEmotions, timePattern, month);
-
-            // AI로 캐릭터 멘트 생성
-            message = chatGptClient.generateReportMessage(reportSummary, character);
-
-            // 캐시 저장
-            messageCache.put(cacheKey, new CachedReportMessage(message, lastRecordUpdate));
-        }
+        // 캐시 키 생성 (userId + targetMonth + characterId + lastRecordUpdate)
+        AiMessageCacheKey cacheKey = new AiMessageCacheKey.ReportMessage(
+                userId, month, character.getId(), lastRecordUpdate);
+
+        // 캐시 확인 (감정 기록에 변화가 없으면 같은 키로 조회됨)
+        // 동시에 들어온 같은 키의 요청은 리포트 집계와 AI 호출을 한 번만 수행
+        // 호출이 실패하면 기본 멘트로 응답하고 캐시하지 않음 (다음 조회 때 다시 생성)
+        CompletableFuture<AiReply> message = messageCache.get(cacheKey)
+                .map(cached -> CompletableFuture.completedFuture(AiReply.generated(cached)))
+                .orElseGet(() -> AiReply.orFallback(coalescer.execute(cacheKey, () -> {
+                    // 새로운 멘트 생성 (감정 기록이 추가/수정됨)
+                    EmotionReportTopEmotionsResponse topEmotions = snapshot.getTopEmotions();
+                    EmotionReportTimePatternResponse timePattern = snapshot.getTimePattern();
+
+                    // 리포트 요약 텍스트 생성
+                    String reportSummary = buildReportSummary(topEmotions, timePattern, month);
+
+                    // AI로 캐릭터 멘트 생성 후 캐시 저장 (REPORT_MESSAGE_TTL_DAYS 동안 유효)
+                    return chatGptClient.generateReportMessageAsync(reportSummary, persona)
+                            .thenApply(generated -> {
+                                messageCache.put(cacheKey, generated, AiMessageCache.hoursFromNow(REPORT_MESSAGE_TTL_DAYS * 24L));
+                                return generated;
+                            });
+                }), FALLBACK_REPORT_MESSAGE));
+
+        String characterName = character.getName();
+        String characterImageUrl = character.getImageUrl();
+
+        return message.thenApply(reply -> EmotionReportCharacterMessageResponse.builder()
+                .character_name(characterName)
+                .character_image_url(characterImageUrl)
+                .message(reply.text())
+                .fallback(reply.fallback())
+                .build());
+    }
 
-        return EmotionReportCharacterMessageResponse.builder()
-                .character_name(character.getName())
-                .character_image_url(character.getImageUrl())
-                .message(message)
-                .build();
+    /**
+     * 현재 선택한 캐릭터 ID (캐릭터가 없으면 null)
+     * 캐릭터 멘트가 포함된 응답은 캐릭터를 바꾸면 달라지므로 ETag에 함께 사용
+     */
+    public Long getSelectedCharacterId(Long userId) {
+        return userCharacterRepository.findByUserId(userId)
+                .map(userCharacter -> userCharacter.getSelectedCharacter().getId())
+                .orElse(null);
     }
 
     /**
@@ -442,49 +337,4 @@ public class EmotionReportService {
         
         return summary.toString();
     }
-
-    /**
-     * 캐시 키 생성
-     * @param userId 사용자 ID
-     * @param targetMonth 대상 월 (yyyy-MM 형식)
-     * @param characterId 캐릭터 ID
-     * @param lastRecordUpdate 마지막 감정 기록 업데이트 시간
-     * @return 캐시 키
-     */
-    private String createCacheKey(Long userId, String targetMonth, Long characterId, 
-                                   LocalDateTime lastRecordUpdate) {
-        String updateStr = lastRecordUpdate != null 
-                ? lastRecordUpdate.toString() 
-                : "no-records";
-        return userId + "_" + targetMonth + "_" + characterId + "_" + updateStr;
-    }
-
-    /**
-     * 캐릭터 멘트 캐시 클래스
-     * - 감정 기록이 추가/수정될 때만 무효화됨
-     */
-    @Getter
-    @AllArgsConstructor
-    private static class CachedReportMessage {
-        private final String message;
-        private final LocalDateTime lastRecordUpdate; // 캐시 생성 시점의 마지막 감정 기록 업데이트 시간
-
-        /**
-         * 캐시가 무효화되었는지 확인
-         * @param currentLastUpdate 현재 마지막 감정 기록 업데이트 시간
-         * @return 무효화 여부 (true면 새로 생성 필요)
-         */
-        public boolean isInvalidated(LocalDateTime currentLastUpdate) {
-            // 감정 기록이 없는 경우
-            if (lastRecordUpdate == null && currentLastUpdate == null) {
-                return false; // 둘 다 없으면 유효
-            }
-            if (lastRecordUpdate == null || currentLastUpdate == null) {
-                return true; // 하나만 없으면 무효화
-            }
-            // 감정 기록이 추가/수정되었는지 확인
-            return currentLastUpdate.isAfter(lastRecordUpdate);
-        }
-    }
 }
-
@@ -0,0 +1,231 @@
+package likelion.harullala.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.harullala.domain.EmotionMonthlyRollup;
+import likelion.harullala.domain.EmotionRecord;
+import likelion.harullala.domain.EmotionTimeSlot;
+import likelion.harullala.repository.EmotionMonthlyRollupRepository;
+import likelion.harullala.repository.EmotionRecordRepository;
+import likelion.harullala.repository.EmotionRecordRepository.ColorRow;
+import likelion.harullala.repository.EmotionRecordRepository.EmotionHourAggregate;
+import likelion.harullala.repository.EmotionRollupLockRepository;
+import likelion.harullala.util.EmotionCoordinateMapper;
+import likelion.harullala.util.EmotionCoordinateMapper.Coordinate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월별 감정 집계 관리
+ * - 감정 기록 작성/수정/삭제 트랜잭션 안에서 해당 칸(사용자 + 월 + 감정 + 시간대)만 갱신
+ * - 집계가 원본과 어긋나면(기존 데이터, 장애 등) 해당 월만 원본에서 다시 계산
+ *   (조회는 원본에서 계산한 값으로 응답하고, 저장은 백그라운드 작업 스레드에서 rebuildMonth로 실행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EmotionRollupService {
+
+    private final EmotionMonthlyRollupRepository rollupRepository;
+    private final EmotionRecordRepository emotionRecordRepository;
+    private final EmotionRollupLockRepository lockRepository;
+
+    /**
+     * 기록 추가 반영
+     */
+    public void recordAdded(EmotionRecord record) {
+        LocalDateTime createdAt = record.getCreatedAt();
+        Coordinate coordinate = record.getEmotionId() != null
+                ? EmotionCoordinateMapper.getCoordinate(record.getEmotionId())
+                : EmotionCoordinateMapper.CENTER;
+
+        rollupRepository.increment(
+                record.getUserId(),
+                YearMonth.from(createdAt).toString(),
+                record.getEmotionName(),
+                record.getEmotionId(),
+                EmotionTimeSlot.of(createdAt.getHour()).name(),
+                coordinate.getX(),
+                coordinate.getY(),
+                record.getMainColor(),
+                record.getSubColor(),
+                record.getTextColor(),
+                createdAt
+        );
+    }
+
+    /**
+     * 기록 제거 반영 (삭제, 또는 수정 전 값)
+     * 제거된 기록이 그 칸의 대표 색상이었으면 남은 기록 중 가장 최근 기록으로 교체
+     */
+    public void recordRemoved(Long userId, String emotionName, LocalDateTime createdAt) {
+        YearMonth month = YearMonth.from(createdAt);
+        EmotionTimeSlot timeSlot = EmotionTimeSlot.of(createdAt.getHour());
+        Coordinate coordinate = EmotionCoordinateMapper.getCoordinate(emotionName);
+
+        int updated = rollupRepository.decrement(
+                userId, month.toString(), emotionName, timeSlot.name(), coordinate.getX(), coordinate.getY());
+        if (updated == 0) {
+            return; // 집계되지 않은 기록 (조회 시 월 단위로 다시 계산됨)
+        }
+
+        rollupRepository.findByUserIdAndMonthAndEmotionNameAndTimeSlot(userId, month.toString(), emotionName, timeSlot)
+                .filter(cell -> cell.getRecordCount() > 0 && !cell.getLatestCreatedAt().isAfter(createdAt))
+                .ifPresent(cell -> emotionRecordRepository.findLatestColorInSlot(
+                                userId, emotionName,
+                                month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay(),
+                                timeSlot.startHour(), timeSlot.endHour(),
+                                PageRequest.of(0, 1)).stream()
+                        .findFirst()
+                        .ifPresent(latest -> cell.updateLatest(
+                                latest.getMainColor(), latest.getSubColor(), latest.getTextColor(), latest.getCreatedAt())));
+
+        rollupRepository.deleteEmptyCells(userId, month.toString());
+    }
+
+    /**
+     * 기록 수정 반영 (감정/색상이 바뀌었을 수 있으므로 이전 값 제거 후 새 값 추가)
+     */
+    public void recordChanged(String previousEmotionName, EmotionRecord record) {
+        recordRemoved(record.getUserId(), previousEmotionName, record.getCreatedAt());
+        recordAdded(record);
+    }
+
+    /**
+     * 해당 월 집계를 원본 기록에서 계산 (저장하지 않음)
+     * 조회(readOnly) 트랜잭션에서 집계가 어긋났을 때 응답용으로 사용
+     */
+    @Transactional(readOnly = true)
+    public List<EmotionMonthlyRollup> computeMonth(Long userId, YearMonth month) {
+        return aggregateMonth(userId, month);
+    }
+
+    /**
+     * 해당 월 집계를 원본 기록에서 다시 계산해 저장
+     * 같은 달의 재계산은 재계산 잠금 행으로 한 번에 하나씩 실행하고 (동시 요청끼리 삭제/삽입이 섞이지 않도록),
+     * 잠금을 기다리는 동안 다른 요청이 이미 다시 계산했으면 그대로 둠
+     */
+    public void rebuildMonth(Long userId, YearMonth month) {
+        lockRepository.insertIfAbsent(userId, month.toString());
+        lockRepository.findForUpdate(userId, month.toString());
+
+        // 잠금 이후 첫 조회부터 다른 트랜잭션이 커밋한 재계산 결과가 보임
+        if (isCurrent(userId, month)) {
+            log.debug("월별 감정 집계가 이미 최신: userId={}, month={}", userId, month);
+            return;
+        }
+
+        List<EmotionMonthlyRollup> rebuilt = aggregateMonth(userId, month);
+        rollupRepository.deleteByUserIdAndMonth(userId, month.toString());
+        rollupRepository.flush();
+        rollupRepository.saveAll(rebuilt);
+
+        log.info("월별 감정 집계 재계산: userId={}, month={}, cells={}", userId, month, rebuilt.size());
+    }
+
+    /**
+     * 집계 합계가 원본 기록 수와 같은지
+     */
+    private boolean isCurrent(Long userId, YearMonth month) {
+        long rollupCount = rollupRepository.findByUserIdAndMonth(userId, month.toString()).stream()
+                .mapToLong(EmotionMonthlyRollup::getRecordCount).sum();
+        long recordCount = emotionRecordRepository.countByUserIdAndDateRange(
+                userId, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+        return rollupCount == recordCount;
+    }
+
+    /**
+     * 원본 기록에서 집계 칸 계산 (저장 전 엔티티)
+     */
+    private List<EmotionMonthlyRollup> aggregateMonth(Long userId, YearMonth month) {
+        // 감정 + 작성 시(hour)별 집계를 DB에서 받아 시간대 칸으로 합산
+        List<EmotionHourAggregate> aggregates = emotionRecordRepository.aggregateByEmotionAndHour(
+                userId, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay());
+
+        Map<String, RebuildCell> cells = new LinkedHashMap<>();
+        for (EmotionHourAggregate aggregate : aggregates) {
+            EmotionTimeSlot timeSlot = EmotionTimeSlot.of(aggregate.getCreatedHour());
+            cells.computeIfAbsent(cellKey(aggregate.getEmotionName(), timeSlot),
+                            key -> new RebuildCell(aggregate.getEmotionName(), aggregate.getEmotionId(), timeSlot))
+                    .add(aggregate.getRecordCount().intValue(), aggregate.getLatestCreatedAt());
+        }
+
+        // 칸별 가장 최근 기록의 색상만 조회
+        Map<String, ColorRow> latestColors = new HashMap<>();
+        if (!cells.isEmpty()) {
+            Set<LocalDateTime> latestTimes = new HashSet<>();
+            cells.values().forEach(cell -> latestTimes.add(cell.latestCreatedAt));
+            for (ColorRow row : emotionRecordRepository.findColorRowsByCreatedAtIn(userId, latestTimes)) {
+                latestColors.putIfAbsent(
+                        cellKey(row.getEmotionName(), EmotionTimeSlot.of(row.getCreatedAt().getHour())), row);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<EmotionMonthlyRollup> rebuilt = new ArrayList<>(cells.size());
+        cells.forEach((cellKey, cell) -> {
+            Coordinate coordinate = cell.emotionId != null
+                    ? EmotionCoordinateMapper.getCoordinate(cell.emotionId)
+                    : EmotionCoordinateMapper.CENTER;
+            ColorRow colors = latestColors.get(cellKey);
+            rebuilt.add(EmotionMonthlyRollup.builder()
+                    .userId(userId)
+                    .month(month.toString())
+                    .emotionName(cell.emotionName)
+                    .emotionId(cell.emotionId)
+                    .timeSlot(cell.timeSlot)
+                    .recordCount(cell.recordCount)
+                    .sumX(coordinate.getX() * cell.recordCount)
+                    .sumY(coordinate.getY() * cell.recordCount)
+                    .mainColor(colors != null ? colors.getMainColor() : null)
+                    .subColor(colors != null ? colors.getSubColor() : null)
+                    .textColor(colors != null ? colors.getTextColor() : null)
+                    .latestCreatedAt(cell.latestCreatedAt)
+                    .updatedAt(now)
+                    .build());
+        });
+
+        return rebuilt;
+    }
+
+    private static String cellKey(String emotionName, EmotionTimeSlot timeSlot) {
+        return emotionName + "|" + timeSlot;
+    }
+
+    /**
+     * 재계산 중인 집계 칸 (시간대 안의 hour별 집계를 합산)
+     */
+    private static final class RebuildCell {
+        private final String emotionName;
+        private final Short emotionId;
+        private final EmotionTimeSlot timeSlot;
+        private int recordCount;
+        private LocalDateTime latestCreatedAt;
+
+        private RebuildCell(String emotionName, Short emotionId, EmotionTimeSlot timeSlot) {
+            this.emotionName = emotionName;
+            this.emotionId = emotionId;
+            this.timeSlot = timeSlot;
+        }
+
+        private void add(int count, LocalDateTime createdAt) {
+            recordCount += count;
+            if (latestCreatedAt == null || createdAt.isAfter(latestCreatedAt)) {
+                latestCreatedAt = createdAt;
+            }
+        }
+    }
+}
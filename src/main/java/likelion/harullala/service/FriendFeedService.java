@@ -2,26 +2,34 @@ package likelion.harullala.service;
 
 import likelion.harullala.domain.EmotionRecord;
 import likelion.harullala.domain.FeedReadStatus;
-import likelion.harullala.domain.FriendRelationship;
 import likelion.harullala.domain.User;
+import likelion.harullala.dto.CursorPageResponse;
 import likelion.harullala.dto.FriendFeedResponse;
 import likelion.harullala.dto.MarkFeedReadRequest;
 import likelion.harullala.exception.EmotionRecordNotFoundException;
 import likelion.harullala.exception.ForbiddenAccessException;
 import likelion.harullala.repository.EmotionRecordRepository;
 import likelion.harullala.repository.FeedReadStatusRepository;
+import likelion.harullala.repository.FriendFeedTimelineRepository;
 import likelion.harullala.repository.FriendRelationshipRepository;
 import likelion.harullala.repository.UserRepository;
 import likelion.harullala.util.EncryptionUtil;
+import likelion.harullala.util.PageCursor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,51 +40,89 @@ public class FriendFeedService {
     private final EmotionRecordRepository emotionRecordRepository;
     private final FeedReadStatusRepository feedReadStatusRepository;
     private final FriendRelationshipRepository friendRelationshipRepository;
+    private final FriendFeedTimelineRepository friendFeedTimelineRepository;
     private final UserRepository userRepository;
     private final EncryptionUtil encryptionUtil;
 
     /**
      * 친구들의 공유된 피드 조회 (오늘 00시 이후) - 내가 쓴 감정기록도 포함
+     * 공유 시 미리 채워 둔 내 타임라인을 한 범위로 읽음 (FriendFeedTimelineService)
      */
     public List<FriendFeedResponse> getFriendFeeds(Long userId, int page, int size) {
         // 페이지는 0부터 시작하므로 -1
         Pageable pageable = PageRequest.of(page - 1, size);
-        
-        // 사용자의 친구 목록 조회 (ACCEPTED 상태만)
-        List<Long> friendIds = getFriendIds(userId);
-        
-        // 친구 목록에 내 ID도 추가 (내가 쓴 감정기록도 포함)
-        friendIds.add(userId);
-        
-        if (friendIds.isEmpty()) {
-            return List.of(); // 친구가 없으면 빈 리스트 반환
-        }
 
-        // 오늘 00시 이후의 공유된 감정 기록 조회 (DB 쿼리 레벨에서 필터링 및 페이지네이션)
+        // 오늘 00시 이후의 타임라인 항목 조회 (DB 쿼리 레벨에서 필터링, 정렬, 페이지네이션 처리)
+        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
+        List<EmotionRecord> sharedRecords = friendFeedTimelineRepository.findFeed(userId, startOfDay, pageable);
+
+        return toFeedResponses(userId, sharedRecords);
+    }
+
+    /**
+     * 친구들의 공유된 피드 커서 조회 (오늘 00시 이후, 내가 쓴 감정기록 포함, COUNT 쿼리 없음)
+     * @param cursor 이전 응답의 next_cursor (생략 시 첫 페이지)
+     */
+    public CursorPageResponse<FriendFeedResponse> getFriendFeedSlice(Long userId, String cursor, int size) {
+        PageCursor position = PageCursor.decode(cursor);
+
         LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-        
-        // DB 쿼리 레벨에서 필터링, 정렬, 페이지네이션 처리
-        Page<EmotionRecord> emotionRecordPage = emotionRecordRepository
-                .findByIsSharedTrueAndUserIdInAndCreatedAtAfter(friendIds, startOfDay, pageable);
-        
-        List<EmotionRecord> sharedRecords = emotionRecordPage.getContent();
-
-        // 사용자가 읽은 기록 ID 목록 조회
-        List<Long> readRecordIds = feedReadStatusRepository.findReadRecordIdsByReaderId(userId);
-
-        // DTO로 변환
-        return sharedRecords.stream()
-                .map(record -> {
-                    User author = userRepository.findById(record.getUserId())
-                            .orElseThrow(() -> new IllegalArgumentException("작성자를 찾을 수 없습니다."));
-
-                    boolean isRead = readRecordIds.contains(record.getRecordId());
-                    long readCount = feedReadStatusRepository.countByEmotionRecord(record);
-                    String decryptedRecord = encryptionUtil.decrypt(record.getRecord());
-
-                    return FriendFeedResponse.from(record, decryptedRecord, author.getNickname(), author.getProfileImageUrl(), isRead, readCount);
-                })
+
+        Slice<EmotionRecord> sharedRecords = friendFeedTimelineRepository.findFeedBeforeCursor(
+                userId, startOfDay, position.createdAt(), position.id(), PageCursor.pageOf(size));
+
+        return CursorPageResponse.of(toFeedResponses(userId, sharedRecords.getContent()), sharedRecords,
+                record -> new PageCursor(record.getCreatedAt(), record.getRecordId()));
+    }
+
+    /**
+     * 피드 페이지 일괄 조립
+     * - 작성자: 페이지 전체를 한 번에 조회
+     * - 읽은 사람 수: 페이지의 기록 ID에 대해 GROUP BY 한 번으로 집계
+     * - 읽음 여부: 페이지의 기록 ID 범위 안에서만 확인
+     * - 본문: 페이지 전체를 한 번에 복호화
+     */
+    private List<FriendFeedResponse> toFeedResponses(Long userId, List<EmotionRecord> records) {
+        if (records.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> recordIds = records.stream()
+                .map(EmotionRecord::getRecordId)
                 .collect(Collectors.toList());
+
+        Set<Long> authorIds = records.stream()
+                .map(EmotionRecord::getUserId)
+                .collect(Collectors.toSet());
+
+        Map<Long, User> authors = userRepository.findAllById(authorIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Map<Long, Long> readCounts = new HashMap<>();
+        for (Object[] row : feedReadStatusRepository.countByRecordIds(recordIds)) {
+            readCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        Set<Long> readRecordIds = new HashSet<>(
+                feedReadStatusRepository.findReadRecordIdsByReaderIdAndRecordIdIn(userId, recordIds));
+
+        List<String> decryptedRecords = encryptionUtil.decryptAll(
+                records, record -> encryptionUtil.decrypt(record.getRecordData(), record.getRecord()));
+
+        List<FriendFeedResponse> responses = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            EmotionRecord record = records.get(i);
+            User author = authors.get(record.getUserId());
+            if (author == null) {
+                throw new IllegalArgumentException("작성자를 찾을 수 없습니다.");
+            }
+
+            boolean isRead = readRecordIds.contains(record.getRecordId());
+            long readCount = readCounts.getOrDefault(record.getRecordId(), 0L);
+
+            responses.add(FriendFeedResponse.from(record, decryptedRecords.get(i), author.getNickname(), author.getProfileImageUrl(), isRead, readCount));
+        }
+        return responses;
     }
 
     /**
@@ -109,7 +155,7 @@ public class FriendFeedService {
         // 읽음 상태 확인
         boolean isRead = feedReadStatusRepository.existsByReaderAndEmotionRecord(currentUser, record);
         long readCount = feedReadStatusRepository.countByEmotionRecord(record);
-        String decryptedRecord = encryptionUtil.decrypt(record.getRecord());
+        String decryptedRecord = encryptionUtil.decrypt(record.getRecordData(), record.getRecord());
 
         return FriendFeedResponse.from(record, decryptedRecord, author.getNickname(), author.getProfileImageUrl(), isRead, readCount);
     }
@@ -152,17 +198,6 @@ public class FriendFeedService {
         feedReadStatusRepository.save(readStatus);
     }
 
-    /**
-     * 사용자의 친구 ID 목록 조회 (ACCEPTED 상태만)
-     */
-    private List<Long> getFriendIds(Long userId) {
-        List<FriendRelationship> relationships = friendRelationshipRepository.findAcceptedFriendsByUserId(userId);
-        
-        return relationships.stream()
-                .map(relationship -> relationship.getOtherUserId(userId))
-                .collect(Collectors.toList());
-    }
-
     /**
      * 두 사용자가 친구인지 확인 (ACCEPTED 상태만)
      */
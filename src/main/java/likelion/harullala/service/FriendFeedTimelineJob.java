@@ -0,0 +1,121 @@
+package likelion.harullala.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 친구 피드 타임라인 백그라운드 작업
+ * - 서버 시작 후 + 주기적으로: 오늘 공유 기록을 타임라인에 채움
+ *   (배포 전 기록, 공유 시 추가에 실패한 누락분 보정 / 이미 있는 항목은 그대로)
+ * - 날짜 변경 후: 어제 이전 항목을 묶음 단위로 삭제 (조회는 오늘 기록만 읽으므로 공간 정리 목적)
+ * 두 작업 모두 작업 스레드에서 실행하고 묶음 사이에 쉬어 DB 부하 분산
+ * 채우기와 삭제는 서로 다른 행을 다루므로 따로 실행 여부를 확인 (한쪽이 실행 중이어도 다른 쪽은 건너뛰지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendFeedTimelineJob {
+
+    private final FriendFeedTimelineService timelineService;
+    private final Executor jobExecutor; // 백그라운드 작업 스레드 (AsyncConfig)
+
+    private final AtomicBoolean backfillRunning = new AtomicBoolean();
+    private final AtomicBoolean pruneRunning = new AtomicBoolean();
+
+    @Value("${friend-feed.timeline.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${friend-feed.timeline.chunk-size:500}")
+    private int chunkSize; // 한 트랜잭션에서 채우거나 삭제할 수
+
+    @Value("${friend-feed.timeline.pause-between-chunks:100ms}")
+    private Duration pauseBetweenChunks; // 묶음 사이 대기 시간
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (backfillOnStartup) {
+            jobExecutor.execute(this::backfill);
+        }
+    }
+
+    /**
+     * 누락분 채우기 (기본값: 매시 15분)
+     */
+    @Scheduled(cron = "${friend-feed.timeline.backfill-cron:0 15 * * * *}", zone = "Asia/Seoul")
+    public void backfillMissing() {
+        jobExecutor.execute(this::backfill);
+    }
+
+    /**
+     * 지난 항목 정리 (기본값: 매일 00:05 KST)
+     */
+    @Scheduled(cron = "${friend-feed.timeline.prune-cron:0 5 0 * * *}", zone = "Asia/Seoul")
+    public void pruneExpired() {
+        jobExecutor.execute(this::prune);
+    }
+
+    /**
+     * 오늘 공유 기록 채우기 (이미 실행 중이면 건너뜀)
+     */
+    public void backfill() {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            log.warn("친구 피드 타임라인 채우기가 이미 실행 중입니다");
+            return;
+        }
+
+        try {
+            LocalDateTime startOfDay = FriendFeedTimelineService.startOfToday();
+            Long lastId = 0L;
+            while ((lastId = timelineService.backfillChunk(startOfDay, lastId, chunkSize)) != null) {
+                Thread.sleep(pauseBetweenChunks.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("친구 피드 타임라인 채우기 중단");
+        } catch (RuntimeException e) {
+            log.error("친구 피드 타임라인 채우기 실패: error={}", e.getMessage(), e);
+        } finally {
+            backfillRunning.set(false);
+        }
+    }
+
+    /**
+     * 오늘 이전 항목 삭제 (이미 실행 중이면 건너뜀)
+     */
+    public void prune() {
+        if (!pruneRunning.compareAndSet(false, true)) {
+            log.warn("친구 피드 타임라인 정리가 이미 실행 중입니다");
+            return;
+        }
+
+        long deleted = 0;
+        try {
+            LocalDateTime startOfDay = FriendFeedTimelineService.startOfToday();
+            int count;
+            while ((count = timelineService.pruneChunk(startOfDay, chunkSize)) == chunkSize) {
+                deleted += count;
+                Thread.sleep(pauseBetweenChunks.toMillis());
+            }
+            deleted += count;
+            log.info("친구 피드 타임라인 정리 완료: deleted={}", deleted);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("친구 피드 타임라인 정리 중단: deleted={}", deleted);
+        } catch (RuntimeException e) {
+            log.error("친구 피드 타임라인 정리 실패: deleted={}, error={}", deleted, e.getMessage(), e);
+        } finally {
+            pruneRunning.set(false);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package likelion.harullala.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.harullala.domain.EmotionRecord;
+import likelion.harullala.repository.EmotionRecordRepository;
+import likelion.harullala.repository.FriendFeedTimelineRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 친구 피드 타임라인 관리 (쓰기 시 팬아웃)
+ * - 감정 기록 작성/수정/삭제, 공유 상태 변경 트랜잭션 안에서 타임라인 항목 추가/제거
+ * - 친구 수락 시 서로의 오늘 공유 기록을 채우고, 친구 삭제 시 서로의 항목 제거
+ * - 피드는 오늘 기록만 보여주므로 오늘 이전 기록은 팬아웃하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class FriendFeedTimelineService {
+
+    private final FriendFeedTimelineRepository timelineRepository;
+    private final EmotionRecordRepository emotionRecordRepository;
+
+    /**
+     * 기록 작성 반영 (공유 기록만)
+     */
+    public void recordAdded(EmotionRecord record) {
+        if (Boolean.TRUE.equals(record.getIsShared())) {
+            fanOut(record);
+        }
+    }
+
+    /**
+     * 공유 상태 변경 반영 (공유로 바뀌면 추가, 해제되면 제거)
+     */
+    public void sharedStatusChanged(EmotionRecord record, boolean wasShared) {
+        boolean shared = Boolean.TRUE.equals(record.getIsShared());
+        if (shared == wasShared) {
+            return;
+        }
+        if (shared) {
+            fanOut(record);
+        } else {
+            timelineRepository.deleteByRecordId(record.getRecordId());
+        }
+    }
+
+    /**
+     * 기록 삭제 반영
+     */
+    public void recordRemoved(Long recordId) {
+        timelineRepository.deleteByRecordId(recordId);
+    }
+
+    /**
+     * 친구 수락 반영 (서로의 오늘 공유 기록을 상대 타임라인에 추가)
+     */
+    public void friendshipStarted(Long userId1, Long userId2) {
+        LocalDateTime startOfDay = startOfToday();
+        timelineRepository.copyAuthorRecords(userId1, userId2, startOfDay);
+        timelineRepository.copyAuthorRecords(userId2, userId1, startOfDay);
+    }
+
+    /**
+     * 친구 삭제 반영 (서로의 타임라인에서 상대 기록 제거)
+     */
+    public void friendshipEnded(Long userId1, Long userId2) {
+        timelineRepository.deleteBetween(userId1, userId2);
+    }
+
+    /**
+     * 오늘 공유 기록을 ID 순으로 한 묶음 채우기 (이미 있는 항목은 그대로)
+     * @return 처리한 마지막 기록 ID (더 없으면 null)
+     */
+    public Long backfillChunk(LocalDateTime startOfDay, Long afterId, int chunkSize) {
+        List<Long> recordIds = emotionRecordRepository.findSharedRecordIdsSince(
+                startOfDay, afterId, PageRequest.of(0, chunkSize));
+        if (recordIds.isEmpty()) {
+            return null;
+        }
+
+        Long lastId = recordIds.get(recordIds.size() - 1);
+        timelineRepository.fanOutRange(recordIds.get(0), lastId, startOfDay);
+        return lastId;
+    }
+
+    /**
+     * 기준 시각 이전 항목 한 묶음 삭제
+     * @return 삭제한 항목 수
+     */
+    public int pruneChunk(LocalDateTime before, int chunkSize) {
+        return timelineRepository.deleteCreatedBefore(before, chunkSize);
+    }
+
+    private void fanOut(EmotionRecord record) {
+        if (record.getCreatedAt().isBefore(startOfToday())) {
+            return; // 지난 기록은 피드에 나오지 않음
+        }
+        timelineRepository.fanOut(record.getRecordId(), record.getUserId(), record.getCreatedAt());
+    }
+
+    static LocalDateTime startOfToday() {
+        return LocalDate.now().atStartOfDay();
+    }
+}
@@ -1,8 +1,7 @@
 package likelion.harullala.service;
 
-import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,10 +9,12 @@ import org.springframework.transaction.annotation.Transactional;
 import likelion.harullala.domain.Character;
 import likelion.harullala.domain.UserCharacter;
 import likelion.harullala.dto.FriendInviteGreetingResponse;
+import likelion.harullala.infra.AiMessageCache;
+import likelion.harullala.infra.AiMessageCacheKey;
+import likelion.harullala.infra.AiReply;
+import likelion.harullala.infra.AiRequestCoalescer;
 import likelion.harullala.infra.ChatGptClient;
 import likelion.harullala.repository.UserCharacterRepository;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -24,48 +25,49 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class FriendInviteGreetingService {
     
+    // AI 호출 실패 시 기본 멘트 (캐시하지 않음)
+    private static final String FALLBACK_MESSAGE = "친구와 함께 감정을 기록해봐요!";
+    
     private final ChatGptClient chatGptClient;
     private final UserCharacterRepository userCharacterRepo;
     
-    private final Map<String, CachedGreeting> cache = new ConcurrentHashMap<>();
+    private final AiMessageCache cache;
+    private final AiRequestCoalescer coalescer;
     
     /**
      * 친구 초대 페이지 AI 멘트 생성
      * - 하루에 1번만 AI 호출 (친구 초대 상황은 하나뿐)
      * - 캐시는 오늘 자정까지 유효
+     * - AI 호출은 비동기로 처리되어 요청 스레드를 점유하지 않음
      */
-    public FriendInviteGreetingResponse generateInviteGreeting(Long userId) {
+    public CompletableFuture<FriendInviteGreetingResponse> generateInviteGreeting(Long userId) {
         // 1. 현재 캐릭터 조회
         Character character = getCurrentCharacter(userId);
         String characterName = character != null ? character.getName() : "피코";
         Long characterId = character != null ? character.getId() : null;
         
         // 2. 캐시 키 생성 (userId + 캐릭터ID + 날짜)
-        String cacheKey = createCacheKey(userId, characterId);
+        AiMessageCacheKey cacheKey = new AiMessageCacheKey.FriendInvite(userId, characterId, LocalDate.now());
         
         // 3. 캐시 확인 (오늘 자정까지 유효)
-        CachedGreeting cached = cache.get(cacheKey);
-        String message;
-        
-        if (cached != null && !cached.isExpired()) {
-            message = cached.getMessage();
-        } else {
-            // 4. AI로 메시지 생성 (하루에 최대 1번만 호출)
-            message = generateWithAI(character);
-            
-            // 5. 캐시 저장 (오늘 자정까지 유효)
-            LocalDateTime endOfDay = LocalDateTime.now()
-                    .withHour(23)
-                    .withMinute(59)
-                    .withSecond(59);
-            cache.put(cacheKey, new CachedGreeting(message, endOfDay));
-        }
+        CompletableFuture<AiReply> message = cache.get(cacheKey)
+                .map(cached -> CompletableFuture.completedFuture(AiReply.generated(cached)))
+                // 4. AI로 메시지 생성 (하루에 최대 1번만 호출) 후 캐시 저장 (오늘 자정까지 유효)
+                //    동시에 들어온 같은 키의 요청은 하나의 호출을 공유
+                //    호출이 실패하면 기본 멘트로 응답하고 캐시하지 않음 (다음 조회 때 다시 생성)
+                .orElseGet(() -> AiReply.orFallback(
+                        coalescer.execute(cacheKey, () -> generateWithAI(character)
+                                .thenApply(generated -> {
+                                    cache.put(cacheKey, generated, AiMessageCache.endOfToday());
+                                    return generated;
+                                })),
+                        FALLBACK_MESSAGE));
         
-        // 6. 응답 반환
-        return FriendInviteGreetingResponse.builder()
-                .message(message)
+        // 5. 응답 반환
+        return message.thenApply(reply -> FriendInviteGreetingResponse.builder()
+                .message(reply.text())
                 .characterName(characterName)
-                .build();
+                .build());
     }
     
     /**
@@ -77,19 +79,10 @@ public class FriendInviteGreetingService {
                 .orElse(null);
     }
     
-    /**
-     * 캐시 키 생성 (userId + 캐릭터ID + 날짜)
-     * 캐릭터 변경 시에도 새로 생성되도록 캐릭터 ID 포함
-     */
-    private String createCacheKey(Long userId, Long characterId) {
-        String today = LocalDateTime.now().toLocalDate().toString(); // yyyy-MM-dd
-        return "invite_" + userId + "_" + (characterId != null ? characterId : "null") + "_" + today;
-    }
-    
     /**
      * AI로 친구 초대 멘트 생성
      */
-    private String generateWithAI(Character character) {
+    private CompletableFuture<String> generateWithAI(Character character) {
         String characterName = character != null ? character.getName() : "피코";
         String characterTag = character != null && character.getTag() != null 
                 ? character.getTag() 
@@ -137,7 +130,7 @@ public class FriendInviteGreetingService {
                  characterTag, characterDescription, speechStyle,
                  characterName, characterTag, speechStyle);
         
-        return chatGptClient.generateCustomFeedback(prompt);
+        return chatGptClient.generateCustomFeedbackAsync(prompt);
     }
     
     /**
@@ -155,20 +148,4 @@ public class FriendInviteGreetingService {
             default -> "존댓말";
         };
     }
-    
-    /**
-     * 캐시된 멘트
-     * - 오늘 자정까지 유효 (하루에 최대 1번만 AI 호출)
-     */
-    @Getter
-    @AllArgsConstructor
-    private static class CachedGreeting {
-        private final String message;
-        private final LocalDateTime expireAt; // 만료 시간 (오늘 23:59:59)
-        
-        public boolean isExpired() {
-            return LocalDateTime.now().isAfter(expireAt);
-        }
-    }
 }
-
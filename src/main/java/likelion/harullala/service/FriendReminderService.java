@@ -2,17 +2,20 @@ package likelion.harullala.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import likelion.harullala.domain.CachedMessage;
 import likelion.harullala.domain.Character;
 import likelion.harullala.domain.FriendRelationship;
 import likelion.harullala.domain.UserCharacter;
+import likelion.harullala.infra.AiMessageCache;
+import likelion.harullala.infra.AiMessageCacheKey;
+import likelion.harullala.infra.AiReply;
+import likelion.harullala.infra.AiRequestCoalescer;
 import likelion.harullala.infra.ChatGptClient;
 import likelion.harullala.repository.EmotionRecordRepository;
 import likelion.harullala.repository.FriendRelationshipRepository;
@@ -24,17 +27,22 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class FriendReminderService {
     
+    // AI 호출 실패 시 기본 멘트 (캐시하지 않음)
+    private static final String FALLBACK_MESSAGE = "친구들의 오늘 기록을 확인해보세요!";
+    
     private final ChatGptClient chatGptClient;
     private final FriendRelationshipRepository friendRepo;
     private final EmotionRecordRepository emotionRecordRepo;
     private final UserCharacterRepository userCharacterRepo;
     
-    private final Map<String, CachedMessage> cache = new ConcurrentHashMap<>();
+    private final AiMessageCache cache;
+    private final AiRequestCoalescer coalescer;
     
     /**
-     * 친구 기록 리마인드 메시지 생성
+     * 친구 기록 리마인드 메시지 생성 (AI 호출은 비동기)
+     * AI 호출이 실패하면 기본 멘트로 완료 (AiReply.fallback()이 true)
      */
-    public String generateReminder(Long userId) {
+    public CompletableFuture<AiReply> generateReminder(Long userId) {
         // 1. 친구 목록 조회
         List<Long> friendIds = getFriendIds(userId);
         int totalFriends = friendIds.size();
@@ -47,25 +55,23 @@ public class FriendReminderService {
         Character character = getCurrentCharacter(userId);
         Long characterId = character != null ? character.getId() : null;
         
-        // 4. 캐시 키 생성 (캐릭터 변경 시에도 새로 생성되도록 캐릭터 ID 포함)
-        String cacheKey = createCacheKey(userId, characterId, totalFriends, recordedFriends);
-        
-        // 5. 캐시 확인
-        CachedMessage cached = cache.get(cacheKey);
-        String message;
-        
-        if (cached != null && !cached.isExpired()) {
-            message = cached.getMessage();
-        } else {
-            // 6. AI로 메시지 생성 (친구가 없을 때도 캐릭터에 맞게 생성)
-            message = generateWithAI(character, totalFriends, recordedFriends, hasUnrecorded);
-            
-            // 7. 캐시 저장
-            cache.put(cacheKey, new CachedMessage(message, LocalDateTime.now()));
-        }
+        // 4. 캐시 키 생성 (캐릭터 변경, 친구 수 변경, 기록한 친구 수 변경 시 새로 생성)
+        AiMessageCacheKey cacheKey = new AiMessageCacheKey.FriendReminder(
+                userId, characterId, totalFriends, recordedFriends);
         
-        // 8. 메시지 반환
-        return message;
+        // 5. 캐시 확인 (24시간 유효)
+        return cache.get(cacheKey)
+                .map(cached -> CompletableFuture.completedFuture(AiReply.generated(cached)))
+                // 6. AI로 메시지 생성 (친구가 없을 때도 캐릭터에 맞게 생성) 후 캐시 저장
+                //    동시에 들어온 같은 키의 요청은 하나의 호출을 공유
+                //    호출이 실패하면 기본 멘트로 응답하고 캐시하지 않음 (다음 조회 때 다시 생성)
+                .orElseGet(() -> AiReply.orFallback(
+                        coalescer.execute(cacheKey, () -> generateWithAI(character, totalFriends, recordedFriends, hasUnrecorded)
+                                .thenApply(generated -> {
+                                    cache.put(cacheKey, generated, AiMessageCache.hoursFromNow(24));
+                                    return generated;
+                                })),
+                        FALLBACK_MESSAGE));
     }
     
     /**
@@ -90,15 +96,10 @@ public class FriendReminderService {
         LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
         LocalDateTime endOfDay = startOfDay.plusDays(1);
         
-        long count = 0;
-        for (Long friendId : friendIds) {
-            long friendRecordCount = emotionRecordRepo.countByUserIdAndDateRange(friendId, startOfDay, endOfDay);
-            if (friendRecordCount > 0) {
-                count++;
-            }
-        }
+        // 친구별 COUNT 대신 기록한 친구 ID를 한 번에 조회
+        Set<Long> recordedFriendIds = emotionRecordRepo.findUserIdsWithRecordInDateRange(friendIds, startOfDay, endOfDay);
         
-        return (int) count;
+        return recordedFriendIds.size();
     }
     
     /**
@@ -110,18 +111,10 @@ public class FriendReminderService {
                 .orElse(null);
     }
     
-    /**
-     * 캐시 키 생성
-     * 캐릭터 변경, 친구 수 변경, 기록한 친구 수 변경 시 새로 생성
-     */
-    private String createCacheKey(Long userId, Long characterId, int friendCount, int recordedCount) {
-        return userId + "_" + (characterId != null ? characterId : "null") + "_" + friendCount + "_" + recordedCount;
-    }
-    
     /**
      * AI로 메시지 생성
      */
-    private String generateWithAI(Character character, int friendCount, int recordedCount, boolean hasUnrecorded) {
+    private CompletableFuture<String> generateWithAI(Character character, int friendCount, int recordedCount, boolean hasUnrecorded) {
         String characterName = character != null ? character.getName() : "상담사";
         String characterTag = character != null && character.getTag() != null
                 ? character.getTag()
@@ -249,7 +242,7 @@ public class FriendReminderService {
                      characterName, characterTag, speechStyle);
         }
         
-        return chatGptClient.generateCustomFeedback(prompt);
+        return chatGptClient.generateCustomFeedbackAsync(prompt);
     }
     
     /**
@@ -1,14 +1,14 @@
 package likelion.harullala.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import likelion.harullala.domain.Character;
 import likelion.harullala.domain.GreetingContext;
 import likelion.harullala.domain.UserCharacter;
-import likelion.harullala.dto.FriendInviteGreetingResponse;
 import likelion.harullala.dto.GreetingResponse;
-import likelion.harullala.dto.HomeGreetingResponse;
 import likelion.harullala.repository.UserCharacterRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -28,8 +28,9 @@ public class GreetingService {
     
     /**
      * 컨텍스트에 따른 AI 인사말 생성
+     * AI 응답은 비동기로 완료되므로 요청 스레드는 응답을 기다리지 않음
      */
-    public GreetingResponse generateGreeting(Long userId, GreetingContext context) {
+    public CompletableFuture<GreetingResponse> generateGreeting(Long userId, GreetingContext context) {
         return switch (context) {
             case HOME -> generateHomeGreeting(userId);
             case FRIEND_INVITE -> generateFriendInviteGreeting(userId);
@@ -40,47 +41,44 @@ public class GreetingService {
     /**
      * 홈 화면 인사말
      */
-    private GreetingResponse generateHomeGreeting(Long userId) {
-        HomeGreetingResponse response = homeGreetingService.generateGreeting(userId);
-        
-        return GreetingResponse.builder()
-                .message(response.getMessage())
-                .characterName(response.getCharacterName())
-                .hasRecordedToday(response.getHasRecordedToday())
-                .context(GreetingContext.HOME)
-                .build();
+    private CompletableFuture<GreetingResponse> generateHomeGreeting(Long userId) {
+        return homeGreetingService.generateGreeting(userId)
+                .thenApply(response -> GreetingResponse.builder()
+                        .message(response.getMessage())
+                        .characterName(response.getCharacterName())
+                        .hasRecordedToday(response.getHasRecordedToday())
+                        .context(GreetingContext.HOME)
+                        .build());
     }
     
     /**
      * 친구 초대 페이지 멘트
      */
-    private GreetingResponse generateFriendInviteGreeting(Long userId) {
-        FriendInviteGreetingResponse response = friendInviteGreetingService.generateInviteGreeting(userId);
-        
-        return GreetingResponse.builder()
-                .message(response.getMessage())
-                .characterName(response.getCharacterName())
-                .hasRecordedToday(null) // 이 컨텍스트에서는 불필요
-                .context(GreetingContext.FRIEND_INVITE)
-                .build();
+    private CompletableFuture<GreetingResponse> generateFriendInviteGreeting(Long userId) {
+        return friendInviteGreetingService.generateInviteGreeting(userId)
+                .thenApply(response -> GreetingResponse.builder()
+                        .message(response.getMessage())
+                        .characterName(response.getCharacterName())
+                        .hasRecordedToday(null) // 이 컨텍스트에서는 불필요
+                        .context(GreetingContext.FRIEND_INVITE)
+                        .build());
     }
     
     /**
      * 친구 리마인더
      */
-    private GreetingResponse generateFriendReminderGreeting(Long userId) {
-        String message = friendReminderService.generateReminder(userId);
-        
-        // 현재 캐릭터 조회
+    private CompletableFuture<GreetingResponse> generateFriendReminderGreeting(Long userId) {
+        // 현재 캐릭터 조회 (DB 조회는 요청 스레드에서 미리 처리)
         Character character = getCurrentCharacter(userId);
         String characterName = character != null ? character.getName() : "피코";
         
-        return GreetingResponse.builder()
-                .message(message)
-                .characterName(characterName)
-                .hasRecordedToday(null)
-                .context(GreetingContext.FRIEND_REMINDER)
-                .build();
+        return friendReminderService.generateReminder(userId)
+                .thenApply(reply -> GreetingResponse.builder()
+                        .message(reply.text())
+                        .characterName(characterName)
+                        .hasRecordedToday(null)
+                        .context(GreetingContext.FRIEND_REMINDER)
+                        .build());
     }
     
     /**
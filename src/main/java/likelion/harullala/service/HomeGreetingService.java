@@ -1,8 +1,8 @@
 package likelion.harullala.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,11 +10,13 @@ import org.springframework.transaction.annotation.Transactional;
 import likelion.harullala.domain.Character;
 import likelion.harullala.domain.UserCharacter;
 import likelion.harullala.dto.HomeGreetingResponse;
+import likelion.harullala.infra.AiMessageCache;
+import likelion.harullala.infra.AiMessageCacheKey;
+import likelion.harullala.infra.AiReply;
+import likelion.harullala.infra.AiRequestCoalescer;
 import likelion.harullala.infra.ChatGptClient;
 import likelion.harullala.repository.EmotionRecordRepository;
 import likelion.harullala.repository.UserCharacterRepository;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -25,18 +27,24 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class HomeGreetingService {
     
+    // AI 호출 실패 시 기본 멘트 (캐시하지 않음)
+    private static final String FALLBACK_RECORDED = "오늘도 기록해줘서 고마워요!";
+    private static final String FALLBACK_NOT_RECORDED = "오늘 하루는 어땠어요?";
+    
     private final ChatGptClient chatGptClient;
     private final EmotionRecordRepository emotionRecordRepo;
     private final UserCharacterRepository userCharacterRepo;
     
-    private final Map<String, CachedGreeting> cache = new ConcurrentHashMap<>();
+    private final AiMessageCache cache;
+    private final AiRequestCoalescer coalescer;
     
     /**
      * 홈 화면 AI 인사말 생성
      * - 하루에 최대 2번만 AI 호출 (기록 안 했을 때 1번, 기록 후 1번)
      * - 캐시는 다음날 00:00까지 유효
+     * - AI 호출은 비동기로 처리되어 요청 스레드를 점유하지 않음
      */
-    public HomeGreetingResponse generateGreeting(Long userId) {
+    public CompletableFuture<HomeGreetingResponse> generateGreeting(Long userId) {
         // 1. 오늘 기록 작성 여부 확인
         boolean hasRecordedToday = checkTodayRecord(userId);
         
@@ -46,32 +54,29 @@ public class HomeGreetingService {
         Long characterId = character != null ? character.getId() : null;
         
         // 3. 캐시 키 생성 (userId + 캐릭터ID + 날짜 + 기록여부)
-        String cacheKey = createCacheKey(userId, characterId, hasRecordedToday);
+        AiMessageCacheKey cacheKey = new AiMessageCacheKey.HomeGreeting(
+                userId, characterId, LocalDate.now(), hasRecordedToday);
         
         // 4. 캐시 확인 (오늘 자정까지 유효)
-        CachedGreeting cached = cache.get(cacheKey);
-        String message;
-        
-        if (cached != null && !cached.isExpired()) {
-            message = cached.getMessage();
-        } else {
-            // 5. AI로 메시지 생성 (하루에 최대 2번만 호출)
-            message = generateWithAI(character, hasRecordedToday);
-            
-            // 6. 캐시 저장 (오늘 자정까지 유효)
-            LocalDateTime endOfDay = LocalDateTime.now()
-                    .withHour(23)
-                    .withMinute(59)
-                    .withSecond(59);
-            cache.put(cacheKey, new CachedGreeting(message, endOfDay));
-        }
+        CompletableFuture<AiReply> message = cache.get(cacheKey)
+                .map(cached -> CompletableFuture.completedFuture(AiReply.generated(cached)))
+                // 5. AI로 메시지 생성 (하루에 최대 2번만 호출) 후 캐시 저장 (오늘 자정까지 유효)
+                //    동시에 들어온 같은 키의 요청은 하나의 호출을 공유
+                //    호출이 실패하면 기본 멘트로 응답하고 캐시하지 않음 (다음 조회 때 다시 생성)
+                .orElseGet(() -> AiReply.orFallback(
+                        coalescer.execute(cacheKey, () -> generateWithAI(character, hasRecordedToday)
+                                .thenApply(generated -> {
+                                    cache.put(cacheKey, generated, AiMessageCache.endOfToday());
+                                    return generated;
+                                })),
+                        hasRecordedToday ? FALLBACK_RECORDED : FALLBACK_NOT_RECORDED));
         
-        // 7. 응답 반환
-        return HomeGreetingResponse.builder()
-                .message(message)
+        // 6. 응답 반환
+        return message.thenApply(reply -> HomeGreetingResponse.builder()
+                .message(reply.text())
                 .hasRecordedToday(hasRecordedToday)
                 .characterName(characterName)
-                .build();
+                .build());
     }
     
     /**
@@ -94,20 +99,10 @@ public class HomeGreetingService {
                 .orElse(null);
     }
     
-    /**
-     * 캐시 키 생성 (userId + 캐릭터ID + 날짜 + 기록여부)
-     * 캐릭터 변경 시에도 새로 생성되도록 캐릭터 ID 포함
-     * 날짜를 포함하여 자정이 지나면 자동으로 새로운 키 생성
-     */
-    private String createCacheKey(Long userId, Long characterId, boolean hasRecorded) {
-        String today = LocalDateTime.now().toLocalDate().toString(); // yyyy-MM-dd
-        return userId + "_" + (characterId != null ? characterId : "null") + "_" + today + "_" + hasRecorded;
-    }
-    
     /**
      * AI로 인사말 생성
      */
-    private String generateWithAI(Character character, boolean hasRecordedToday) {
+    private CompletableFuture<String> generateWithAI(Character character, boolean hasRecordedToday) {
         String characterName = character != null ? character.getName() : "피코";
         String characterTag = character != null && character.getTag() != null 
                 ? character.getTag() 
@@ -190,7 +185,7 @@ public class HomeGreetingService {
                      characterName, characterTag, speechStyle);
         }
         
-        return chatGptClient.generateCustomFeedback(prompt);
+        return chatGptClient.generateCustomFeedbackAsync(prompt);
     }
     
     /**
@@ -208,20 +203,4 @@ public class HomeGreetingService {
             default -> "존댓말";
         };
     }
-    
-    /**
-     * 캐시된 인사말
-     * - 오늘 자정까지 유효 (하루에 최대 2번만 AI 호출)
-     */
-    @Getter
-    @AllArgsConstructor
-    private static class CachedGreeting {
-        private final String message;
-        private final LocalDateTime expireAt; // 만료 시간 (오늘 23:59:59)
-        
-        public boolean isExpired() {
-            return LocalDateTime.now().isAfter(expireAt);
-        }
-    }
 }
-
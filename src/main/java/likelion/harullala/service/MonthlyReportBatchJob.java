@@ -0,0 +1,120 @@
+package likelion.harullala.service;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월간 리포트 사전 생성 배치
+ * 매월 초 새벽에 지난달 기록이 있는 사용자를 ID 순으로 묶음 단위(키셋 페이지네이션) 순회하며
+ * 리포트 + 캐릭터 멘트를 미리 생성해 저장 (월초 조회 몰림과 AI 호출 집중을 분산)
+ * 묶음은 진행 위치(job_checkpoint)를 잠그고 점유하므로 모든 인스턴스가 동시에 실행해도 사용자를 나눠 처리하고,
+ * 재시작하면 다음 묶음부터 이어서 처리 (처리 중 멈춘 묶음과 실패한 사용자는 조회 시 생성됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyReportBatchJob {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final MonthlyReportBatchService batchService;
+    private final MonthlyReportService monthlyReportService;
+    private final Executor jobExecutor; // 백그라운드 작업 스레드 (AsyncConfig)
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${report.monthly.batch-size:20}")
+    private int batchSize; // 한 번에 생성할 사용자 수 (동시 AI 호출 수)
+
+    @Value("${report.monthly.pause-between-batches:3s}")
+    private Duration pauseBetweenBatches; // 묶음 사이 대기 시간 (AI 호출을 밤사이에 분산)
+
+    /**
+     * 지난달 리포트 생성 (기본값: 매월 1일 02:00 KST)
+     * 스케줄러 스레드를 오래 붙잡지 않도록 작업 스레드에서 실행
+     */
+    @Scheduled(cron = "${report.monthly.cron:0 0 2 1 * *}", zone = "Asia/Seoul")
+    public void generatePreviousMonth() {
+        YearMonth month = YearMonth.now(KST).minusMonths(1);
+        jobExecutor.execute(() -> run(month));
+    }
+
+    /**
+     * 지정한 월의 리포트 생성 (이 인스턴스에서 이미 실행 중이면 건너뜀)
+     */
+    public void run(YearMonth month) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("월간 리포트 배치가 이미 실행 중입니다: month={}", month);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        AtomicInteger generated = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int visited = 0;
+
+        try {
+            while (true) {
+                List<Long> userIds = batchService.claimNextUsers(month, batchSize);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+
+                CompletableFuture<?>[] batch = userIds.stream()
+                        .map(userId -> generate(userId, month, generated, failed))
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture.allOf(batch).join();
+
+                visited += userIds.size();
+
+                Thread.sleep(pauseBetweenBatches.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("월간 리포트 배치 중단: month={}, visited={}", month, visited);
+        } catch (RuntimeException e) {
+            log.error("월간 리포트 배치 실패: month={}, visited={}, error={}", month, visited, e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+
+        log.info("월간 리포트 배치 완료: month={}, users={}, generated={}, failed={}, elapsedMs={}",
+                month, visited, generated.get(), failed.get(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 사용자 1명 리포트 생성 (실패해도 배치는 계속 진행, 다음 조회 시 새로 생성됨)
+     * 캐릭터 멘트가 기본 멘트로 대체된 경우도 저장되지 않으므로 실패로 집계
+     */
+    private CompletableFuture<Void> generate(Long userId, YearMonth month, AtomicInteger generated, AtomicInteger failed) {
+        CompletableFuture<Boolean> generation;
+        try {
+            generation = monthlyReportService.generateIfStale(userId, month);
+        } catch (RuntimeException e) {
+            generation = CompletableFuture.failedFuture(e);
+        }
+
+        return generation.handle((created, error) -> {
+            if (error != null) {
+                failed.incrementAndGet();
+                log.warn("월간 리포트 생성 실패: userId={}, month={}, error={}", userId, month, error.getMessage());
+            } else if (created) {
+                generated.incrementAndGet();
+            }
+            return null;
+        });
+    }
+}
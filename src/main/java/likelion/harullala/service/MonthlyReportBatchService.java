@@ -0,0 +1,66 @@
+package likelion.harullala.service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.harullala.domain.JobCheckpoint;
+import likelion.harullala.repository.EmotionRecordRepository;
+import likelion.harullala.repository.JobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월간 리포트 배치 진행 위치 관리
+ * - 진행 위치(job_checkpoint) 행을 잠근 상태에서 다음 사용자 묶음을 가져가고 바로 위치를 넘김
+ *   → 여러 인스턴스가 동시에 배치를 실행해도 같은 사용자를 나눠 갖지 않고 겹치지 않게 처리
+ * - 리포트 생성(AI 호출)은 잠금을 풀고 트랜잭션 밖에서 진행
+ * - 대상 월이 바뀌면(진행 위치의 target과 다르면) 처음부터 다시 진행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MonthlyReportBatchService {
+
+    private static final String JOB_NAME = "monthly-report";
+
+    private final EmotionRecordRepository emotionRecordRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+
+    /**
+     * 리포트를 생성할 다음 사용자 묶음 점유
+     * @return 사용자 ID 목록 (모두 점유되었으면 빈 목록)
+     */
+    public List<Long> claimNextUsers(YearMonth month, int batchSize) {
+        String target = month.toString();
+        jobCheckpointRepository.insertIfAbsent(JOB_NAME, target);
+        JobCheckpoint checkpoint = jobCheckpointRepository.findByJobNameForUpdate(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("작업 진행 위치를 찾을 수 없습니다: " + JOB_NAME));
+
+        if (!target.equals(checkpoint.getTarget())) {
+            log.info("월간 리포트 배치 시작: month={} (이전 month={})", target, checkpoint.getTarget());
+            checkpoint.restart(target);
+        }
+        if (checkpoint.isCompleted()) {
+            return List.of();
+        }
+
+        List<Long> userIds = emotionRecordRepository.findUserIdsWithRecordsAfter(
+                checkpoint.getLastId(),
+                month.atDay(1).atStartOfDay(),
+                month.plusMonths(1).atDay(1).atStartOfDay(),
+                PageRequest.of(0, batchSize));
+        if (userIds.isEmpty()) {
+            checkpoint.complete();
+            log.info("월간 리포트 배치 사용자 점유 완료: month={}, users={}", target, checkpoint.getProcessedCount());
+            return List.of();
+        }
+
+        checkpoint.advance(userIds.get(userIds.size() - 1), userIds.size());
+        return userIds;
+    }
+}
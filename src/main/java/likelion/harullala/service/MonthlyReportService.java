@@ -0,0 +1,180 @@
+package likelion.harullala.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import likelion.harullala.domain.MonthlyReport;
+import likelion.harullala.dto.EmotionReportCharacterMessageResponse;
+import likelion.harullala.dto.MonthlyReportResponse;
+import likelion.harullala.exception.AiCallException;
+import likelion.harullala.repository.MonthlyReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월간 리포트 서비스
+ * - 지난달 리포트는 월초 배치(MonthlyReportBatchJob)가 미리 생성해 monthly_report에 저장
+ * - 조회 시 저장된 리포트의 데이터 버전(대상 월 + 비교에 쓰는 전월)과 선택 캐릭터가 현재와 같으면 그대로 반환,
+ *   다르거나 없으면 새로 생성
+ * - 캐릭터 멘트 완료 후(AI 응답 스레드) 저장하므로 서비스 전체 트랜잭션 없이 호출하는 서비스/저장소 단위로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyReportService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final MonthlyReportRepository monthlyReportRepository;
+    private final EmotionReportService emotionReportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 월간 리포트 조회
+     * @param userId 사용자 ID
+     * @param targetMonth 대상 월 (예: "2024-01", null이면 지난달)
+     * @return 월간 리포트 (비교 + 감정 통계 + 시간대 패턴 + 캐릭터 멘트)
+     */
+    public CompletableFuture<MonthlyReportResponse> getMonthlyReport(Long userId, String targetMonth) {
+        YearMonth month = targetMonth != null
+                ? YearMonth.parse(targetMonth, DateTimeFormatter.ofPattern("yyyy-MM"))
+                : YearMonth.now(KST).minusMonths(1);
+
+        return findCurrent(userId, month)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> generate(userId, month));
+    }
+
+    /**
+     * 저장된 리포트가 없거나 오래되었으면 새로 생성 (배치용, 최신이면 아무것도 하지 않음)
+     * 캐릭터 멘트 생성에 실패하면(기본 멘트로 대체되어 저장하지 않음) AiCallException으로 완료
+     * @return 새로 생성했으면 true
+     */
+    public CompletableFuture<Boolean> generateIfStale(Long userId, YearMonth month) {
+        if (findCurrent(userId, month).isPresent()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return generate(userId, month).thenApply(report -> {
+            if (hasFallbackMessage(report)) {
+                throw new AiCallException("캐릭터 멘트 생성 실패 (리포트 저장 안 함): userId=" + userId + ", month=" + month);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * 저장된 리포트 중 현재 데이터 버전(대상 월, 전월) + 선택 캐릭터와 같은 리포트 조회
+     */
+    private Optional<MonthlyReportResponse> findCurrent(Long userId, YearMonth month) {
+        Optional<MonthlyReport> stored = monthlyReportRepository.findByUserIdAndMonth(userId, month.toString());
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+
+        MonthlyReportSnapshot.Version version = emotionReportService.getDataVersion(userId, month);
+        MonthlyReportSnapshot.Version previousVersion = emotionReportService.getDataVersion(userId, month.minusMonths(1));
+        Long characterId = emotionReportService.getSelectedCharacterId(userId);
+
+        return stored
+                .filter(report -> report.getRecordCount() == version.recordCount()
+                        && Objects.equals(report.getLastRecordUpdate(), version.lastUpdatedAt())
+                        && Objects.equals(report.getPreviousRecordCount(), previousVersion.recordCount())
+                        && Objects.equals(report.getPreviousLastRecordUpdate(), previousVersion.lastUpdatedAt())
+                        && Objects.equals(report.getCharacterId(), characterId))
+                .flatMap(this::readPayload);
+    }
+
+    /**
+     * 리포트 생성 (리포트 통계는 스냅샷에서, 캐릭터 멘트는 AI로 생성)
+     * 지난 달 이전 리포트만 저장 (이번 달은 기록이 계속 바뀌므로 저장하지 않음)
+     * 캐릭터 멘트가 기본 멘트로 대체되었으면 응답만 하고 저장하지 않음 (다음 조회/배치에서 다시 생성)
+     */
+    private CompletableFuture<MonthlyReportResponse> generate(Long userId, YearMonth month) {
+        // 데이터 버전과 캐릭터는 계산 전에 읽음 (계산 중 바뀌면 저장된 버전이 달라 다음 조회에서 다시 생성)
+        MonthlyReportSnapshot snapshot = emotionReportService.getSnapshot(userId, month);
+        MonthlyReportSnapshot.Version previousVersion = emotionReportService.getDataVersion(userId, month.minusMonths(1));
+        Long characterId = emotionReportService.getSelectedCharacterId(userId);
+        String targetMonth = month.toString();
+
+        MonthlyReportResponse.MonthlyReportResponseBuilder builder = MonthlyReportResponse.builder()
+                .month(targetMonth)
+                .comparison(emotionReportService.compareMonthlyEmotions(userId, targetMonth))
+                .top_emotions(snapshot.getTopEmotions())
+                .time_pattern(snapshot.getTimePattern());
+
+        // 캐릭터를 선택하지 않은 사용자는 멘트 없이 생성
+        CompletableFuture<EmotionReportCharacterMessageResponse> characterMessage =
+                characterId != null
+                        ? emotionReportService.generateCharacterMessage(userId, targetMonth)
+                        : CompletableFuture.completedFuture(null);
+
+        return characterMessage.thenApply(message -> {
+            LocalDateTime generatedAt = LocalDateTime.now(KST);
+            MonthlyReportResponse response = builder
+                    .character_message(message)
+                    .generated_at(generatedAt)
+                    .build();
+
+            if (hasFallbackMessage(response)) {
+                log.warn("캐릭터 멘트 생성 실패, 월간 리포트 저장 안 함: userId={}, month={}", userId, month);
+            } else if (month.isBefore(YearMonth.now(KST))) {
+                save(userId, month, snapshot.getVersion(), previousVersion, characterId, response, generatedAt);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * 리포트 저장 (있으면 교체)
+     */
+    private void save(Long userId, YearMonth month, MonthlyReportSnapshot.Version version,
+                      MonthlyReportSnapshot.Version previousVersion, Long characterId,
+                      MonthlyReportResponse response, LocalDateTime generatedAt) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            log.warn("월간 리포트 직렬화 실패: userId={}, month={}, error={}", userId, month, e.getMessage());
+            return;
+        }
+
+        MonthlyReport report = monthlyReportRepository.findByUserIdAndMonth(userId, month.toString())
+                .orElseGet(() -> MonthlyReport.builder()
+                        .userId(userId)
+                        .month(month.toString())
+                        .build());
+        report.replace(payload, version.recordCount(), version.lastUpdatedAt(),
+                previousVersion.recordCount(), previousVersion.lastUpdatedAt(), characterId, generatedAt);
+
+        try {
+            monthlyReportRepository.save(report);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스/요청이 같은 리포트를 먼저 저장함
+            log.debug("월간 리포트 동시 저장 무시: userId={}, month={}", userId, month);
+        }
+    }
+
+    private boolean hasFallbackMessage(MonthlyReportResponse report) {
+        return report.getCharacter_message() != null && report.getCharacter_message().isFallback();
+    }
+
+    private Optional<MonthlyReportResponse> readPayload(MonthlyReport report) {
+        try {
+            return Optional.of(objectMapper.readValue(report.getPayload(), MonthlyReportResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("월간 리포트 역직렬화 실패 (새로 생성): reportId={}, error={}", report.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
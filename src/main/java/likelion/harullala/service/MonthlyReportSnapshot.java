@@ -0,0 +1,258 @@
+package likelion.harullala.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import likelion.harullala.domain.EmotionMonthlyRollup;
+import likelion.harullala.domain.EmotionTimeSlot;
+import likelion.harullala.dto.EmotionReportComparisonResponse;
+import likelion.harullala.dto.EmotionReportTimePatternResponse;
+import likelion.harullala.dto.EmotionReportTopEmotionsResponse;
+import likelion.harullala.util.EmotionCatalog;
+
+/**
+ * 월별 감정 리포트 스냅샷
+ * 한 달치 집계 칸을 한 번만 순회해서 평균 좌표 / 감정별 통계 / 시간대별 패턴을 모두 계산
+ * (감정은 카탈로그 ID, 시간대는 순서로 인덱싱한 배열에 누적)
+ * 리포트 API(비교, 요약, 감정 통계, 시간대 패턴, 캐릭터 멘트)는 모두 이 스냅샷에서 응답을 만듦
+ */
+public final class MonthlyReportSnapshot {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final EmotionTimeSlot[] SLOTS = EmotionTimeSlot.values();
+
+    private final YearMonth month;
+    private final Version version;
+    private final int totalCount;
+    private final double avgX;
+    private final double avgY;
+    private final EmotionReportTopEmotionsResponse.EmotionStat representative; // 대표 감정 (없으면 null)
+    private final EmotionReportTopEmotionsResponse topEmotions;
+    private final EmotionReportTimePatternResponse timePattern;
+
+    /**
+     * 스냅샷 데이터 버전 (기록이 추가/수정/삭제되면 바뀜)
+     */
+    public record Version(long recordCount, LocalDateTime lastUpdatedAt) {}
+
+    private MonthlyReportSnapshot(YearMonth month, Version version, int totalCount, double avgX, double avgY,
+                                  EmotionReportTopEmotionsResponse.EmotionStat representative,
+                                  EmotionReportTopEmotionsResponse topEmotions,
+                                  EmotionReportTimePatternResponse timePattern) {
+        this.month = month;
+        this.version = version;
+        this.totalCount = totalCount;
+        this.avgX = avgX;
+        this.avgY = avgY;
+        this.representative = representative;
+        this.topEmotions = topEmotions;
+        this.timePattern = timePattern;
+    }
+
+    /**
+     * 집계 칸 목록으로 스냅샷 생성 (한 번 순회)
+     */
+    public static MonthlyReportSnapshot of(YearMonth month, Version version, List<EmotionMonthlyRollup> cells) {
+        int totalCount = 0;
+        double sumX = 0;
+        double sumY = 0;
+
+        // 감정/시간대별 누적은 카탈로그 ID, 시간대 순서로 인덱싱한 배열에 저장
+        int[] emotionCounts = new int[EmotionCatalog.SIZE];
+        EmotionMonthlyRollup[] emotionLatest = new EmotionMonthlyRollup[EmotionCatalog.SIZE];
+        int[] slotCounts = new int[SLOTS.length];
+        EmotionMonthlyRollup[] slotTop = new EmotionMonthlyRollup[SLOTS.length];
+        Map<String, EmotionAccumulator> uncataloged = new LinkedHashMap<>(); // 카탈로그에 없는 감정
+
+        for (EmotionMonthlyRollup cell : cells) {
+            int count = cell.getRecordCount();
+            totalCount += count;
+            sumX += cell.getSumX();
+            sumY += cell.getSumY();
+
+            int emotionId = emotionIdOf(cell);
+            if (emotionId != EmotionCatalog.UNKNOWN) {
+                emotionCounts[emotionId] += count;
+                if (isLater(cell, emotionLatest[emotionId])) {
+                    emotionLatest[emotionId] = cell;
+                }
+            } else {
+                uncataloged.computeIfAbsent(cell.getEmotionName(), name -> new EmotionAccumulator()).add(cell);
+            }
+
+            int slot = cell.getTimeSlot().ordinal();
+            slotCounts[slot] += count;
+            if (slotTop[slot] == null || count > slotTop[slot].getRecordCount()) {
+                slotTop[slot] = cell;
+            }
+        }
+
+        if (totalCount == 0) {
+            return new MonthlyReportSnapshot(month, version, 0, 0.5, 0.5, null,
+                    EmotionReportTopEmotionsResponse.builder()
+                            .emotions(Collections.emptyList())
+                            .total_count(0)
+                            .build(),
+                    EmotionReportTimePatternResponse.builder()
+                            .dominant_time("없음")
+                            .dominant_emotion("없음")
+                            .total_count(0)
+                            .time_slots(Collections.emptyList())
+                            .build());
+        }
+
+        // 감정별 통계 (내림차순)
+        List<EmotionReportTopEmotionsResponse.EmotionStat> stats = new ArrayList<>();
+        for (int emotionId = 0; emotionId < EmotionCatalog.SIZE; emotionId++) {
+            if (emotionCounts[emotionId] > 0) {
+                stats.add(emotionStat(EmotionCatalog.nameOf(emotionId), emotionCounts[emotionId], emotionLatest[emotionId], totalCount));
+            }
+        }
+        for (Map.Entry<String, EmotionAccumulator> entry : uncataloged.entrySet()) {
+            stats.add(emotionStat(entry.getKey(), entry.getValue().count, entry.getValue().latest, totalCount));
+        }
+        stats.sort(Comparator.comparing(EmotionReportTopEmotionsResponse.EmotionStat::getCount).reversed());
+
+        // 시간대별 패턴 (기록 수 내림차순)
+        List<EmotionTimeSlot> orderedSlots = new ArrayList<>(SLOTS.length);
+        for (EmotionTimeSlot slot : SLOTS) {
+            if (slotCounts[slot.ordinal()] > 0) {
+                orderedSlots.add(slot);
+            }
+        }
+        orderedSlots.sort(Comparator.comparingInt((EmotionTimeSlot slot) -> slotCounts[slot.ordinal()]).reversed());
+
+        List<EmotionReportTimePatternResponse.TimeSlot> timeSlots = new ArrayList<>(orderedSlots.size());
+        for (EmotionTimeSlot slot : orderedSlots) {
+            EmotionMonthlyRollup top = slotTop[slot.ordinal()]; // 시간대 안에서 가장 많았던 감정
+            timeSlots.add(EmotionReportTimePatternResponse.TimeSlot.builder()
+                    .time_range(slot.getRangeLabel())
+                    .emotion_name(top.getEmotionName())
+                    .count(slotCounts[slot.ordinal()])
+                    .percentage(percentage(slotCounts[slot.ordinal()], totalCount))
+                    .main_color(top.getMainColor())
+                    .sub_color(top.getSubColor())
+                    .text_color(top.getTextColor())
+                    .build());
+        }
+
+        // 가장 많이 기록한 시간대와 그 시간대의 주요 감정
+        EmotionTimeSlot dominantTime = orderedSlots.get(0);
+        EmotionReportTimePatternResponse.TimeSlot dominantSlot = timeSlots.get(0);
+
+        return new MonthlyReportSnapshot(month, version, totalCount,
+                sumX / totalCount, sumY / totalCount,
+                stats.get(0),
+                EmotionReportTopEmotionsResponse.builder()
+                        .emotions(Collections.unmodifiableList(stats))
+                        .total_count(totalCount)
+                        .build(),
+                EmotionReportTimePatternResponse.builder()
+                        .dominant_time(dominantTime.getName())
+                        .dominant_emotion(dominantSlot.getEmotion_name())
+                        .total_count(totalCount)
+                        .time_slots(Collections.unmodifiableList(timeSlots))
+                        .build());
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public Version getVersion() {
+        return version;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 월별 평균 상태 (비교 화면용)
+     */
+    public EmotionReportComparisonResponse.MonthlyAverage toMonthlyAverage(String label) {
+        if (representative == null) {
+            return EmotionReportComparisonResponse.MonthlyAverage.builder()
+                    .month(month.format(MONTH_FORMAT))
+                    .avg_position_x(0.5) // 중앙값
+                    .avg_position_y(0.5) // 중앙값
+                    .representative_emotion("없음") // 대표 감정 없음
+                    .main_color("#808080") // 회색
+                    .sub_color("#808080") // 회색
+                    .text_color("#000000") // 검정
+                    .label(label)
+                    .record_count(0)
+                    .build();
+        }
+
+        return EmotionReportComparisonResponse.MonthlyAverage.builder()
+                .month(month.format(MONTH_FORMAT))
+                .avg_position_x(Math.round(avgX * 100.0) / 100.0) // 소수점 2자리
+                .avg_position_y(Math.round(avgY * 100.0) / 100.0)
+                .representative_emotion(representative.getEmotion_name())
+                .main_color(representative.getMain_color())
+                .sub_color(representative.getSub_color())
+                .text_color(representative.getText_color())
+                .label(label)
+                .record_count(totalCount)
+                .build();
+    }
+
+    public EmotionReportTopEmotionsResponse getTopEmotions() {
+        return topEmotions;
+    }
+
+    public EmotionReportTimePatternResponse getTimePattern() {
+        return timePattern;
+    }
+
+    private static EmotionReportTopEmotionsResponse.EmotionStat emotionStat(
+            String emotionName, int count, EmotionMonthlyRollup latest, int totalCount) {
+        return EmotionReportTopEmotionsResponse.EmotionStat.builder()
+                .emotion_name(emotionName)
+                .count(count)
+                .main_color(latest.getMainColor()) // 가장 최근 기록의 색상
+                .sub_color(latest.getSubColor())
+                .text_color(latest.getTextColor())
+                .percentage(percentage(count, totalCount))
+                .build();
+    }
+
+    /**
+     * 집계 칸의 감정 카탈로그 ID (emotion_id 컬럼 추가 전 칸은 감정명으로 조회)
+     */
+    private static int emotionIdOf(EmotionMonthlyRollup cell) {
+        return cell.getEmotionId() != null ? cell.getEmotionId() : EmotionCatalog.idOf(cell.getEmotionName());
+    }
+
+    private static boolean isLater(EmotionMonthlyRollup cell, EmotionMonthlyRollup current) {
+        return current == null || cell.getLatestCreatedAt().isAfter(current.getLatestCreatedAt());
+    }
+
+    private static double percentage(int count, int totalCount) {
+        double percentage = (count * 100.0) / totalCount;
+        return Math.round(percentage * 10) / 10.0; // 소수점 1자리
+    }
+
+    /**
+     * 카탈로그에 없는 감정의 누적 (시간대 칸 합산 + 가장 최근 칸)
+     */
+    private static final class EmotionAccumulator {
+        private int count;
+        private EmotionMonthlyRollup latest;
+
+        private void add(EmotionMonthlyRollup cell) {
+            count += cell.getRecordCount();
+            if (isLater(cell, latest)) {
+                latest = cell;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package likelion.harullala.service;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월별 리포트 스냅샷 메모리 캐시 (사용자 + 월 단위)
+ * - 저장된 스냅샷의 데이터 버전이 현재 버전과 다르면 miss 처리 후 교체
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ */
+@Component
+public class MonthlyReportSnapshotCache {
+
+    private final int maxSize;
+    private final LinkedHashMap<Key, MonthlyReportSnapshot> entries;
+
+    private record Key(Long userId, YearMonth month) {}
+
+    public MonthlyReportSnapshotCache(@Value("${report.snapshot.cache-max-size:5000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, MonthlyReportSnapshot> eldest) {
+                return size() > MonthlyReportSnapshotCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 현재 데이터 버전의 스냅샷 조회
+     */
+    public synchronized Optional<MonthlyReportSnapshot> get(Long userId, YearMonth month, MonthlyReportSnapshot.Version version) {
+        Key key = new Key(userId, month);
+        MonthlyReportSnapshot snapshot = entries.get(key);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        if (!snapshot.getVersion().equals(version)) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    public synchronized void put(Long userId, MonthlyReportSnapshot snapshot) {
+        entries.put(new Key(userId, snapshot.getMonth()), snapshot);
+    }
+}
@@ -0,0 +1,58 @@
+package likelion.harullala.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 아웃박스 디스패처
+ * - 커밋 직후 비동기로 발송 (요청 응답 시간은 친구 수/FCM 지연과 무관)
+ * - 누락된 행(커밋 직후 종료, 처리 실패 등)은 주기적으로 다시 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxService outboxService;
+
+    @Value("${notification.outbox.stale-after:1m}")
+    private Duration staleAfter; // 이 시간이 지나도 남아 있는 행은 재처리 대상
+
+    @Value("${notification.outbox.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxCreated(NotificationOutboxService.OutboxCreated event) {
+        dispatch(event.outboxId());
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.sweep-interval-ms:60000}")
+    public void sweepPending() {
+        List<Long> outboxIds = outboxService.findStalePendingIds(LocalDateTime.now().minus(staleAfter), sweepBatchSize);
+        if (!outboxIds.isEmpty()) {
+            log.info("미처리 알림 아웃박스 재처리: count={}", outboxIds.size());
+        }
+        outboxIds.forEach(this::dispatch);
+    }
+
+    private void dispatch(Long outboxId) {
+        try {
+            outboxService.dispatch(outboxId);
+        } catch (Exception e) {
+            log.error("알림 아웃박스 처리 실패: outboxId={}, error={}", outboxId, e.getMessage(), e);
+            outboxService.recordFailure(outboxId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package likelion.harullala.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.harullala.domain.NotificationOutbox;
+import likelion.harullala.domain.NotificationType;
+import likelion.harullala.domain.User;
+import likelion.harullala.repository.FriendNotificationBlockRepository;
+import likelion.harullala.repository.FriendRelationshipRepository;
+import likelion.harullala.repository.NotificationOutboxRepository;
+import likelion.harullala.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 아웃박스 서비스
+ * - 기록/친구 요청 트랜잭션에서는 아웃박스 행만 저장 (append)
+ * - 커밋 후 NotificationOutboxDispatcher가 dispatch를 호출해 실제 알림 저장 + 푸시
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationService notificationService;
+    private final UserRepository userRepository;
+    private final FriendRelationshipRepository friendRelationshipRepository;
+    private final FriendNotificationBlockRepository friendNotificationBlockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * 아웃박스 행 저장 이벤트 (커밋 후 디스패처가 수신)
+     */
+    public record OutboxCreated(Long outboxId) {}
+
+    /**
+     * 친구들에게 감정 기록 작성 알림
+     */
+    public void friendEmotionRecorded(Long userId, Long recordId) {
+        append(NotificationType.FRIEND_EMOTION_RECORD, userId, null, recordId);
+    }
+
+    /**
+     * 친구 요청 알림
+     */
+    public void friendRequested(Long requesterId, Long receiverId, Long relationshipId) {
+        append(NotificationType.FRIEND_REQUEST, requesterId, receiverId, relationshipId);
+    }
+
+    /**
+     * 친구 수락 알림
+     */
+    public void friendAccepted(Long accepterId, Long requesterId, Long relationshipId) {
+        append(NotificationType.FRIEND_ACCEPTED, accepterId, requesterId, relationshipId);
+    }
+
+    private void append(NotificationType type, Long actorId, Long recipientId, Long relatedId) {
+        NotificationOutbox saved = outboxRepository.save(NotificationOutbox.builder()
+                .type(type)
+                .actorId(actorId)
+                .recipientId(recipientId)
+                .relatedId(relatedId)
+                .build());
+        eventPublisher.publishEvent(new OutboxCreated(saved.getId()));
+    }
+
+    /**
+     * 아웃박스 행 처리 → 알림 저장 + FCM 대기열 등록 후 행 삭제
+     * 다른 스레드가 처리 중이거나 이미 처리된 행은 건너뜀
+     */
+    public void dispatch(Long outboxId) {
+        NotificationOutbox outbox = outboxRepository.findPendingForUpdate(outboxId).orElse(null);
+        if (outbox == null) {
+            return;
+        }
+
+        User actor = userRepository.findById(outbox.getActorId()).orElse(null);
+        if (actor != null) {
+            switch (outbox.getType()) {
+                case FRIEND_EMOTION_RECORD -> dispatchToFriends(outbox, actor);
+                case FRIEND_REQUEST -> dispatchToRecipient(outbox,
+                        "새로운 친구 요청이 도착했어요",
+                        actor.getNickname() + "님이 친구 요청을 보냈어요");
+                case FRIEND_ACCEPTED -> dispatchToRecipient(outbox,
+                        "친구 요청이 수락되었어요",
+                        actor.getNickname() + "님이 친구 요청을 수락했어요");
+                default -> log.warn("아웃박스에서 지원하지 않는 알림 타입: outboxId={}, type={}", outboxId, outbox.getType());
+            }
+        }
+
+        outboxRepository.delete(outbox);
+    }
+
+    /**
+     * 친구 전체에게 발송 (친구 조회, 차단 여부, 알림 저장을 모두 일괄 처리)
+     * 나를 차단한 친구는 DB에는 저장하되 FCM 푸시만 생략
+     */
+    private void dispatchToFriends(NotificationOutbox outbox, User actor) {
+        List<Long> friendIds = friendRelationshipRepository.findAcceptedFriendsByUserId(actor.getId()).stream()
+                .map(relationship -> relationship.getOtherUserId(actor.getId()))
+                .collect(Collectors.toList());
+        if (friendIds.isEmpty()) {
+            return;
+        }
+
+        List<User> friends = userRepository.findAllById(friendIds);
+        Set<Long> blockedBy = friendNotificationBlockRepository.findUserIdsBlockingFriend(actor.getId(), friendIds);
+
+        notificationService.sendNotifications(
+                friends,
+                NotificationType.FRIEND_EMOTION_RECORD,
+                "친구가 감정 기록을 작성했어요",
+                actor.getNickname() + "님이 오늘의 감정을 기록했어요",
+                outbox.getRelatedId(),
+                blockedBy
+        );
+    }
+
+    private void dispatchToRecipient(NotificationOutbox outbox, String title, String message) {
+        userRepository.findById(outbox.getRecipientId())
+                .ifPresent(recipient -> notificationService.sendNotifications(
+                        List.of(recipient),
+                        outbox.getType(),
+                        title,
+                        message,
+                        outbox.getRelatedId(),
+                        Set.of()
+                ));
+    }
+
+    /**
+     * 처리 실패 기록 (dispatch 트랜잭션은 롤백되므로 별도 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(Long outboxId, String error) {
+        outboxRepository.findById(outboxId)
+                .ifPresent(outbox -> outbox.recordFailure(error, maxAttempts));
+    }
+
+    /**
+     * 일정 시간이 지나도 처리되지 않은 대기 행 ID 조회 (커밋 직후 서버 종료 등)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findStalePendingIds(LocalDateTime before, int limit) {
+        return outboxRepository.findPendingIdsCreatedBefore(before, PageRequest.of(0, limit));
+    }
+}
@@ -1,25 +1,30 @@
 package likelion.harullala.service;
 
-import com.google.firebase.messaging.*;
 import likelion.harullala.domain.Notification;
 import likelion.harullala.domain.NotificationType;
 import likelion.harullala.domain.User;
+import likelion.harullala.dto.CursorPageResponse;
 import likelion.harullala.dto.NotificationListResponse;
 import likelion.harullala.dto.NotificationResponse;
 import likelion.harullala.dto.UnreadCountResponse;
+import likelion.harullala.infra.FcmDeliveryEngine;
+import likelion.harullala.infra.FcmGateway;
 import likelion.harullala.repository.NotificationRepository;
 import likelion.harullala.repository.UserRepository;
+import likelion.harullala.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +39,7 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final FcmDeliveryEngine fcmDeliveryEngine;
 
     /**
      * 알림 전송 (DB 저장 + FCM 푸시)
@@ -74,7 +80,7 @@ public class NotificationService {
         if (!skipPush && user.getFcmToken() != null && !user.getFcmToken().isEmpty()) {
             log.info("FCM 전송 시도: userId={}, fcmToken={}", userId, 
                     user.getFcmToken().length() > 20 ? user.getFcmToken().substring(0, 20) + "..." : user.getFcmToken());
-            sendFcmNotification(user.getFcmToken(), type, title, message, relatedId, notification.getId());
+            sendFcmNotification(userId, user.getFcmToken(), type, title, message, relatedId, notification.getId());
         } else if (skipPush) {
             log.info("푸시 알림이 차단되어 FCM 전송을 건너뜁니다. userId={}", userId);
         } else {
@@ -83,63 +89,55 @@ public class NotificationService {
     }
 
     /**
-     * FCM 푸시 알림 전송
+     * 여러 사용자에게 같은 알림 일괄 전송 (DB 일괄 저장 + FCM 대기열 등록)
+     * @param skipPushUserIds FCM 푸시를 보내지 않을 사용자 ID (DB에는 저장됨)
      */
-    private void sendFcmNotification(String fcmToken, NotificationType type, String title, String message, Long relatedId, Long notificationId) {
-        try {
-            log.info("FCM 전송 시도: type={}, title={}, fcmToken={}", type, title, 
-                fcmToken != null && fcmToken.length() > 20 ? fcmToken.substring(0, 20) + "..." : fcmToken);
-            
-            // 알림 데이터 구성
-            Map<String, String> data = new HashMap<>();
-            data.put("type", type.name());
-            data.put("title", title);
-            data.put("message", message);
-            data.put("notificationId", String.valueOf(notificationId));
-            if (relatedId != null) {
-                data.put("relatedId", String.valueOf(relatedId));
-            }
+    @Transactional
+    public void sendNotifications(List<User> recipients, NotificationType type, String title, String message, Long relatedId, Set<Long> skipPushUserIds) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        List<Notification> notifications = recipients.stream()
+                .map(recipient -> Notification.builder()
+                        .user(recipient)
+                        .type(type)
+                        .title(title)
+                        .message(message)
+                        .relatedId(relatedId)
+                        .isRead(false)
+                        .build())
+                .collect(Collectors.toList());
+        notificationRepository.saveAll(notifications);
 
-            // FCM 메시지 생성
-            Message fcmMessage = Message.builder()
-                    .setToken(fcmToken)
-                    .setNotification(com.google.firebase.messaging.Notification.builder()
-                            .setTitle(title)
-                            .setBody(message)
-                            .build())
-                    .putAllData(data)
-                    .setAndroidConfig(AndroidConfig.builder()
-                            .setPriority(AndroidConfig.Priority.HIGH)
-                            .build())
-                    .setApnsConfig(ApnsConfig.builder()
-                            .setAps(Aps.builder()
-                                    .setSound("default")
-                                    .build())
-                            .build())
-                    .build();
-
-            // FCM 전송
-            log.info("FirebaseMessaging.getInstance() 호출 전");
-            String response = FirebaseMessaging.getInstance().send(fcmMessage);
-            log.info("FCM 전송 성공: response={}", response);
-
-        } catch (FirebaseMessagingException e) {
-            log.error("FCM 전송 실패 (FirebaseMessagingException): errorCode={}, message={}", 
-                    e.getMessagingErrorCode(), e.getMessage());
-            e.printStackTrace();
-            
-            // 토큰이 유효하지 않은 경우 처리
-            if (e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT ||
-                e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
-                log.warn("유효하지 않은 FCM 토큰입니다. 토큰 삭제를 고려해야 합니다.");
+        int pushed = 0;
+        for (Notification notification : notifications) {
+            User recipient = notification.getUser();
+            if (skipPushUserIds.contains(recipient.getId())
+                    || recipient.getFcmToken() == null || recipient.getFcmToken().isEmpty()) {
+                continue;
             }
-        } catch (IllegalStateException e) {
-            log.error("FCM 전송 실패 (IllegalStateException): Firebase가 초기화되지 않았습니다. message={}", e.getMessage());
-            e.printStackTrace();
-        } catch (Exception e) {
-            log.error("알 수 없는 오류로 FCM 전송 실패: exception={}, message={}", e.getClass().getName(), e.getMessage());
-            e.printStackTrace();
+            sendFcmNotification(recipient.getId(), recipient.getFcmToken(), type, title, message, relatedId, notification.getId());
+            pushed++;
+        }
+        log.info("알림 일괄 저장 완료: type={}, count={}, push={}", type, notifications.size(), pushed);
+    }
+
+    /**
+     * FCM 푸시 알림 전송 (FcmDeliveryEngine 대기열에 등록 → 커밋 후 묶음 전송)
+     */
+    private void sendFcmNotification(Long userId, String fcmToken, NotificationType type, String title, String message, Long relatedId, Long notificationId) {
+        // 알림 데이터 구성
+        Map<String, String> data = new HashMap<>();
+        data.put("type", type.name());
+        data.put("title", title);
+        data.put("message", message);
+        data.put("notificationId", String.valueOf(notificationId));
+        if (relatedId != null) {
+            data.put("relatedId", String.valueOf(relatedId));
         }
+
+        fcmDeliveryEngine.enqueue(userId, new FcmGateway.Push(fcmToken, title, message, data));
     }
 
     /**
@@ -176,6 +174,28 @@ public class NotificationService {
                 .build();
     }
 
+    /**
+     * 알림 목록 커서 조회 (최신순, 깊이와 무관하게 같은 비용, COUNT 쿼리 없음)
+     * @param cursor 이전 응답의 next_cursor (생략 시 첫 페이지)
+     * @param days 최근 N일 이내 알림만 (생략 시 전체)
+     */
+    public CursorPageResponse<NotificationResponse> getNotificationSlice(Long userId, String cursor, int size, Integer days) {
+        PageCursor position = PageCursor.decode(cursor);
+        Pageable pageable = PageCursor.pageOf(size);
+
+        Slice<Notification> notifications = days != null && days > 0
+                ? notificationRepository.findByUserIdAndCreatedAtAfterBeforeCursor(
+                        userId, java.time.LocalDateTime.now().minusDays(days), position.createdAt(), position.id(), pageable)
+                : notificationRepository.findByUserIdBeforeCursor(userId, position.createdAt(), position.id(), pageable);
+
+        List<NotificationResponse> responses = notifications.getContent().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        return CursorPageResponse.of(responses, notifications,
+                notification -> new PageCursor(notification.getCreatedAt(), notification.getId()));
+    }
+
     /**
      * 안읽은 알림 개수 조회
      */
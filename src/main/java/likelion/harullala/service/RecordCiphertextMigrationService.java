@@ -0,0 +1,54 @@
+package likelion.harullala.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.harullala.repository.EmotionRecordRepository;
+import likelion.harullala.repository.EmotionRecordRepository.LegacyCiphertext;
+import likelion.harullala.util.EncryptionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 감정 기록 암호문 저장 형식 변환 (Base64 텍스트 → 바이너리)
+ * 묶음 하나를 한 트랜잭션으로 처리 (RecordCiphertextMigrator가 기록 ID 순으로 반복 호출)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RecordCiphertextMigrationService {
+
+    private final EmotionRecordRepository emotionRecordRepository;
+    private final EncryptionUtil encryptionUtil;
+
+    /**
+     * afterId 다음 기록부터 최대 chunkSize건 변환
+     * @return 마지막으로 확인한 기록 ID (남은 기록이 없으면 null)
+     */
+    public Long migrateChunk(Long afterId, int chunkSize) {
+        List<LegacyCiphertext> rows = emotionRecordRepository.findLegacyCiphertexts(afterId, PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        for (LegacyCiphertext row : rows) {
+            byte[] recordData;
+            try {
+                recordData = encryptionUtil.toBinary(row.getRecord());
+                if (encryptionUtil.needsReencryption(recordData)) {
+                    recordData = encryptionUtil.reencrypt(recordData); // 키가 교체되었거나 헤더 인증을 쓰면 현재 키/형식으로 저장
+                }
+            } catch (RuntimeException e) {
+                // Base64가 아니거나 복호화할 수 없는 기록은 그대로 두고 계속 진행 (기존 형식으로 계속 읽힘)
+                log.warn("감정 기록 암호문 변환 실패: recordId={}, error={}", row.getRecordId(), e.getMessage());
+                continue;
+            }
+            emotionRecordRepository.migrateCiphertext(row.getRecordId(), row.getRecord(), recordData);
+        }
+        return rows.get(rows.size() - 1).getRecordId();
+    }
+}
@@ -0,0 +1,66 @@
+package likelion.harullala.service;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 Base64 텍스트로 저장된 감정 기록을 바이너리 형식(record_data)으로 옮기는 백그라운드 작업
+ * 서버 시작 후 작업 스레드에서 기록 ID 순으로 묶음 단위 처리 (묶음 사이에 쉬어 DB 부하 분산)
+ * 이미 옮긴 기록은 조회 대상이 아니므로 중간에 멈춰도 다음 시작 시 이어서 처리됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordCiphertextMigrator {
+
+    private final RecordCiphertextMigrationService migrationService;
+    private final Executor jobExecutor; // 백그라운드 작업 스레드 (AsyncConfig)
+
+    @Value("${encryption.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${encryption.migration.chunk-size:200}")
+    private int chunkSize; // 한 트랜잭션에서 옮길 기록 수
+
+    @Value("${encryption.migration.pause-between-chunks:200ms}")
+    private Duration pauseBetweenChunks; // 묶음 사이 대기 시간
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            jobExecutor.execute(this::run);
+        }
+    }
+
+    private void run() {
+        long startedAt = System.currentTimeMillis();
+        int chunks = 0;
+
+        try {
+            Long lastRecordId = 0L;
+            while ((lastRecordId = migrationService.migrateChunk(lastRecordId, chunkSize)) != null) {
+                chunks++;
+                Thread.sleep(pauseBetweenChunks.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("감정 기록 암호문 변환 중단: chunks={}", chunks);
+            return;
+        } catch (RuntimeException e) {
+            log.error("감정 기록 암호문 변환 실패 (다음 시작 시 이어서 처리): chunks={}, error={}", chunks, e.getMessage(), e);
+            return;
+        }
+
+        if (chunks > 0) {
+            log.info("감정 기록 암호문 변환 완료: chunks={}, elapsedMs={}", chunks, System.currentTimeMillis() - startedAt);
+        }
+    }
+}
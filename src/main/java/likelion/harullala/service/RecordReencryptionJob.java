@@ -0,0 +1,74 @@
+package likelion.harullala.service;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 감정 기록 다시 암호화 백그라운드 작업 (키 교체, 저장 형식 변경용)
+ * 서버 시작 후 작업 스레드에서 기록 ID 순으로 묶음 단위 처리 (묶음 사이에 쉬어 DB/CPU 부하 분산)
+ * 진행 위치가 DB에 남으므로 다른 인스턴스가 실행해도 이어서 처리됨
+ * 시작할 때마다 처음부터 확인 패스를 다시 진행 (배포 중 이전 인스턴스가 이전 키로 쓴 기록 보정, 이전 키 제거 전 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordReencryptionJob {
+
+    private final RecordReencryptionService reencryptionService;
+    private final Executor jobExecutor; // 백그라운드 작업 스레드 (AsyncConfig)
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${encryption.reencryption.enabled:true}")
+    private boolean enabled;
+
+    @Value("${encryption.reencryption.verify-on-startup:true}")
+    private boolean verifyOnStartup; // 이미 완료되었어도 시작 시 처음부터 다시 확인
+
+    @Value("${encryption.reencryption.chunk-size:200}")
+    private int chunkSize; // 한 트랜잭션에서 다시 암호화할 기록 수
+
+    @Value("${encryption.reencryption.pause-between-chunks:500ms}")
+    private Duration pauseBetweenChunks; // 묶음 사이 대기 시간
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            jobExecutor.execute(this::run);
+        }
+    }
+
+    /**
+     * 남은 기록 다시 암호화 (이미 실행 중이면 건너뜀)
+     */
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            if (verifyOnStartup) {
+                reencryptionService.restartPass();
+            }
+            while (reencryptionService.reencryptNextChunk(chunkSize)) {
+                Thread.sleep(pauseBetweenChunks.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("감정 기록 다시 암호화 중단 (다음 시작 시 이어서 처리)");
+        } catch (RuntimeException e) {
+            log.error("감정 기록 다시 암호화 실패 (다음 시작 시 이어서 처리): error={}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
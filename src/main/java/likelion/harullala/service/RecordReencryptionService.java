@@ -0,0 +1,99 @@
+package likelion.harullala.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.harullala.domain.JobCheckpoint;
+import likelion.harullala.repository.EmotionRecordRepository;
+import likelion.harullala.repository.EmotionRecordRepository.BinaryCiphertext;
+import likelion.harullala.repository.JobCheckpointRepository;
+import likelion.harullala.util.EncryptionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키 교체(또는 저장 형식 변경) 후 감정 기록 다시 암호화
+ * - 묶음 하나를 한 트랜잭션으로 처리하고 진행 위치(job_checkpoint)를 함께 저장
+ * - 진행 위치 행을 잠그고 처리하므로 여러 인스턴스가 동시에 실행해도 묶음이 겹치지 않음
+ * - 현재 키/형식이 바뀌면(진행 위치의 target과 다르면) 처음부터 다시 진행
+ * - 끝까지 돌았을 때 한 건이라도 다시 암호화했으면 처음부터 한 번 더 확인하고,
+ *   다시 암호화한 기록이 없는 패스가 나와야 완료 (진행 중 이전 설정의 인스턴스가 지나간 구간에 쓴 기록 보정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RecordReencryptionService {
+
+    private static final String JOB_NAME = "record-reencryption";
+
+    private final EmotionRecordRepository emotionRecordRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final EncryptionUtil encryptionUtil;
+
+    /**
+     * 처음부터 다시 확인 (서버 시작 시 호출, 이미 완료되었어도 다시 진행)
+     * 배포 중 이전 설정의 인스턴스가 이전 키로 쓴 기록은 마지막 인스턴스가 시작된 뒤의 패스에서 보정됨
+     */
+    public void restartPass() {
+        String target = encryptionUtil.getReencryptionTarget();
+        jobCheckpointRepository.insertIfAbsent(JOB_NAME, target);
+        jobCheckpointRepository.findByJobNameForUpdate(JOB_NAME)
+                .ifPresent(checkpoint -> checkpoint.restart(target));
+    }
+
+    /**
+     * 다음 묶음 다시 암호화
+     * @return 남은 기록이 있으면 true
+     */
+    public boolean reencryptNextChunk(int chunkSize) {
+        String target = encryptionUtil.getReencryptionTarget();
+        jobCheckpointRepository.insertIfAbsent(JOB_NAME, target);
+        JobCheckpoint checkpoint = jobCheckpointRepository.findByJobNameForUpdate(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("작업 진행 위치를 찾을 수 없습니다: " + JOB_NAME));
+
+        if (!target.equals(checkpoint.getTarget())) {
+            log.info("감정 기록 다시 암호화 시작: target={} (이전 target={})", target, checkpoint.getTarget());
+            checkpoint.restart(target);
+        }
+        if (checkpoint.isCompleted()) {
+            return false;
+        }
+
+        List<BinaryCiphertext> rows = emotionRecordRepository.findBinaryCiphertexts(
+                checkpoint.getLastId(), PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            if (checkpoint.getProcessedCount() > 0) {
+                log.info("감정 기록 다시 암호화 패스 종료, 확인 패스 시작: target={}, records={}",
+                        target, checkpoint.getProcessedCount());
+                checkpoint.restart(target);
+                return true;
+            }
+            checkpoint.complete();
+            log.info("감정 기록 다시 암호화 완료 (이전 키/형식 기록 없음): target={}", target);
+            return false;
+        }
+
+        int reencrypted = 0;
+        for (BinaryCiphertext row : rows) {
+            if (!encryptionUtil.needsReencryption(row.getRecordData())) {
+                continue;
+            }
+            byte[] recordData;
+            try {
+                recordData = encryptionUtil.reencrypt(row.getRecordData());
+            } catch (RuntimeException e) {
+                // 키 링에 없는 키 등 복호화할 수 없는 기록은 그대로 두고 계속 진행
+                log.warn("감정 기록 다시 암호화 실패: recordId={}, error={}", row.getRecordId(), e.getMessage());
+                continue;
+            }
+            reencrypted += emotionRecordRepository.replaceCiphertext(row.getRecordId(), row.getRecordData(), recordData);
+        }
+
+        checkpoint.advance(rows.get(rows.size() - 1).getRecordId(), reencrypted);
+        return true;
+    }
+}
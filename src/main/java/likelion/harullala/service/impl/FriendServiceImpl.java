@@ -3,6 +3,7 @@ package likelion.harullala.service.impl;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
@@ -12,7 +13,6 @@ import org.springframework.transaction.annotation.Transactional;
 import likelion.harullala.domain.FriendNotificationBlock;
 import likelion.harullala.domain.FriendRelationship;
 import likelion.harullala.domain.FriendStatus;
-import likelion.harullala.domain.NotificationType;
 import likelion.harullala.domain.User;
 import likelion.harullala.dto.CancelFriendRequestDto;
 import likelion.harullala.dto.FriendInfoDto;
@@ -25,8 +25,9 @@ import likelion.harullala.repository.EmotionRecordRepository;
 import likelion.harullala.repository.FriendNotificationBlockRepository;
 import likelion.harullala.repository.FriendRelationshipRepository;
 import likelion.harullala.repository.UserRepository;
+import likelion.harullala.service.FriendFeedTimelineService;
 import likelion.harullala.service.FriendService;
-import likelion.harullala.service.NotificationService;
+import likelion.harullala.service.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -37,7 +38,8 @@ public class FriendServiceImpl implements FriendService {
     private final FriendRelationshipRepository friendRelationshipRepository;
     private final FriendNotificationBlockRepository friendNotificationBlockRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final FriendFeedTimelineService friendFeedTimelineService;
     private final EmotionRecordRepository emotionRecordRepository;
     private final EntityManager entityManager;
 
@@ -103,18 +105,8 @@ public class FriendServiceImpl implements FriendService {
 
         FriendRelationship saved = friendRelationshipRepository.save(relationship);
         
-        // 받는 사람에게 푸시 알림 전송
-        try {
-            notificationService.sendNotification(
-                receiver.getId(),
-                NotificationType.FRIEND_REQUEST,
-                "새로운 친구 요청이 도착했어요",
-                requester.getNickname() + "님이 친구 요청을 보냈어요",
-                saved.getId()
-            );
-        } catch (Exception e) {
-            // 알림 전송 실패해도 친구 요청은 정상 처리
-        }
+        // 받는 사람에게 푸시 알림 전송 (아웃박스에 저장 → 커밋 후 비동기 발송)
+        notificationOutboxService.friendRequested(requester.getId(), receiver.getId(), saved.getId());
     }
 
     @Override
@@ -152,21 +144,12 @@ public class FriendServiceImpl implements FriendService {
             // 친구 요청 수락 (상태를 ACCEPTED로 변경)
             relationship.accept();
             friendRelationshipRepository.save(relationship);
+
+            // 서로의 오늘 공유 기록을 친구 피드 타임라인에 추가
+            friendFeedTimelineService.friendshipStarted(receiver.getId(), relationship.getRequester().getId());
             
-            // 요청한 사람에게 푸시 알림 전송
-            try {
-                User requester = relationship.getRequester();
-                User accepter = receiver;
-                notificationService.sendNotification(
-                    requester.getId(),
-                    NotificationType.FRIEND_ACCEPTED,
-                    "친구 요청이 수락되었어요",
-                    accepter.getNickname() + "님이 친구 요청을 수락했어요",
-                    relationship.getId()
-                );
-            } catch (Exception e) {
-                // 알림 전송 실패해도 친구 수락은 정상 처리
-            }
+            // 요청한 사람에게 푸시 알림 전송 (아웃박스에 저장 → 커밋 후 비동기 발송)
+            notificationOutboxService.friendAccepted(receiver.getId(), relationship.getRequester().getId(), relationship.getId());
         } else {
             // 친구 요청 거절 (상태를 REJECTED로 변경)
             relationship.reject();
@@ -210,6 +193,9 @@ public class FriendServiceImpl implements FriendService {
 
         // 친구 관계 삭제 (물리적 삭제)
         friendRelationshipRepository.delete(relationship);
+
+        // 서로의 친구 피드 타임라인에서 상대 기록 제거
+        friendFeedTimelineService.friendshipEnded(user.getId(), friend.getId());
     }
 
     @Override
@@ -223,23 +209,26 @@ public class FriendServiceImpl implements FriendService {
         LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
         LocalDateTime endOfDay = startOfDay.plusDays(1);
 
-        return relationships.stream()
+        List<User> friends = relationships.stream()
                 .limit(5) // 최대 5명으로 제한
-                .map(relationship -> {
-                    User friend = relationship.getOtherUser(userId);
-                    
-                    // 오늘 기록 여부 확인
-                    Long recordCount = emotionRecordRepository.countByUserIdAndDateRange(
-                            friend.getId(), startOfDay, endOfDay);
-                    Boolean hasRecordedToday = recordCount > 0;
-                    
-                    return new FriendInfoDto(
-                            friend.getNickname(),
-                            friend.getConnectCode(),
-                            friend.getProfileImageUrl(),
-                            hasRecordedToday
-                    );
-                })
+                .map(relationship -> relationship.getOtherUser(userId))
+                .collect(Collectors.toList());
+
+        if (friends.isEmpty()) {
+            return List.of();
+        }
+
+        // 오늘 기록한 친구 ID를 한 번에 조회
+        Set<Long> recordedFriendIds = emotionRecordRepository.findUserIdsWithRecordInDateRange(
+                friends.stream().map(User::getId).collect(Collectors.toList()), startOfDay, endOfDay);
+
+        return friends.stream()
+                .map(friend -> new FriendInfoDto(
+                        friend.getNickname(),
+                        friend.getConnectCode(),
+                        friend.getProfileImageUrl(),
+                        recordedFriendIds.contains(friend.getId())
+                ))
                 .collect(Collectors.toList());
     }
 
@@ -22,11 +22,18 @@ public class UserServiceImpl implements UserService {
     private final UserCharacterRepository userCharacterRepository;
     private final CharacterRepository characterRepository;
     private final AiFeedbackRepository aiFeedbackRepository;
+    private final AiFeedbackJobRepository aiFeedbackJobRepository;
     private final EmotionRecordRepository emotionRecordRepository;
+    private final EmotionMonthlyRollupRepository emotionMonthlyRollupRepository;
+    private final EmotionRollupLockRepository emotionRollupLockRepository;
+    private final EmotionHeatmapRepository emotionHeatmapRepository;
+    private final MonthlyReportRepository monthlyReportRepository;
     private final FeedReadStatusRepository feedReadStatusRepository;
     private final FriendRelationshipRepository friendRelationshipRepository;
+    private final FriendFeedTimelineRepository friendFeedTimelineRepository;
     private final NotificationRepository notificationRepository;
     private final FriendNotificationBlockRepository friendNotificationBlockRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
 
 
     @Override
@@ -95,9 +102,16 @@ public class UserServiceImpl implements UserService {
         userCharacterRepository.deleteAllByUserId(userId);
         feedReadStatusRepository.deleteAllByReader_Id(userId);
         friendRelationshipRepository.deleteAllByUserId(userId);
+        friendFeedTimelineRepository.deleteAllByUserId(userId);
         aiFeedbackRepository.deleteAllByUserId(userId);
+        aiFeedbackJobRepository.deleteAllByUserId(userId);
         emotionRecordRepository.deleteAllByUserId(userId);
+        emotionMonthlyRollupRepository.deleteAllByUserId(userId);
+        emotionRollupLockRepository.deleteAllByUserId(userId);
+        emotionHeatmapRepository.deleteAllByUserId(userId);
+        monthlyReportRepository.deleteAllByUserId(userId);
         notificationRepository.deleteAllByUserId(userId);
+        notificationOutboxRepository.deleteAllByUserId(userId);
         friendNotificationBlockRepository.deleteAllByUserId(userId);
 
         // Delete the user
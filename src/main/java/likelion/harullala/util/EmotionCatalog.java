@@ -0,0 +1,97 @@
+package likelion.harullala.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 감정 카탈로그 (7x7 감정 표, 불변)
+ * 각 감정에 표 순서(행 우선)대로 0~48 정수 ID를 부여
+ * - emotion_record.emotion_id 에 저장되어 집계 시 감정명 문자열 대신 ID로 배열 인덱싱
+ * - 좌표는 표 위치에서 계산 (X: 열, Y: 아래 행일수록 편안함)
+ */
+public final class EmotionCatalog {
+
+    /**
+     * 카탈로그에 없는 감정
+     */
+    public static final int UNKNOWN = -1;
+
+    private static final double[] GRID = {0.0, 0.17, 0.33, 0.5, 0.67, 0.83, 1.0};
+
+    private static final String[] NAMES = {
+            // 1행: 매우 불안한 (Y=1.0)
+            "초조한", "답답한", "근심있는", "불안한", "설레는", "두근거리는", "벅차는",
+            // 2행: 불안한 (Y=0.83)
+            "걱정되는", "불편한", "조바심나는", "안도하는", "후련한", "뿌듯한", "온화한",
+            // 3행: 조금 불안한 (Y=0.67)
+            "서운한", "무덤덤한", "담담한", "괜찮은", "안심되는", "보람찬", "포근한",
+            // 4행: 조금 편안한 (Y=0.5)
+            "우울한", "잔잔한", "평온한", "여유로운", "좋은", "흐뭇한", "행복한",
+            // 5행: 편안한 (Y=0.33)
+            "체념한", "차분한", "안정적인", "따뜻한", "유쾌한", "고마운", "사랑스러운",
+            // 6행: 매우 편안한 (Y=0.17)
+            "평화로운", "너그러운", "고요한", "느긋한", "만족한", "기쁜", "황홀한",
+            // 7행: 완전 편안한 (Y=0.0)
+            "무기력한", "온전한", "가벼운", "편안한", "충족한", "감사한", "환상적인"
+    };
+
+    public static final int SIZE = NAMES.length;
+
+    private static final double[] X = new double[SIZE];
+    private static final double[] Y = new double[SIZE];
+    private static final Map<String, Integer> IDS;
+
+    static {
+        Map<String, Integer> ids = new HashMap<>();
+        for (int id = 0; id < SIZE; id++) {
+            int row = id / GRID.length;
+            int col = id % GRID.length;
+            X[id] = GRID[col];
+            Y[id] = GRID[GRID.length - 1 - row];
+            ids.put(NAMES[id], id);
+        }
+        IDS = Map.copyOf(ids);
+    }
+
+    private EmotionCatalog() {
+    }
+
+    /**
+     * 감정명 → ID (없으면 UNKNOWN)
+     */
+    public static int idOf(String emotionName) {
+        if (emotionName == null) {
+            return UNKNOWN;
+        }
+        Integer id = IDS.get(emotionName);
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * 감정명 → 저장용 ID (없으면 null)
+     */
+    public static Short storedIdOf(String emotionName) {
+        int id = idOf(emotionName);
+        return id != UNKNOWN ? (short) id : null;
+    }
+
+    /**
+     * 전체 감정명 (ID 순서)
+     */
+    public static List<String> names() {
+        return List.of(NAMES);
+    }
+
+    public static String nameOf(int id) {
+        return NAMES[id];
+    }
+
+    public static double x(int id) {
+        return X[id];
+    }
+
+    public static double y(int id) {
+        return Y[id];
+    }
+}
@@ -1,77 +1,300 @@
 package likelion.harullala.util;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
+/**
+ * 감정 기록 본문 암복호화 (AES-GCM)
+ * 저장 형식
+ * - 바이너리 v5 (record_data): v4와 같고 암호문 안의 본문이 deflate 압축됨 (긴 기록만)
+ * - 바이너리 v4 (record_data): [형식 버전 4][키 ID 1바이트][IV 12바이트][암호문 + 인증 태그]
+ *   헤더(형식 버전, 키 ID)를 AAD로 함께 인증 → 헤더를 바꾸면 복호화 실패
+ *   v4/v5를 읽지 못하는 이전 버전 인스턴스가 남아 있으면 encryption.header-authentication=false로 v2/v3 저장
+ * - 바이너리 v3 (record_data): v2와 같고 암호문 안의 본문이 deflate 압축됨 - 헤더 인증 없음, 읽기용
+ * - 바이너리 v2 (record_data): [형식 버전 2][키 ID 1바이트][IV 12바이트][암호문 + 인증 태그] - 헤더 인증 없음, 읽기용
+ * - 바이너리 v1 (record_data): [형식 버전 1][IV 12바이트][암호문 + 인증 태그] - 키 ID 0으로 암호화된 기록
+ * - 기존 텍스트 (record): Base64([IV 12바이트][암호문 + 인증 태그]) - 마이그레이션 전 기록 읽기용 (키 ID 0)
+ *
+ * 키 링
+ * - 키 ID 0 = encryption.secret, 그 외 키는 encryption.keys ("ID=Base64키" 쉼표 구분)
+ * - 새 암호문은 encryption.active-key-id 키로 암호화하고, 복호화는 암호문에 적힌 키 ID로 선택
+ * - 키 교체: 모든 인스턴스에 새 키를 먼저 추가 → active-key-id 변경 → RecordReencryptionJob이 기존 기록을 다시 암호화
+ *   (v1~v3 기록도 같은 작업이 v4/v5로 다시 암호화)
+ * - 이전 키 제거: 배포 중에는 이전 설정의 인스턴스가 이전 키로 계속 쓸 수 있으므로,
+ *   모든 인스턴스가 새 active-key-id로 시작된 뒤 RecordReencryptionJob의 확인 패스가
+ *   다시 암호화한 기록 0건으로 완료("감정 기록 다시 암호화 완료" 로그)된 것을 확인하고 제거
+ *
+ * 압축 (encryption.compression)
+ * - UTF-8 기준 min-bytes 이상인 본문만 압축 후 암호화 (짧은 본문은 압축 이득보다 비용이 큼)
+ * - 압축 결과가 원본보다 작을 때만 v5로 저장, 아니면 v4
+ *
+ * - Cipher는 스레드 안전하지 않으므로 스레드마다 하나씩 만들어 재사용 (매 호출 provider 조회 제거)
+ * - IV용 SecureRandom은 하나를 공유 (스레드 안전, 매 호출 시드 생성 비용 제거)
+ * - GCM은 같은 키 + IV로 다시 암호화할 수 없으므로 암호화 때마다 새 IV로 init
+ * - 목록 조회는 decryptAll로 한 번에 복호화 (큰 페이지는 cryptoExecutor에 나눠 여러 코어에서 처리)
+ */
 @Component
 public class EncryptionUtil {
 
     private static final String ALGORITHM = "AES/GCM/NoPadding";
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 128;
+    private static final byte FORMAT_V1 = 1; // 바이너리 형식 버전 (형식이 바뀌면 새 버전 추가)
+    private static final byte FORMAT_V2 = 2;
+    private static final byte FORMAT_V3_DEFLATE = 3;
+    private static final byte FORMAT_V4 = 4; // v2 + 헤더 AAD 인증
+    private static final byte FORMAT_V5_DEFLATE = 5; // v3 + 헤더 AAD 인증
+    private static final int HEADER_LENGTH = 2; // [형식 버전][키 ID]
+    private static final byte[] NO_HEADER = new byte[0];
+    private static final int LEGACY_KEY_ID = 0;
+    private static final int MAX_KEY_ID = 255;
 
-    private final SecretKey secretKey;
+    private final SecretKey[] keys = new SecretKey[MAX_KEY_ID + 1]; // 키 ID → 키
+    private final int activeKeyId;
+    private final boolean headerAuthentication; // 새 암호문을 v4/v5(헤더 인증)로 저장할지
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(EncryptionUtil::newCipher);
+    private final ThreadLocal<Deflater> deflaters = ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(() -> new Inflater(true));
+    private final boolean compressionEnabled;
+    private final int compressionMinBytes;
+    private final Executor cryptoExecutor;
+    private final int parallelism;
+    private final int minBatchSize;
 
-    public EncryptionUtil(@Value("${encryption.secret}") String secret) {
-        this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(secret), "AES");
+    public EncryptionUtil(@Value("${encryption.secret}") String secret,
+                          @Value("${encryption.keys:}") String additionalKeys,
+                          @Value("${encryption.active-key-id:0}") int activeKeyId,
+                          @Value("${encryption.header-authentication:true}") boolean headerAuthentication,
+                          @Value("${encryption.compression.enabled:true}") boolean compressionEnabled,
+                          @Value("${encryption.compression.min-bytes:512}") int compressionMinBytes,
+                          @Qualifier("cryptoExecutor") Executor cryptoExecutor,
+                          @Value("${encryption.parallel.threads:0}") int threads,
+                          @Value("${encryption.parallel.min-batch-size:32}") int minBatchSize) {
+        this.keys[LEGACY_KEY_ID] = toKey(secret);
+        for (String entry : additionalKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] idAndKey = entry.trim().split("=", 2);
+            int keyId = idAndKey.length == 2 && idAndKey[0].trim().matches("\\d{1,3}")
+                    ? Integer.parseInt(idAndKey[0].trim())
+                    : -1;
+            if (keyId <= LEGACY_KEY_ID || keyId > MAX_KEY_ID) {
+                throw new IllegalStateException("encryption.keys 형식이 올바르지 않습니다. (키 ID 1~255, \"ID=Base64키\")");
+            }
+            this.keys[keyId] = toKey(idAndKey[1].trim());
+        }
+        if (activeKeyId < LEGACY_KEY_ID || activeKeyId > MAX_KEY_ID || keys[activeKeyId] == null) {
+            throw new IllegalStateException("encryption.active-key-id에 해당하는 키가 없습니다: " + activeKeyId);
+        }
+        this.activeKeyId = activeKeyId;
+        this.headerAuthentication = headerAuthentication;
+        this.compressionEnabled = compressionEnabled;
+        this.compressionMinBytes = compressionMinBytes;
+        this.cryptoExecutor = cryptoExecutor;
+        this.parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.minBatchSize = Math.max(1, minBatchSize);
+    }
+
+    /**
+     * 새 암호문에 사용하는 키 ID
+     */
+    public int getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * 다시 암호화 작업 목표 (현재 키 ID + 현재 형식, 둘 중 하나가 바뀌면 기존 기록을 다시 암호화)
+     */
+    public String getReencryptionTarget() {
+        return headerAuthentication ? activeKeyId + "/v" + FORMAT_V4 : String.valueOf(activeKeyId);
     }
 
+    /**
+     * 바이너리 형식으로 암호화 (record_data 저장용, 현재 키 사용, 긴 본문은 압축 후 암호화)
+     */
+    public byte[] encryptToBytes(String plainText) {
+        if (plainText == null) {
+            return null;
+        }
+        byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
+        byte format = headerAuthentication ? FORMAT_V4 : FORMAT_V2;
+
+        if (compressionEnabled && plainBytes.length >= compressionMinBytes) {
+            byte[] compressed = deflate(plainBytes);
+            if (compressed.length < plainBytes.length) {
+                plainBytes = compressed;
+                format = headerAuthentication ? FORMAT_V5_DEFLATE : FORMAT_V3_DEFLATE;
+            }
+        }
+
+        return encryptAt(plainBytes, keys[activeKeyId], new byte[] {format, (byte) activeKeyId}, headerAuthentication);
+    }
+
+    /**
+     * 기존 텍스트 형식 암호문을 바이너리 형식으로 변환 (다시 암호화하지 않고 Base64만 풀어서 버전 바이트를 붙임)
+     */
+    public byte[] toBinary(String legacyText) {
+        if (legacyText == null) {
+            return null;
+        }
+        byte[] decoded = Base64.getDecoder().decode(legacyText);
+        byte[] output = new byte[1 + decoded.length];
+        output[0] = FORMAT_V1;
+        System.arraycopy(decoded, 0, output, 1, decoded.length);
+        return output;
+    }
+
+    /**
+     * 텍스트(Base64) 형식으로 암호화 (키 ID를 적을 수 없으므로 키 ID 0 사용)
+     */
     public String encrypt(String plainText) {
         if (plainText == null) {
             return null;
         }
+        return Base64.getEncoder().encodeToString(
+                encryptAt(plainText.getBytes(StandardCharsets.UTF_8), keys[LEGACY_KEY_ID], NO_HEADER, false));
+    }
+
+    /**
+     * [헤더][IV][암호문 + 인증 태그] 배열 생성
+     * @param authenticateHeader 헤더를 AAD로 함께 인증할지 (v4/v5)
+     */
+    private byte[] encryptAt(byte[] plainBytes, SecretKey key, byte[] header, boolean authenticateHeader) {
         try {
+            Cipher cipher = ciphers.get();
             byte[] iv = new byte[GCM_IV_LENGTH];
-            SecureRandom random = new SecureRandom();
-            random.nextBytes(iv);
-
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, gcmParameterSpec);
-
-            byte[] cipherText = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            secureRandom.nextBytes(iv);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+            if (authenticateHeader) {
+                cipher.updateAAD(header);
+            }
 
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(cipherText);
+            // IV 뒤에 암호문을 바로 써서 중간 배열 복사 없이 결과 조립
+            int offset = header.length;
+            byte[] output = new byte[offset + GCM_IV_LENGTH + cipher.getOutputSize(plainBytes.length)];
+            System.arraycopy(header, 0, output, 0, offset);
+            System.arraycopy(iv, 0, output, offset, GCM_IV_LENGTH);
+            cipher.doFinal(plainBytes, 0, plainBytes.length, output, offset + GCM_IV_LENGTH);
 
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
+            return output;
         } catch (Exception e) {
             throw new RuntimeException("Error encrypting data", e);
         }
     }
 
-    public String decrypt(String cipherText) {
-        if (cipherText == null) {
+    /**
+     * 저장된 형식에 맞게 복호화 (바이너리가 있으면 바이너리, 없으면 기존 텍스트)
+     */
+    public String decrypt(byte[] data, String legacyText) {
+        return data != null ? decrypt(data) : decrypt(legacyText);
+    }
+
+    /**
+     * 바이너리 형식 복호화 (암호문에 적힌 키 ID의 키 사용)
+     */
+    public String decrypt(byte[] data) {
+        if (data == null) {
             return null;
         }
-        try {
-            byte[] decoded = Base64.getDecoder().decode(cipherText);
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
+        int keyId = keyIdOf(data);
+        SecretKey key = keys[keyId];
+        if (key == null) {
+            throw new RuntimeException("Error decrypting data: unknown key " + keyId);
+        }
+        byte format = data[0];
+        if (format == FORMAT_V1) {
+            return new String(decryptAt(data, key, 1, false), StandardCharsets.UTF_8);
+        }
+        byte[] plainBytes = decryptAt(data, key, HEADER_LENGTH, isHeaderAuthenticated(format));
+        boolean deflated = format == FORMAT_V3_DEFLATE || format == FORMAT_V5_DEFLATE;
+        return deflated ? inflate(plainBytes) : new String(plainBytes, StandardCharsets.UTF_8);
+    }
 
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
+    /**
+     * 다시 암호화 대상인지 (현재 키가 아닌 키로 암호화되었거나, 헤더 인증 사용 중인데 v1~v3 형식)
+     */
+    public boolean needsReencryption(byte[] data) {
+        return data != null
+                && (keyIdOf(data) != activeKeyId || (headerAuthentication && !isHeaderAuthenticated(data[0])));
+    }
 
-            byte[] cipherBytes = new byte[byteBuffer.remaining()];
-            byteBuffer.get(cipherBytes);
+    private static boolean isHeaderAuthenticated(byte format) {
+        return format == FORMAT_V4 || format == FORMAT_V5_DEFLATE;
+    }
 
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
+    /**
+     * 바이너리 암호문을 현재 키로 다시 암호화
+     */
+    public byte[] reencrypt(byte[] data) {
+        return encryptToBytes(decrypt(data));
+    }
+
+    private static int keyIdOf(byte[] data) {
+        if (data.length > 0 && data[0] == FORMAT_V1) {
+            return LEGACY_KEY_ID;
+        }
+        if (data.length > 1 && data[0] >= FORMAT_V2 && data[0] <= FORMAT_V5_DEFLATE) {
+            return Byte.toUnsignedInt(data[1]);
+        }
+        throw new RuntimeException("Error decrypting data: unknown format " + (data.length > 0 ? data[0] : "empty"));
+    }
 
-            GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, gcmParameterSpec);
+    public String decrypt(String cipherText) {
+        if (cipherText == null) {
+            return null;
+        }
+        byte[] decoded;
+        try {
+            decoded = Base64.getDecoder().decode(cipherText);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Error decrypting data", e);
+        }
+        return new String(decryptAt(decoded, keys[LEGACY_KEY_ID], 0, false), StandardCharsets.UTF_8);
+    }
 
-            byte[] plainTextBytes = cipher.doFinal(cipherBytes);
+    /**
+     * offset 위치부터 [IV][암호문 + 인증 태그]인 배열 복호화
+     * @param authenticateHeader 앞쪽 offset바이트(헤더)를 AAD로 인증할지 (v4/v5)
+     */
+    private byte[] decryptAt(byte[] data, SecretKey key, int offset, boolean authenticateHeader) {
+        try {
+            // IV와 암호문을 따로 복사하지 않고 배열의 구간을 그대로 사용
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, data, offset, GCM_IV_LENGTH));
+            if (authenticateHeader) {
+                cipher.updateAAD(data, 0, offset);
+            }
 
-            return new String(plainTextBytes, StandardCharsets.UTF_8);
+            int cipherOffset = offset + GCM_IV_LENGTH;
+            return cipher.doFinal(data, cipherOffset, data.length - cipherOffset);
         } catch (Exception e) {
             // Decryption can fail if the key is wrong or data is corrupt
             // For privacy, don't leak detailed crypto errors. Log them instead.
@@ -80,4 +303,105 @@ public class EncryptionUtil {
             throw new RuntimeException("Error decrypting data", e);
         }
     }
+
+    /**
+     * 본문 압축 (raw deflate)
+     */
+    private byte[] deflate(byte[] plainBytes) {
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+        deflater.setInput(plainBytes);
+        deflater.finish();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(plainBytes.length / 2);
+        byte[] buffer = new byte[1024];
+        while (!deflater.finished()) {
+            output.write(buffer, 0, deflater.deflate(buffer));
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 압축 해제하면서 바로 문자열로 읽음 (압축 해제된 바이트 배열을 따로 만들지 않음)
+     */
+    private String inflate(byte[] compressed) {
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+
+        StringBuilder text = new StringBuilder(compressed.length * 2);
+        try (Reader reader = new InputStreamReader(
+                new InflaterInputStream(new ByteArrayInputStream(compressed), inflater, 1024), StandardCharsets.UTF_8)) {
+            char[] buffer = new char[1024];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error decrypting data", e);
+        }
+        return text.toString();
+    }
+
+    /**
+     * 여러 암호문을 한 번에 복호화 (결과 순서 = 입력 순서, null은 null 그대로)
+     */
+    public List<String> decryptAll(List<String> cipherTexts) {
+        return decryptAll(cipherTexts, this::decrypt);
+    }
+
+    /**
+     * 여러 항목을 한 번에 복호화 (결과 순서 = 입력 순서)
+     * min-batch-size 미만은 호출 스레드에서 순서대로, 그 이상은 구간으로 나눠
+     * 첫 구간은 호출 스레드가, 나머지는 cryptoExecutor가 동시에 처리
+     * @param decryptor 항목 1개 복호화 (예: 기록 → 저장 형식에 맞게 복호화)
+     */
+    public <T> List<String> decryptAll(List<T> items, Function<? super T, String> decryptor) {
+        int size = items.size();
+        String[] plainTexts = new String[size];
+
+        int chunks = Math.min(parallelism + 1, size / minBatchSize);
+        if (chunks <= 1) {
+            decryptRange(items, decryptor, plainTexts, 0, size);
+            return Arrays.asList(plainTexts);
+        }
+
+        int chunkSize = (size + chunks - 1) / chunks;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks - 1);
+        for (int from = chunkSize; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, size);
+            futures.add(CompletableFuture.runAsync(
+                    () -> decryptRange(items, decryptor, plainTexts, start, end), cryptoExecutor));
+        }
+        decryptRange(items, decryptor, plainTexts, 0, chunkSize);
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return Arrays.asList(plainTexts);
+    }
+
+    private static <T> void decryptRange(List<T> items, Function<? super T, String> decryptor,
+                                         String[] plainTexts, int from, int to) {
+        for (int i = from; i < to; i++) {
+            plainTexts[i] = decryptor.apply(items.get(i));
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new IllegalStateException("AES/GCM을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static SecretKey toKey(String base64Key) {
+        return new SecretKeySpec(Base64.getDecoder().decode(base64Key), "AES");
+    }
 }
@@ -0,0 +1,64 @@
+package likelion.harullala.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+
+import likelion.harullala.exception.ApiException;
+
+/**
+ * 커서 기반 페이지네이션 위치 (작성 시간, ID)
+ * 목록은 (작성 시간 DESC, ID DESC) 순서이고, 다음 페이지는 이 위치보다 앞선 항목부터 조회
+ * 클라이언트에는 내용을 알 수 없는 문자열(Base64url)로 전달
+ */
+public record PageCursor(LocalDateTime createdAt, Long id) {
+
+    /**
+     * 첫 페이지 (모든 항목보다 뒤의 위치)
+     */
+    public static final PageCursor FIRST = new PageCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    /**
+     * 한 페이지 최대 항목 수
+     */
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 커서 위치부터 size건 조회할 페이지 (size는 1 ~ MAX_SIZE, 벗어나면 400)
+     */
+    public static PageRequest pageOf(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "size는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        return PageRequest.of(0, size);
+    }
+
+    /**
+     * 커서 문자열 → 위치 (없으면 첫 페이지)
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new PageCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,71 @@
+package likelion.harullala.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 인스턴스 내 AI 요청 중복 제거 검증 (메모리 캐시 사용)
+ */
+class AiRequestCoalescerTest {
+
+    private static final AiMessageCacheKey KEY = new AiMessageCacheKey.FriendInvite(1L, 2L, LocalDate.now());
+
+    private InMemoryAiMessageCache cache;
+    private AiRequestCoalescer coalescer;
+    private final AtomicInteger aiCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new InMemoryAiMessageCache(100);
+        coalescer = new AiRequestCoalescer(cache, Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofMillis(20));
+    }
+
+    @Test
+    void concurrentRequestsShareOneCall() throws Exception {
+        CompletableFuture<String> first = coalescer.execute(KEY, generate("친구와 함께 기록해요", 200));
+        CompletableFuture<String> second = coalescer.execute(KEY, generate("호출되면 안 됨", 0));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("친구와 함께 기록해요");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("친구와 함께 기록해요");
+        assertThat(aiCalls).hasValue(1);
+    }
+
+    @Test
+    void requestThatMissedCacheJustBeforeSaveReusesSavedMessage() throws Exception {
+        // 호출부가 캐시를 조회한 뒤 execute 전에 직전 호출이 결과를 저장한 상황
+        CompletableFuture<String> first = coalescer.execute(KEY, generate("친구와 함께 기록해요", 0));
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("친구와 함께 기록해요");
+
+        CompletableFuture<String> late = coalescer.execute(KEY, generate("호출되면 안 됨", 0));
+
+        assertThat(late.get(5, TimeUnit.SECONDS)).isEqualTo("친구와 함께 기록해요");
+        assertThat(aiCalls).hasValue(1);
+    }
+
+    /**
+     * 서비스의 loader와 같이 AI 호출 후 캐시에 저장하고 완료
+     */
+    private Supplier<CompletableFuture<String>> generate(String message, long latencyMillis) {
+        return () -> CompletableFuture.supplyAsync(() -> {
+            aiCalls.incrementAndGet();
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return message;
+        }).thenApply(generated -> {
+            cache.put(KEY, generated, AiMessageCache.hoursFromNow(1));
+            return generated;
+        });
+    }
+}
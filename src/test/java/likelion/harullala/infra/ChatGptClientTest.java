@@ -0,0 +1,190 @@
+package likelion.harullala.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import likelion.harullala.config.ChatGptClientConfig;
+import likelion.harullala.exception.AiCallException;
+
+/**
+ * ChatGptClient 타임아웃/오류/동시 호출 제한 검증 (로컬 HTTP 스텁 서버 사용)
+ * 스텁은 응답 지연과 상태 코드를 테스트마다 바꿀 수 있고, 요청 수와 사용된 커넥션을 기록함
+ */
+class ChatGptClientTest {
+
+    private static final String COMPLETION = """
+            {"choices":[{"message":{"role":"assistant","content":"\\"오늘도 고생 많았어\\""}}]}
+            """;
+
+    private HttpServer server;
+    private ExecutorService aiExecutor;
+
+    private volatile int status = 200;
+    private volatile String body = COMPLETION;
+    private volatile long latencyMillis;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Set<String> connections = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v1/chat/completions", this::respond);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        aiExecutor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        aiExecutor.shutdownNow();
+    }
+
+    @Test
+    void returnsCleanedCompletionAndReusesConnection() throws Exception {
+        ChatGptClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5), 4);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(client.generateCustomFeedbackAsync("프롬프트").get(5, TimeUnit.SECONDS))
+                    .isEqualTo("오늘도 고생 많았어");
+        }
+
+        assertThat(requests).hasValue(3);
+        assertThat(connections).hasSize(1); // keep-alive로 같은 커넥션 재사용
+    }
+
+    @Test
+    void serverErrorFailsWithAiCallException() {
+        status = 500;
+        body = "{\"error\":{\"message\":\"server error\"}}";
+        ChatGptClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5), 4);
+
+        assertFailsWithAiCallException(client.generateCustomFeedbackAsync("프롬프트"));
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void feedbackFailurePropagatesForJobRetry() {
+        status = 500;
+        ChatGptClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5), 4);
+        CharacterPersona persona = new CharacterPersona("루루", "다정함", "따뜻하게 공감하는 친구");
+
+        // 일기 내용을 기본 피드백으로 돌려주지 않고 실패로 완료 (AI 피드백 작업이 백오프 후 재시도)
+        assertFailsWithAiCallException(client.generateFeedbackAsync("오늘은 조금 지쳤다", persona));
+    }
+
+    @Test
+    void emptyChoicesFailWithAiCallException() {
+        body = "{\"choices\":[]}";
+        ChatGptClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5), 4);
+
+        assertFailsWithAiCallException(client.generateCustomFeedbackAsync("프롬프트"));
+    }
+
+    @Test
+    void slowResponseFailsAtCallTimeout() {
+        latencyMillis = 2_000;
+        ChatGptClient client = client(Duration.ofSeconds(5), Duration.ofMillis(300), 4);
+
+        long startedAt = System.nanoTime();
+        assertFailsWithAiCallException(client.generateCustomFeedbackAsync("프롬프트"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(elapsedMillis).isLessThan(1_500); // 응답(2초)을 기다리지 않고 call-timeout에 실패
+    }
+
+    @Test
+    void slowResponseFailsAtReadTimeout() {
+        latencyMillis = 2_000;
+        ChatGptClient client = client(Duration.ofMillis(300), Duration.ofSeconds(5), 4);
+
+        assertFailsWithAiCallException(client.generateCustomFeedbackAsync("프롬프트"));
+    }
+
+    @Test
+    void callsOverConcurrencyLimitFailInsteadOfQueueing() throws Exception {
+        latencyMillis = 1_000;
+        ChatGptClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5), 1);
+        ReflectionTestUtils.setField(client, "acquireTimeout", Duration.ofMillis(100));
+
+        CompletableFuture<String> first = client.generateCustomFeedbackAsync("프롬프트");
+        Thread.sleep(200); // 첫 호출이 슬롯을 점유할 때까지 대기
+        CompletableFuture<String> second = client.generateCustomFeedbackAsync("프롬프트");
+
+        assertFailsWithAiCallException(second);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("오늘도 고생 많았어");
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void missingApiKeyFailsWithoutCallingServer() {
+        ChatGptClient client = client(Duration.ofSeconds(5), Duration.ofSeconds(5), 4);
+        ReflectionTestUtils.setField(client, "apiKey", "");
+
+        assertFailsWithAiCallException(client.generateCustomFeedbackAsync("프롬프트"));
+        assertThat(requests).hasValue(0);
+    }
+
+    private void assertFailsWithAiCallException(CompletableFuture<String> call) {
+        assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AiCallException.class);
+    }
+
+    private ChatGptClient client(Duration readTimeout, Duration callTimeout, int maxConcurrentCalls) {
+        RestTemplate restTemplate = new ChatGptClientConfig().chatGptRestTemplate(
+                10, Duration.ofSeconds(1), readTimeout, Duration.ofSeconds(30));
+        ChatGptClient client = new ChatGptClient(restTemplate, aiExecutor);
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "apiUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions");
+        ReflectionTestUtils.setField(client, "model", "gpt-test");
+        ReflectionTestUtils.setField(client, "maxConcurrentCalls", maxConcurrentCalls);
+        ReflectionTestUtils.setField(client, "acquireTimeout", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(client, "callTimeout", callTimeout);
+        client.initInFlightLimit();
+        return client;
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        connections.add(exchange.getRemoteAddress().toString());
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package likelion.harullala.infra;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 로컬 Redis 대역 (RESP2, 문자열 명령만 지원)
+ * GET / SET (EX, PX, NX, XX) / DEL / PING 을 처리하고, 그 외 명령(CLIENT SETINFO 등)은 +OK로 응답
+ * 스크립트는 점유 해제용 비교 후 삭제 스크립트만 EVAL로 흉내냄 (EVALSHA는 NOSCRIPT → 클라이언트가 EVAL로 재시도)
+ */
+final class FakeRedisServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Entry> data = new HashMap<>();
+
+    FakeRedisServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(this::acceptLoop);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    synchronized boolean exists(String key) {
+        Entry entry = data.get(key);
+        return entry != null && !entry.isExpired(System.currentTimeMillis());
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            List<String> command;
+            while ((command = readCommand(in)) != null) {
+                out.write(handle(command).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException ignored) {
+            // 연결 종료
+        }
+    }
+
+    private synchronized String handle(List<String> command) {
+        long now = System.currentTimeMillis();
+        switch (command.get(0).toUpperCase(Locale.ROOT)) {
+            case "PING":
+                return "+PONG\r\n";
+            case "HELLO":
+                return "-ERR unknown command 'HELLO'\r\n";
+            case "GET": {
+                Entry entry = data.get(command.get(1));
+                if (entry == null || entry.isExpired(now)) {
+                    data.remove(command.get(1));
+                    return "$-1\r\n";
+                }
+                return bulk(entry.value());
+            }
+            case "SET":
+                return set(command, now);
+            case "DEL": {
+                int removed = 0;
+                for (String key : command.subList(1, command.size())) {
+                    Entry entry = data.remove(key);
+                    if (entry != null && !entry.isExpired(now)) {
+                        removed++;
+                    }
+                }
+                return ":" + removed + "\r\n";
+            }
+            case "EVALSHA":
+                return "-NOSCRIPT No matching script. Please use EVAL.\r\n";
+            case "EVAL": {
+                // KEYS[1] 값이 ARGV[1]과 같으면 삭제
+                String key = command.get(3);
+                Entry entry = data.get(key);
+                if (entry != null && !entry.isExpired(now) && entry.value().equals(command.get(4))) {
+                    data.remove(key);
+                    return ":1\r\n";
+                }
+                return ":0\r\n";
+            }
+            default:
+                return "+OK\r\n";
+        }
+    }
+
+    private String set(List<String> command, long now) {
+        String key = command.get(1);
+        long expireAt = 0;
+        boolean onlyIfAbsent = false;
+        boolean onlyIfPresent = false;
+        for (int i = 3; i < command.size(); i++) {
+            switch (command.get(i).toUpperCase(Locale.ROOT)) {
+                case "EX" -> expireAt = now + Long.parseLong(command.get(++i)) * 1000;
+                case "PX" -> expireAt = now + Long.parseLong(command.get(++i));
+                case "NX" -> onlyIfAbsent = true;
+                case "XX" -> onlyIfPresent = true;
+                default -> { }
+            }
+        }
+        Entry current = data.get(key);
+        boolean present = current != null && !current.isExpired(now);
+        if ((onlyIfAbsent && present) || (onlyIfPresent && !present)) {
+            return "$-1\r\n";
+        }
+        data.put(key, new Entry(command.get(2), expireAt));
+        return "+OK\r\n";
+    }
+
+    private static String bulk(String value) {
+        return "$" + value.getBytes(StandardCharsets.UTF_8).length + "\r\n" + value + "\r\n";
+    }
+
+    /**
+     * RESP 배열 명령 읽기 (*N\r\n $len\r\n data\r\n ...)
+     */
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        if (!header.startsWith("*")) {
+            return List.of(header.trim().split("\\s+")); // 인라인 명령
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = in.readNBytes(length);
+            in.readNBytes(2); // \r\n
+            parts.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return parts;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read(); // \n
+                return line.toString(StandardCharsets.UTF_8);
+            }
+            line.write(b);
+        }
+        return line.size() == 0 ? null : line.toString(StandardCharsets.UTF_8);
+    }
+
+    private record Entry(String value, long expireAt) {
+        boolean isExpired(long now) {
+            return expireAt > 0 && now >= expireAt;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package likelion.harullala.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import likelion.harullala.repository.UserRepository;
+
+/**
+ * FCM 일괄 전송 처리량 + 오류 분류 검증 (StubFcmGateway 사용)
+ */
+class FcmDeliveryEngineTest {
+
+    private static final int PUSH_COUNT = 5_000;
+    private static final int INVALID_COUNT = 50;
+
+    private final AtomicInteger gatewayCalls = new AtomicInteger();
+    private UserRepository userRepository;
+    private FcmDeliveryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        StubFcmGateway stub = new StubFcmGateway(Duration.ofMillis(20));
+        FcmGateway countingGateway = pushes -> {
+            gatewayCalls.incrementAndGet();
+            return stub.sendEach(pushes);
+        };
+        userRepository = mock(UserRepository.class);
+
+        engine = new FcmDeliveryEngine(countingGateway, userRepository);
+        ReflectionTestUtils.setField(engine, "batchSize", 500);
+        ReflectionTestUtils.setField(engine, "linger", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(engine, "queueCapacity", 100_000);
+        ReflectionTestUtils.setField(engine, "maxAttempts", 5);
+        ReflectionTestUtils.setField(engine, "retryBackoff", Duration.ofMillis(10));
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    void deliversPushesInBatches() throws InterruptedException {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < PUSH_COUNT; i++) {
+            String token = i < INVALID_COUNT ? "invalid-" + i : "token-" + i;
+            engine.enqueue((long) i, new FcmGateway.Push(token, "제목", "내용", Map.of()));
+        }
+
+        FcmDeliveryEngine.Stats stats = awaitDelivered(Duration.ofSeconds(10));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        assertThat(stats.sent()).isEqualTo(PUSH_COUNT - INVALID_COUNT);
+        assertThat(stats.invalidTokens()).isEqualTo(INVALID_COUNT);
+        assertThat(stats.failed()).isZero();
+        // 묶음당 최대 500개 → 호출 수는 메시지 수가 아니라 묶음 수에 비례
+        assertThat(gatewayCalls.get()).isBetween(PUSH_COUNT / 500, PUSH_COUNT / 100);
+        // 묶음당 20ms 지연이면 5,000개는 1초 안팎 (메시지당 전송이면 100초)
+        assertThat(elapsedMillis).isLessThan(5_000);
+        verify(userRepository, times(INVALID_COUNT)).clearFcmToken(anyLong(), startsWith("invalid-"));
+        verify(userRepository, never()).clearFcmToken(anyLong(), startsWith("token-"));
+    }
+
+    @Test
+    void onlyUnregisteredTokensAreCleared() {
+        assertThat(FirebaseFcmGateway.classify(MessagingErrorCode.UNREGISTERED)).isEqualTo(FcmGateway.Status.INVALID_TOKEN);
+        assertThat(FirebaseFcmGateway.classify(MessagingErrorCode.INVALID_ARGUMENT)).isEqualTo(FcmGateway.Status.FAILED);
+        assertThat(FirebaseFcmGateway.classify(MessagingErrorCode.SENDER_ID_MISMATCH)).isEqualTo(FcmGateway.Status.FAILED);
+        assertThat(FirebaseFcmGateway.classify(MessagingErrorCode.UNAVAILABLE)).isEqualTo(FcmGateway.Status.RETRYABLE);
+        assertThat(FirebaseFcmGateway.classify(null)).isEqualTo(FcmGateway.Status.RETRYABLE);
+    }
+
+    private FcmDeliveryEngine.Stats awaitDelivered(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        FcmDeliveryEngine.Stats stats = engine.stats();
+        while (stats.sent() + stats.invalidTokens() + stats.failed() < PUSH_COUNT && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            stats = engine.stats();
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,167 @@
+package likelion.harullala.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import likelion.harullala.exception.AiCallException;
+
+/**
+ * Redis AI 메시지 캐시 + 인스턴스 간 생성 권한 점유 검증 (로컬 Redis 대역 사용)
+ * 인스턴스마다 별도의 Redis 연결과 AiRequestCoalescer를 만들어 서버 여러 대를 흉내냄
+ */
+class RedisAiMessageCacheTest {
+
+    private static final AiMessageCacheKey KEY = new AiMessageCacheKey.HomeGreeting(1L, 2L, LocalDate.now(), false);
+
+    private FakeRedisServer redis;
+    private final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+    private final AtomicInteger aiCalls = new AtomicInteger();
+
+    @BeforeEach
+    void startRedis() throws IOException {
+        redis = new FakeRedisServer();
+    }
+
+    @AfterEach
+    void stopRedis() throws IOException {
+        connectionFactories.forEach(LettuceConnectionFactory::destroy);
+        redis.close();
+    }
+
+    @Test
+    void cachedMessageIsSharedAcrossInstances() {
+        RedisAiMessageCache first = newInstance();
+        RedisAiMessageCache second = newInstance();
+
+        first.put(KEY, "좋은 아침이에요", AiMessageCache.hoursFromNow(1));
+
+        assertThat(second.get(KEY)).contains("좋은 아침이에요");
+    }
+
+    @Test
+    void claimIsExclusiveUntilOwnerReleasesIt() {
+        RedisAiMessageCache first = newInstance();
+        RedisAiMessageCache second = newInstance();
+
+        assertThat(first.tryClaim(KEY, Duration.ofSeconds(5))).isTrue();
+        assertThat(second.tryClaim(KEY, Duration.ofSeconds(5))).isFalse();
+
+        second.releaseClaim(KEY); // 다른 인스턴스의 점유는 해제하지 않음
+        assertThat(second.tryClaim(KEY, Duration.ofSeconds(5))).isFalse();
+
+        first.releaseClaim(KEY);
+        assertThat(second.tryClaim(KEY, Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    void concurrentMissesOnTwoInstancesCallAiOnce() throws Exception {
+        RedisAiMessageCache firstCache = newInstance();
+        RedisAiMessageCache secondCache = newInstance();
+        AiRequestCoalescer first = coalescer(firstCache, Duration.ofSeconds(5));
+        AiRequestCoalescer second = coalescer(secondCache, Duration.ofSeconds(5));
+
+        CompletableFuture<String> fromFirst = first.execute(KEY, generate(firstCache, "첫 번째 인스턴스", 300));
+        CompletableFuture<String> fromSecond = second.execute(KEY, generate(secondCache, "두 번째 인스턴스", 300));
+
+        assertThat(fromFirst.get(5, TimeUnit.SECONDS)).isEqualTo("첫 번째 인스턴스");
+        assertThat(fromSecond.get(5, TimeUnit.SECONDS)).isEqualTo("첫 번째 인스턴스");
+        assertThat(aiCalls).hasValue(1);
+    }
+
+    @Test
+    void failedCallReleasesClaimSoAnotherInstanceRetries() throws Exception {
+        RedisAiMessageCache firstCache = newInstance();
+        RedisAiMessageCache secondCache = newInstance();
+        AiRequestCoalescer first = coalescer(firstCache, Duration.ofSeconds(5));
+        AiRequestCoalescer second = coalescer(secondCache, Duration.ofSeconds(5));
+
+        CompletableFuture<String> failing = first.execute(KEY, () -> CompletableFuture.supplyAsync(() -> {
+            aiCalls.incrementAndGet();
+            sleep(200);
+            throw new AiCallException("OpenAI 응답 오류");
+        }));
+        CompletableFuture<String> retried = second.execute(KEY, generate(secondCache, "두 번째 인스턴스", 0));
+
+        assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AiCallException.class);
+        assertThat(retried.get(5, TimeUnit.SECONDS)).isEqualTo("두 번째 인스턴스");
+        assertThat(aiCalls).hasValue(2);
+        assertThat(redis.exists("test:ai-message:claim:" + KEY.cacheId())).isFalse();
+    }
+
+    @Test
+    void waitingInstanceGivesUpAfterClaimWait() {
+        RedisAiMessageCache firstCache = newInstance();
+        RedisAiMessageCache secondCache = newInstance();
+        AiRequestCoalescer first = coalescer(firstCache, Duration.ofSeconds(5));
+        AiRequestCoalescer second = coalescer(secondCache, Duration.ofMillis(200));
+
+        first.execute(KEY, CompletableFuture::new); // 끝나지 않는 호출
+        CompletableFuture<String> waiting = second.execute(KEY, generate(secondCache, "호출되면 안 됨", 0));
+
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AiCallException.class);
+        assertThat(aiCalls).hasValue(0);
+    }
+
+    /**
+     * 서비스의 loader와 같이 AI 호출 후 캐시에 저장하고 완료
+     */
+    private Supplier<CompletableFuture<String>> generate(AiMessageCache cache, String message, long latencyMillis) {
+        return () -> CompletableFuture.supplyAsync(() -> {
+            aiCalls.incrementAndGet();
+            sleep(latencyMillis);
+            return message;
+        }).thenApply(generated -> {
+            cache.put(KEY, generated, AiMessageCache.hoursFromNow(1));
+            return generated;
+        });
+    }
+
+    private AiRequestCoalescer coalescer(AiMessageCache cache, Duration claimWait) {
+        return new AiRequestCoalescer(cache, Duration.ofSeconds(30), claimWait, Duration.ofMillis(20));
+    }
+
+    private RedisAiMessageCache newInstance() {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("127.0.0.1", redis.port()), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactories.add(connectionFactory);
+        return new RedisAiMessageCache(new StringRedisTemplate(connectionFactory), "test:ai-message:");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
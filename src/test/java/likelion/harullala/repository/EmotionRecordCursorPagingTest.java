@@ -0,0 +1,72 @@
+package likelion.harullala.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Slice;
+
+import jakarta.persistence.EntityManager;
+import likelion.harullala.domain.EmotionRecord;
+import likelion.harullala.domain.Provider;
+import likelion.harullala.domain.User;
+import likelion.harullala.util.PageCursor;
+
+/**
+ * 커서 조회 순서 검증
+ * 작성 시간이 같은 기록이 페이지 경계에 걸려도 ID로 이어서 빠짐없이, 중복 없이 조회되어야 함
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class EmotionRecordCursorPagingTest {
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private EmotionRecordRepository emotionRecordRepository;
+    @Autowired private UserRepository userRepository;
+
+    @Test
+    void recordsWithSameCreatedAtAreOrderedById() {
+        User user = userRepository.save(User.builder()
+                .nickname("writer")
+                .provider(Provider.KAKAO)
+                .providerUserId("writer")
+                .connectCode("writer")
+                .build());
+        List<Long> recordIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            recordIds.add(emotionRecordRepository.save(EmotionRecord.builder()
+                    .userId(user.getId())
+                    .recordData(new byte[] {1})
+                    .emotionName("행복함")
+                    .isShared(false)
+                    .build()).getRecordId());
+        }
+        // 모든 기록을 같은 작성 시간으로 맞춤 (같은 초에 여러 건 작성)
+        entityManager.createNativeQuery("UPDATE emotion_record SET created_at = ?1 WHERE user_id = ?2")
+                .setParameter(1, LocalDateTime.of(2025, 3, 1, 21, 5, 30))
+                .setParameter(2, user.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        List<Long> visited = new ArrayList<>();
+        PageCursor position = PageCursor.decode(null);
+        while (true) {
+            Slice<EmotionRecord> page = emotionRecordRepository.findByUserIdBeforeCursor(
+                    user.getId(), position.createdAt(), position.id(), PageCursor.pageOf(3));
+            page.getContent().forEach(record -> visited.add(record.getRecordId()));
+            if (!page.hasNext()) {
+                break;
+            }
+            EmotionRecord last = page.getContent().get(page.getContent().size() - 1);
+            // 클라이언트가 받은 문자열 커서로 다음 페이지 조회
+            position = PageCursor.decode(new PageCursor(last.getCreatedAt(), last.getRecordId()).encode());
+        }
+
+        assertThat(visited).isEqualTo(recordIds.stream().sorted(Comparator.reverseOrder()).toList());
+    }
+}
@@ -0,0 +1,156 @@
+package likelion.harullala.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import likelion.harullala.domain.EmotionRecord;
+import likelion.harullala.domain.FeedReadStatus;
+import likelion.harullala.domain.FriendRelationship;
+import likelion.harullala.domain.FriendStatus;
+import likelion.harullala.domain.Provider;
+import likelion.harullala.domain.User;
+import likelion.harullala.repository.EmotionRecordRepository;
+import likelion.harullala.repository.FeedReadStatusRepository;
+import likelion.harullala.repository.FriendFeedTimelineRepository;
+import likelion.harullala.repository.FriendRelationshipRepository;
+import likelion.harullala.repository.UserRepository;
+import likelion.harullala.util.EncryptionUtil;
+
+/**
+ * 친구 피드 페이지 조립 쿼리 수 검증
+ * 페이지 크기와 작성자/읽음 상태 수에 관계없이 페이지당 쿼리 수가 일정해야 함 (N+1 없음)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class FriendFeedServiceQueryCountTest {
+
+    // 타임라인 페이지 + 작성자 + 읽은 사람 수 + 내 읽음 여부
+    private static final long STATEMENTS_PER_PAGE = 4;
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private EmotionRecordRepository emotionRecordRepository;
+    @Autowired private FeedReadStatusRepository feedReadStatusRepository;
+    @Autowired private FriendRelationshipRepository friendRelationshipRepository;
+    @Autowired private FriendFeedTimelineRepository friendFeedTimelineRepository;
+    @Autowired private UserRepository userRepository;
+
+    private EncryptionUtil encryptionUtil;
+    private FriendFeedService friendFeedService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        encryptionUtil = new EncryptionUtil(
+                Base64.getEncoder().encodeToString(new byte[32]), "", 0, true, true, 512, Runnable::run, 1, 32);
+        friendFeedService = new FriendFeedService(emotionRecordRepository, feedReadStatusRepository,
+                friendRelationshipRepository, friendFeedTimelineRepository, userRepository, encryptionUtil);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void feedPageUsesConstantNumberOfStatements() {
+        User reader = saveUser("reader");
+        List<EmotionRecord> records = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            User friend = saveUser("friend" + i);
+            befriend(reader, friend);
+            for (int j = 0; j < 3; j++) {
+                records.add(shareRecord(reader, friend, "기록 " + i + "-" + j));
+            }
+        }
+        // 일부는 읽음 처리 (읽은 사람 수/읽음 여부 조회 대상)
+        for (int i = 0; i < records.size(); i += 2) {
+            feedReadStatusRepository.save(FeedReadStatus.builder().reader(reader).emotionRecord(records.get(i)).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long smallPage = countStatements(() -> assertThat(friendFeedService.getFriendFeeds(reader.getId(), 1, 2)).hasSize(2));
+        long largePage = countStatements(() -> assertThat(friendFeedService.getFriendFeeds(reader.getId(), 1, 12)).hasSize(12));
+
+        assertThat(smallPage).isEqualTo(STATEMENTS_PER_PAGE);
+        assertThat(largePage).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void cursorPageUsesConstantNumberOfStatements() {
+        User reader = saveUser("reader");
+        for (int i = 0; i < 3; i++) {
+            User friend = saveUser("friend" + i);
+            befriend(reader, friend);
+            for (int j = 0; j < 4; j++) {
+                shareRecord(reader, friend, "기록 " + i + "-" + j);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long smallPage = countStatements(() -> assertThat(friendFeedService.getFriendFeedSlice(reader.getId(), null, 3).getItems()).hasSize(3));
+        long largePage = countStatements(() -> assertThat(friendFeedService.getFriendFeedSlice(reader.getId(), null, 12).getItems()).hasSize(12));
+
+        assertThat(smallPage).isEqualTo(STATEMENTS_PER_PAGE);
+        assertThat(largePage).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    private long countStatements(Runnable call) {
+        entityManager.clear();
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User saveUser(String name) {
+        return userRepository.save(User.builder()
+                .nickname(name)
+                .provider(Provider.KAKAO)
+                .providerUserId(name)
+                .connectCode(name.length() > 10 ? name.substring(0, 10) : name)
+                .build());
+    }
+
+    private void befriend(User a, User b) {
+        User first = a.getId() < b.getId() ? a : b;
+        User second = first == a ? b : a;
+        friendRelationshipRepository.save(FriendRelationship.builder()
+                .user1(first)
+                .user2(second)
+                .requester(a)
+                .status(FriendStatus.ACCEPTED)
+                .build());
+    }
+
+    /**
+     * 공유 기록 작성 + 읽는 사람 타임라인에 추가
+     */
+    private EmotionRecord shareRecord(User reader, User author, String text) {
+        EmotionRecord record = emotionRecordRepository.save(EmotionRecord.builder()
+                .userId(author.getId())
+                .recordData(encryptionUtil.encryptToBytes(text))
+                .emotionName("행복함")
+                .isShared(true)
+                .build());
+        entityManager.createNativeQuery("INSERT INTO friend_feed_timeline (reader_id, record_id, author_id, created_at) "
+                        + "VALUES (?1, ?2, ?3, ?4)")
+                .setParameter(1, reader.getId())
+                .setParameter(2, record.getRecordId())
+                .setParameter(3, author.getId())
+                .setParameter(4, record.getCreatedAt())
+                .executeUpdate();
+        return record;
+    }
+}
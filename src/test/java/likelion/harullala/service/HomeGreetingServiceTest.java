@@ -0,0 +1,58 @@
+package likelion.harullala.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import likelion.harullala.dto.HomeGreetingResponse;
+import likelion.harullala.exception.AiCallException;
+import likelion.harullala.infra.AiRequestCoalescer;
+import likelion.harullala.infra.ChatGptClient;
+import likelion.harullala.infra.InMemoryAiMessageCache;
+import likelion.harullala.repository.EmotionRecordRepository;
+import likelion.harullala.repository.UserCharacterRepository;
+
+/**
+ * AI 호출 실패 시 기본 멘트는 응답에만 쓰고 캐시하지 않는지 검증
+ */
+class HomeGreetingServiceTest {
+
+    private ChatGptClient chatGptClient;
+    private InMemoryAiMessageCache cache;
+    private HomeGreetingService homeGreetingService;
+
+    @BeforeEach
+    void setUp() {
+        chatGptClient = mock(ChatGptClient.class);
+        cache = new InMemoryAiMessageCache(100);
+        AiRequestCoalescer coalescer = new AiRequestCoalescer(
+                cache, Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofMillis(20));
+        homeGreetingService = new HomeGreetingService(chatGptClient, mock(EmotionRecordRepository.class),
+                mock(UserCharacterRepository.class), cache, coalescer);
+    }
+
+    @Test
+    void fallbackIsNotCachedAndNextRequestRetries() {
+        when(chatGptClient.generateCustomFeedbackAsync(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new AiCallException("OpenAI API 응답 오류: 500")))
+                .thenReturn(CompletableFuture.completedFuture("좋은 하루 보내요"));
+
+        HomeGreetingResponse failed = homeGreetingService.generateGreeting(1L).join();
+        HomeGreetingResponse retried = homeGreetingService.generateGreeting(1L).join();
+        HomeGreetingResponse cached = homeGreetingService.generateGreeting(1L).join();
+
+        assertThat(failed.getMessage()).isEqualTo("오늘 하루는 어땠어요?");
+        assertThat(retried.getMessage()).isEqualTo("좋은 하루 보내요");
+        assertThat(cached.getMessage()).isEqualTo("좋은 하루 보내요");
+        verify(chatGptClient, times(2)).generateCustomFeedbackAsync(anyString());
+    }
+}
@@ -0,0 +1,300 @@
+package likelion.harullala.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * EncryptionUtil 암복호화 검증
+ * 기존 텍스트 형식(Base64(IV|암호문))은 이전 구현(호출마다 Cipher/SecureRandom 생성)과 서로 읽을 수 있어야 함
+ */
+class EncryptionUtilTest {
+
+    private static final byte[] KEY_0 = keyBytes(0);
+    private static final String SECRET = Base64.getEncoder().encodeToString(KEY_0);
+    private static final String KEY_1 = "1=" + Base64.getEncoder().encodeToString(keyBytes(1));
+
+    private static final String DIARY = "오늘은 아침부터 비가 와서 기분이 가라앉았다. 그래도 점심에 친구랑 통화하고 나니 조금 나아졌다.";
+
+    /**
+     * 실제 기록과 비슷한 길이 분포의 한국어 일기 (짧은 한 줄 ~ 여러 문단)
+     */
+    private static final List<String> CORPUS = List.of(
+            "",
+            "좋음",
+            "오늘은 그냥 그랬다.",
+            DIARY,
+            "퇴근길에 지하철이 너무 붐벼서 한 정거장 먼저 내려 걸었다. 바람이 선선해서 좋았고, 이어폰으로 "
+                    + "좋아하는 노래를 들으니 하루 동안 쌓였던 짜증이 조금 풀렸다. 내일은 일찍 자야지. 🙂",
+            """
+                    아침에 눈을 떴는데 알람을 못 듣고 30분이나 늦잠을 잤다. 허겁지겁 준비해서 나갔지만 결국 회의에 5분 늦었다.
+                    팀장님은 괜찮다고 하셨지만 하루 종일 마음이 쓰였다.
+
+                    점심에는 동기들이랑 새로 생긴 국밥집에 갔다. 생각보다 맛있어서 기분이 조금 나아졌다.
+                    오후에는 발표 자료를 마무리하느라 정신이 없었는데, 다행히 발표는 무사히 끝났다.
+                    질문이 몇 개 나왔는데 준비한 내용이라 차분하게 대답할 수 있었다.
+
+                    저녁에는 엄마랑 통화를 했다. 요즘 무릎이 아프시다고 해서 걱정이 된다. 주말에 내려가 봐야겠다.
+                    오늘 하루를 돌아보면 시작은 엉망이었지만 끝은 나쁘지 않았다. 늦잠 때문에 자책하지 말고,
+                    내일은 알람을 두 개 맞춰 두자. 그리고 조금 더 일찍 자기. 오늘도 수고했어, 나.
+                    """,
+            "요즘 잠이 잘 안 온다. ".repeat(60));
+
+    private final EncryptionUtil encryptionUtil = encryptionUtil("", 0);
+
+    @Test
+    void legacyTextRoundTrip() {
+        String cipherText = encryptionUtil.encrypt(DIARY);
+
+        assertThat(encryptionUtil.decrypt(cipherText)).isEqualTo(DIARY);
+        assertThat(encryptionUtil.decrypt((String) null)).isNull();
+        assertThat(encryptionUtil.encrypt(null)).isNull();
+    }
+
+    @Test
+    void decryptsTextWrittenByPreviousImplementation() throws Exception {
+        String cipherText = previousEncrypt(DIARY);
+
+        assertThat(encryptionUtil.decrypt(cipherText)).isEqualTo(DIARY);
+        // 마이그레이션(toBinary) 후에도 같은 본문
+        assertThat(encryptionUtil.decrypt(encryptionUtil.toBinary(cipherText))).isEqualTo(DIARY);
+    }
+
+    @Test
+    void previousImplementationDecryptsNewText() throws Exception {
+        assertThat(previousDecrypt(encryptionUtil.encrypt(DIARY))).isEqualTo(DIARY);
+        assertThat(previousDecrypt(encryptionUtil.encrypt(""))).isEmpty();
+    }
+
+    @Test
+    void everyEncryptionUsesFreshIv() {
+        String first = encryptionUtil.encrypt(DIARY);
+        String second = encryptionUtil.encrypt(DIARY);
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(ivOf(first)).isNotEqualTo(ivOf(second));
+    }
+
+    @Test
+    void concurrentCallsShareOneInstanceSafely() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int threadNo = thread;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        String text = DIARY + " #" + threadNo + "-" + i;
+                        if (!text.equals(encryptionUtil.decrypt(encryptionUtil.encrypt(text)))
+                                || !text.equals(encryptionUtil.decrypt(encryptionUtil.encryptToBytes(text)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void tamperedCiphertextFailsToDecrypt() {
+        byte[] decoded = Base64.getDecoder().decode(encryptionUtil.encrypt(DIARY));
+        decoded[decoded.length - 1] ^= 1;
+
+        assertThatThrownBy(() -> encryptionUtil.decrypt(Base64.getEncoder().encodeToString(decoded)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Error decrypting data");
+    }
+
+    @Test
+    void binaryCiphertextAuthenticatesHeader() {
+        EncryptionUtil rotated = encryptionUtil(KEY_1, 1);
+        byte[] data = rotated.encryptToBytes(DIARY);
+
+        assertThat(data[0]).isEqualTo((byte) 4);
+        assertThat(data[1]).isEqualTo((byte) 1);
+        assertThat(rotated.decrypt(data)).isEqualTo(DIARY);
+
+        // 헤더만 바꾼 암호문(다른 형식, 다른 키 ID)은 모두 인증 실패
+        for (byte[] header : new byte[][] {{2, 1}, {5, 1}, {4, 0}}) {
+            byte[] tampered = data.clone();
+            tampered[0] = header[0];
+            tampered[1] = header[1];
+            assertThatThrownBy(() -> rotated.decrypt(tampered)).isInstanceOf(RuntimeException.class);
+        }
+    }
+
+    @Test
+    void readsUnauthenticatedHeaderFormatsAndUpgradesThem() {
+        EncryptionUtil previous = encryptionUtil(KEY_1, 1, false);
+        EncryptionUtil current = encryptionUtil(KEY_1, 1);
+        byte[] v2 = previous.encryptToBytes(DIARY);
+
+        assertThat(v2[0]).isEqualTo((byte) 2);
+        assertThat(current.decrypt(v2)).isEqualTo(DIARY);
+        // 헤더 인증을 쓰지 않는 동안에는 다시 암호화하지 않고, 켜면 v4로 다시 암호화
+        assertThat(previous.needsReencryption(v2)).isFalse();
+        assertThat(current.needsReencryption(v2)).isTrue();
+        assertThat(current.reencrypt(v2)[0]).isEqualTo((byte) 4);
+        // v4를 v2로 표시해도 인증 태그가 맞지 않아 읽지 못함 (인증 생략 불가)
+        byte[] downgraded = current.encryptToBytes(DIARY);
+        downgraded[0] = 2;
+        assertThatThrownBy(() -> current.decrypt(downgraded)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void keyRotationReencryptsUntilOnlyActiveKeyRemains() {
+        EncryptionUtil beforeRotation = encryptionUtil(KEY_1, 0);
+        EncryptionUtil afterRotation = encryptionUtil(KEY_1, 1);
+        byte[] oldKey = beforeRotation.encryptToBytes(DIARY);
+
+        assertThat(afterRotation.getReencryptionTarget()).isNotEqualTo(beforeRotation.getReencryptionTarget());
+        assertThat(afterRotation.needsReencryption(oldKey)).isTrue();
+        byte[] newKey = afterRotation.reencrypt(oldKey);
+        assertThat(newKey[1]).isEqualTo((byte) 1);
+        assertThat(afterRotation.needsReencryption(newKey)).isFalse();
+        assertThat(afterRotation.decrypt(newKey)).isEqualTo(DIARY);
+        // 이전 키를 제거한 인스턴스는 남은 이전 키 기록을 읽지 못함 → 확인 패스 완료 후에만 제거
+        assertThatThrownBy(() -> encryptionUtil("", 0).decrypt(newKey))
+                .hasMessageContaining("unknown key 1");
+    }
+
+    @Test
+    void everyStoredFormatRoundTripsOverCorpus() {
+        EncryptionUtil withoutHeaderAuthentication = encryptionUtil("", 0, false);
+
+        for (String text : CORPUS) {
+            // 기존 텍스트, v1 (텍스트를 바이너리로 옮긴 기록)
+            String legacyText = encryptionUtil.encrypt(text);
+            assertThat(encryptionUtil.decrypt(legacyText)).isEqualTo(text);
+            assertThat(encryptionUtil.decrypt(encryptionUtil.toBinary(legacyText))).isEqualTo(text);
+            assertThat(encryptionUtil.decrypt(null, legacyText)).isEqualTo(text);
+
+            // v2/v3 (헤더 인증 없음), v4/v5
+            byte[] unauthenticated = withoutHeaderAuthentication.encryptToBytes(text);
+            byte[] authenticated = encryptionUtil.encryptToBytes(text);
+            assertThat(unauthenticated[0]).isIn((byte) 2, (byte) 3);
+            assertThat(authenticated[0]).isIn((byte) 4, (byte) 5);
+            assertThat(encryptionUtil.decrypt(unauthenticated)).isEqualTo(text);
+            assertThat(encryptionUtil.decrypt(authenticated)).isEqualTo(text);
+            assertThat(encryptionUtil.decrypt(authenticated, "")).isEqualTo(text);
+        }
+    }
+
+    @Test
+    void onlyTextsAtOrAboveThresholdAreCompressed() {
+        // 한글 3바이트 x 170 = 510바이트
+        String base = "오늘은조용히쉬었다".repeat(19).substring(0, 170);
+        assertThat(base.getBytes(StandardCharsets.UTF_8)).hasSize(510);
+
+        String belowThreshold = base + "a"; // 511바이트
+        String atThreshold = base + "ab"; // 512바이트
+        byte[] below = encryptionUtil.encryptToBytes(belowThreshold);
+        byte[] at = encryptionUtil.encryptToBytes(atThreshold);
+
+        assertThat(below[0]).isEqualTo((byte) 4);
+        assertThat(at[0]).isEqualTo((byte) 5);
+        assertThat(at.length).isLessThan(below.length);
+        assertThat(encryptionUtil.decrypt(below)).isEqualTo(belowThreshold);
+        assertThat(encryptionUtil.decrypt(at)).isEqualTo(atThreshold);
+
+        // 압축을 끄면 길이와 무관하게 v4
+        assertThat(encryptionUtil("", 0, true, false, 512).encryptToBytes(atThreshold)[0]).isEqualTo((byte) 4);
+    }
+
+    @Test
+    void longDiaryEntriesShrinkWhenCompressed() {
+        EncryptionUtil uncompressed = encryptionUtil("", 0, true, false, 512);
+
+        for (String text : CORPUS) {
+            if (text.getBytes(StandardCharsets.UTF_8).length < 512) {
+                continue;
+            }
+            byte[] compressed = encryptionUtil.encryptToBytes(text);
+
+            assertThat(compressed[0]).isEqualTo((byte) 5);
+            assertThat(compressed.length).isLessThan(uncompressed.encryptToBytes(text).length);
+            assertThat(encryptionUtil.decrypt(compressed)).isEqualTo(text);
+        }
+    }
+
+    static EncryptionUtil encryptionUtil(String additionalKeys, int activeKeyId) {
+        return encryptionUtil(additionalKeys, activeKeyId, true);
+    }
+
+    static EncryptionUtil encryptionUtil(String additionalKeys, int activeKeyId, boolean headerAuthentication) {
+        return encryptionUtil(additionalKeys, activeKeyId, headerAuthentication, true, 512);
+    }
+
+    static EncryptionUtil encryptionUtil(String additionalKeys, int activeKeyId, boolean headerAuthentication,
+                                         boolean compressionEnabled, int compressionMinBytes) {
+        return new EncryptionUtil(SECRET, additionalKeys, activeKeyId, headerAuthentication,
+                compressionEnabled, compressionMinBytes, Runnable::run, 1, 32);
+    }
+
+    static byte[] keyBytes(int seed) {
+        byte[] key = new byte[32];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (byte) (seed * 31 + i);
+        }
+        return key;
+    }
+
+    private static byte[] ivOf(String cipherText) {
+        byte[] iv = new byte[12];
+        System.arraycopy(Base64.getDecoder().decode(cipherText), 0, iv, 0, iv.length);
+        return iv;
+    }
+
+    /**
+     * 이전 구현의 암호화 (호출마다 SecureRandom + Cipher 생성)
+     */
+    private static String previousEncrypt(String plainText) throws Exception {
+        byte[] iv = new byte[12];
+        new SecureRandom().nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY_0, "AES"), new GCMParameterSpec(128, iv));
+        byte[] cipherText = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+        ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
+        byteBuffer.put(iv);
+        byteBuffer.put(cipherText);
+        return Base64.getEncoder().encodeToString(byteBuffer.array());
+    }
+
+    /**
+     * 이전 구현의 복호화
+     */
+    private static String previousDecrypt(String cipherText) throws Exception {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(Base64.getDecoder().decode(cipherText));
+        byte[] iv = new byte[12];
+        byteBuffer.get(iv);
+        byte[] cipherBytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(cipherBytes);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(KEY_0, "AES"), new GCMParameterSpec(128, iv));
+        return new String(cipher.doFinal(cipherBytes), StandardCharsets.UTF_8);
+    }
+}
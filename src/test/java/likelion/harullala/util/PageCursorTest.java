@@ -0,0 +1,79 @@
+package likelion.harullala.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import likelion.harullala.exception.ApiException;
+
+/**
+ * 커서 문자열 변환 + 페이지 크기 검증
+ */
+class PageCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 3, 1, 21, 5, 30, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/"); // URL 파라미터로 그대로 전달 가능
+        assertThat(PageCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorsWithSameCreatedAtDifferOnlyById() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 21, 5, 30);
+        PageCursor first = new PageCursor(createdAt, 10L);
+        PageCursor second = new PageCursor(createdAt, 9L);
+
+        // 같은 시간에 작성된 항목도 ID로 구분되어 다음 페이지 위치가 달라짐
+        assertThat(first.encode()).isNotEqualTo(second.encode());
+        assertThat(PageCursor.decode(second.encode()).id()).isEqualTo(9L);
+        assertThat(PageCursor.decode(second.encode()).createdAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void missingCursorStartsFromFirstPage() {
+        assertThat(PageCursor.decode(null)).isEqualTo(PageCursor.FIRST);
+        assertThat(PageCursor.decode(" ")).isEqualTo(PageCursor.FIRST);
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        for (String cursor : new String[] {
+                "%%%",                                  // Base64url 아님
+                encode("2025-03-01T21:05:30"),          // 구분자 없음
+                encode("2025-03-01T21:05:30|abc"),      // ID가 숫자 아님
+                encode("어제|10"),                        // 시간 형식 아님
+                encode("|")}) {
+            assertThatThrownBy(() -> PageCursor.decode(cursor))
+                    .isInstanceOf(ApiException.class)
+                    .extracting("status")
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    void pageSizeMustBeWithinBounds() {
+        assertThat(PageCursor.pageOf(1).getPageSize()).isEqualTo(1);
+        assertThat(PageCursor.pageOf(PageCursor.MAX_SIZE).getPageSize()).isEqualTo(PageCursor.MAX_SIZE);
+
+        for (int size : new int[] {0, -1, PageCursor.MAX_SIZE + 1}) {
+            assertThatThrownBy(() -> PageCursor.pageOf(size))
+                    .isInstanceOf(ApiException.class)
+                    .extracting("status")
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}